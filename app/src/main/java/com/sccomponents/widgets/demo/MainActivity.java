@@ -1,16 +1,12 @@
 package com.sccomponents.widgets.demo;
 
 import android.graphics.Color;
-import android.graphics.Paint;
-import android.graphics.Rect;
 import android.os.Bundle;
 import android.support.v7.app.AppCompatActivity;
-import android.widget.TextView;
 
 import com.sccomponents.widgets.ScArc;
 import com.sccomponents.widgets.ScGauge;
-
-import java.text.Format;
+import com.sccomponents.widgets.ScValueLabel;
 
 
 public class MainActivity extends AppCompatActivity {
@@ -35,23 +31,17 @@ public class MainActivity extends AppCompatActivity {
                 Color.parseColor("#3FA8F9")
         );
 
+        // Show the value inside the gauge.
+        // The label is drawn by the gauge so not need a listener for update a text view.
+        ScValueLabel label = gauge.getValueLabel();
+        label.setRange(0, -40);
+        label.setTextColor(Color.parseColor("#333333"));
+        label.setTextSize(gauge.dipToPixel(32));
+        label.setVisible(true);
+
         // Set the value.
         gauge.setValue(-15, 0, -40);
 
-
-        // Event
-        gauge.setOnEventListener(new ScGauge.OnEventListener() {
-            @Override
-            public void onValueChange(float degrees) {
-                // Get the text control
-                TextView counter = (TextView) MainActivity.this.findViewById(R.id.counter);
-                assert counter != null;
-
-                // Set the value
-                counter.setText("" + (int) gauge.getValue(0, -40));
-            }
-        });
-
     }
 
 }
@@ -0,0 +1,82 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+/**
+ * A canvas that not draw and not call the Robolectric shadows.
+ * <p/>
+ * Override all the canvas methods called by the widgets frame so the allocation tests measure
+ * only the library code.
+ * v1.0.0
+ */
+class NullCanvas extends Canvas {
+
+    /**
+     * Status
+     */
+
+    @Override
+    public int save() {
+        return 0;
+    }
+
+    @Override
+    public void restore() {
+        // Nothing
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        // Nothing
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        // Nothing
+    }
+
+
+    /**
+     * Draw
+     */
+
+    @Override
+    public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter,
+                        Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawLines(float[] points, int offset, int count, Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawLines(float[] points, Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+        // Nothing
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        // Nothing
+    }
+
+}
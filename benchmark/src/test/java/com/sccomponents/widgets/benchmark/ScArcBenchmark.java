@@ -0,0 +1,60 @@
+package com.sccomponents.widgets.benchmark;
+
+import com.sccomponents.widgets.ScArc;
+
+import org.junit.Test;
+
+/**
+ * ScArc benchmarks.
+ * <p/>
+ * Measure the frame cost by filling mode, colors filling and colors count while the draw angle
+ * is animated, and the measure pass cost by sweep angle.
+ * v1.0.0
+ */
+public class ScArcBenchmark extends WidgetBenchmark {
+
+    @Test
+    public void draw() {
+        // Cycle all the cases
+        for (ScArc.FillingMode mode : ScArc.FillingMode.values()) {
+            for (ScArc.FillingColors filling : ScArc.FillingColors.values()) {
+                for (int colors : new int[]{0, 2, 6, 24}) {
+                    // Create the arc
+                    final ScArc arc = new ScArc(this.getContext());
+                    arc.setAngleStart(135);
+                    arc.setAngleSweep(270);
+                    arc.setStrokeSize(20);
+                    arc.setFillingMode(mode);
+                    arc.setFillingColors(filling);
+                    if (colors > 0) arc.setStrokeColors(WidgetBenchmark.createColors(colors));
+
+                    // Animate the draw angle
+                    WidgetBenchmark.runFrames(
+                            String.format("ScArc %s %s colors=%d", mode, filling, colors),
+                            arc,
+                            new Task() {
+                                @Override
+                                public void run(int index) {
+                                    arc.setAngleDraw(index % 270);
+                                }
+                            });
+                }
+            }
+        }
+    }
+
+    @Test
+    public void measure() {
+        // Cycle all the sweep angles
+        for (int sweep : new int[]{90, 180, 270, 360}) {
+            // Create the arc
+            ScArc arc = new ScArc(this.getContext());
+            arc.setAngleStart(135);
+            arc.setAngleSweep(sweep);
+
+            // Run
+            WidgetBenchmark.runMeasures(String.format("ScArc sweep=%d", sweep), arc);
+        }
+    }
+
+}
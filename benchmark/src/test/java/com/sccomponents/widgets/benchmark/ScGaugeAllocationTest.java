@@ -0,0 +1,144 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.content.Context;
+import android.graphics.Canvas;
+
+import com.sccomponents.widgets.ScGauge;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * ScGauge allocation tests.
+ * <p/>
+ * The gauge draw the frames on a canvas that not call the Robolectric shadows and the frames
+ * are drawn calling the gauge onDraw directly, so the View.draw shadow is skipped too.
+ * The bytes of N frames and of 2N frames must be the same: any allocation inside the frame
+ * path make the difference grow with the frames count.
+ * The JIT could allocate once while compiling, so the measure is repeated few times and
+ * at least one must have a zero difference. A frame that allocate fail all of them.
+ * v1.0.0
+ */
+public class ScGaugeAllocationTest extends WidgetBenchmark {
+
+    /**
+     * Constants
+     */
+
+    private static final int ATTEMPTS = 3;
+
+
+    /**
+     * Privates methods
+     */
+
+    // Create the gauge
+    private FramesGauge create() {
+        FramesGauge gauge = new FramesGauge(this.getContext());
+        gauge.setAngleStart(135);
+        gauge.setAngleSweep(270);
+        gauge.setStrokeSize(20);
+        gauge.setProgressSize(10);
+        gauge.setNotchs(10);
+        gauge.setAnimationDuration(0);
+        return gauge;
+    }
+
+    // Find the allocated bytes drawing the frames
+    private static long getFramesBytes(FramesGauge gauge, Canvas canvas, int frames) {
+        long bytes = WidgetBenchmark.getAllocatedBytes();
+        for (int index = 0; index < frames; index++) {
+            gauge.drawFrame(canvas);
+        }
+        return WidgetBenchmark.getAllocatedBytes() - bytes;
+    }
+
+    // Check that the steady state frames not allocate
+    private void checkFramesNotAllocate(String name, FramesGauge gauge) {
+        // Skip if the JVM not support the allocation counting
+        Assume.assumeTrue(WidgetBenchmark.getAllocatedBytes() >= 0);
+
+        // Set the value after the configuration, so the history have a value, and layout
+        gauge.setValue(40, 0, 100);
+        WidgetBenchmark.layout(gauge);
+        Canvas canvas = new NullCanvas();
+
+        // Warm up
+        ScGaugeAllocationTest.getFramesBytes(gauge, canvas, WidgetBenchmark.DEFAULT_ITERATIONS);
+
+        // Compare N and 2N frames
+        int frames = WidgetBenchmark.DEFAULT_ITERATIONS;
+        long single = 0;
+        long twice = 0;
+        for (int attempt = 0; attempt < ScGaugeAllocationTest.ATTEMPTS; attempt++) {
+            single = ScGaugeAllocationTest.getFramesBytes(gauge, canvas, frames);
+            twice = ScGaugeAllocationTest.getFramesBytes(gauge, canvas, frames * 2);
+            if (twice - single == 0) break;
+        }
+
+        // Check
+        String message = String.format("%s: %d frames %d bytes, %d frames %d bytes",
+                name, frames, single, frames * 2, twice);
+        System.out.println(message);
+        Assert.assertEquals(message, 0, twice - single);
+    }
+
+
+    /**
+     * Tests
+     */
+
+    @Test
+    public void defaultNotAllocate() {
+        this.checkFramesNotAllocate("ScGauge default", this.create());
+    }
+
+    @Test
+    public void gradientNotAllocate() {
+        FramesGauge gauge = this.create();
+        gauge.getProgressArcRenderer().setStrokeColors(WidgetBenchmark.createColors(3));
+        this.checkFramesNotAllocate("ScGauge gradient", gauge);
+    }
+
+    @Test
+    public void staticLayerNotAllocate() {
+        FramesGauge gauge = this.create();
+        gauge.setStaticLayerEnabled(true);
+        this.checkFramesNotAllocate("ScGauge static layer", gauge);
+    }
+
+    @Test
+    public void valueLabelNotAllocate() {
+        FramesGauge gauge = this.create();
+        gauge.getValueLabel().setVisible(true);
+        this.checkFramesNotAllocate("ScGauge value label", gauge);
+    }
+
+    @Test
+    public void historyNotAllocate() {
+        FramesGauge gauge = this.create();
+        gauge.setHistorySize(16);
+        this.checkFramesNotAllocate("ScGauge history", gauge);
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // A gauge that expose the onDraw method
+    private static class FramesGauge extends ScGauge {
+
+        public FramesGauge(Context context) {
+            super(context);
+        }
+
+        // Draw a frame without pass through the view draw
+        public void drawFrame(Canvas canvas) {
+            this.onDraw(canvas);
+        }
+
+    }
+
+}
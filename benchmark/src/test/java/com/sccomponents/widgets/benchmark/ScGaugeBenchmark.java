@@ -0,0 +1,242 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.graphics.Bitmap;
+import android.view.View;
+
+import com.sccomponents.widgets.ScArc;
+import com.sccomponents.widgets.ScGauge;
+import com.sccomponents.widgets.ScGaugeBitmapRenderer;
+
+import org.junit.Test;
+
+/**
+ * ScGauge benchmarks.
+ * <p/>
+ * Measure the frame cost while the progress is animated by notchs count, colors filling and
+ * canvas filling mode, the cost of a reconfiguration, the cost of the animation clock step and
+ * of the value listeners, the sprites cache, the values history, the value label and headless
+ * render costs and the measure pass cost.
+ * v1.0.0
+ */
+public class ScGaugeBenchmark extends WidgetBenchmark {
+
+    // Create the gauge
+    private ScGauge create(int notchs, ScArc.FillingMode mode, ScArc.FillingColors filling) {
+        ScGauge gauge = new ScGauge(this.getContext());
+        gauge.setAngleStart(135);
+        gauge.setAngleSweep(270);
+        gauge.setStrokeSize(20);
+        gauge.setProgressSize(10);
+        gauge.setNotchs(notchs);
+        gauge.setCanvasFilling(ScArc.FillingArea.BOTH, mode);
+        gauge.getBaseArc().setFillingColors(filling);
+        gauge.getBaseArc().setStrokeColors(WidgetBenchmark.createColors(4));
+        return gauge;
+    }
+
+    @Test
+    public void draw() {
+        // Cycle all the cases
+        for (ScArc.FillingMode mode : ScArc.FillingMode.values()) {
+            for (ScArc.FillingColors filling : ScArc.FillingColors.values()) {
+                for (int notchs : new int[]{0, 10, 100}) {
+                    // Animate the progress arc directly, the value animator not run inside the
+                    // test environment.
+                    final ScGauge gauge = this.create(notchs, mode, filling);
+                    WidgetBenchmark.runFrames(
+                            String.format("ScGauge %s %s notchs=%d", mode, filling, notchs),
+                            gauge,
+                            new Task() {
+                                @Override
+                                public void run(int index) {
+                                    gauge.getProgressArc().setAngleDraw(index % 270);
+                                }
+                            });
+                }
+            }
+        }
+    }
+
+    @Test
+    public void animate() {
+        // Create the gauges animated by the shared clock
+        final ScGauge[] gauges = new ScGauge[50];
+        for (int index = 0; index < gauges.length; index++) {
+            gauges[index] = this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            gauges[index].setAnimationDuration(1000);
+        }
+
+        // Step the gauges directly, the choreographer not run inside the test environment.
+        // A new value is settled every 60 frames.
+        WidgetBenchmark.run(
+                String.format("ScGauge animation clock gauges=%d", gauges.length),
+                new Task() {
+                    @Override
+                    public void run(int index) {
+                        for (ScGauge gauge : gauges) {
+                            if (index % 60 == 0) gauge.setValue(index % 120 == 0 ? 270 : 0);
+                            gauge.onAnimationFrame(System.nanoTime());
+                        }
+                    }
+                });
+    }
+
+    @Test
+    public void listeners() {
+        // A listener that do a little work for every call
+        final float[] sum = new float[1];
+        ScGauge.OnEventListener listener = new ScGauge.OnEventListener() {
+            @Override
+            public void onValueChange(float degrees) {
+                sum[0] += degrees;
+            }
+        };
+
+        // Compare the listeners called on every animation step and the filtered ones
+        for (final boolean filtered : new boolean[]{false, true}) {
+            final ScGauge gauge =
+                    this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            gauge.setAnimationDuration(1000);
+            for (int count = 0; count < 8; count++) {
+                if (filtered)
+                    gauge.addOnEventListener(listener, 100, 5.0f, count % 2 == 0);
+                else
+                    gauge.addOnEventListener(listener);
+            }
+
+            // Step the gauge directly, a new value is settled every 60 frames
+            WidgetBenchmark.run(
+                    String.format("ScGauge listeners=8 filtered=%b", filtered),
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            if (index % 60 == 0) gauge.setValue(index % 120 == 0 ? 270 : 0);
+                            gauge.onAnimationFrame(System.nanoTime());
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void sprites() {
+        // Compare the live drawing and the sprites cache of a gauge that snap to notchs
+        for (boolean cache : new boolean[]{false, true}) {
+            final ScGauge gauge =
+                    this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            gauge.setSnapToNotchs(true);
+            gauge.setSpriteCacheEnabled(cache);
+            WidgetBenchmark.runFrames(
+                    String.format("ScGauge snap to notchs sprites=%b", cache),
+                    gauge,
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            gauge.setValue((index % 11) * 27);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void history() {
+        // Compare the frame cost without and with the recent values history
+        for (int size : new int[]{0, 60, 600}) {
+            final ScGauge gauge =
+                    this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            gauge.setHistorySize(size);
+            WidgetBenchmark.runFrames(
+                    String.format("ScGauge history=%d", size),
+                    gauge,
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            gauge.setValue((index * 7) % 270);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void label() {
+        // Compare the frame cost without and with the value label
+        for (boolean visible : new boolean[]{false, true}) {
+            final ScGauge gauge =
+                    this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            gauge.getValueLabel().setPrecision(1);
+            gauge.getValueLabel().setSuffix(" km/h");
+            gauge.getValueLabel().setVisible(visible);
+            WidgetBenchmark.runFrames(
+                    String.format("ScGauge label=%b", visible),
+                    gauge,
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            gauge.setValue((index * 7) % 270);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void headless() {
+        // Render the gauge inside a bitmap without the view
+        final ScGaugeBitmapRenderer renderer = new ScGaugeBitmapRenderer(this.getContext());
+        renderer.setConfiguration(
+                this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT));
+        final Bitmap bitmap = Bitmap.createBitmap(
+                WidgetBenchmark.DEFAULT_SIZE, WidgetBenchmark.DEFAULT_SIZE, Bitmap.Config.ARGB_8888);
+
+        WidgetBenchmark.run(
+                "ScGaugeBitmapRenderer render",
+                new Task() {
+                    @Override
+                    public void run(int index) {
+                        renderer.render(bitmap, index % 270);
+                    }
+                });
+    }
+
+    @Test
+    public void reconfigure() {
+        // Compare the settings applied one by one and inside an update transaction
+        for (final boolean transaction : new boolean[]{false, true}) {
+            final ScGauge gauge =
+                    this.create(10, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT);
+            WidgetBenchmark.layout(gauge);
+            final int spec = View.MeasureSpec.makeMeasureSpec(
+                    WidgetBenchmark.DEFAULT_SIZE, View.MeasureSpec.EXACTLY);
+
+            WidgetBenchmark.run(
+                    String.format("ScGauge reconfigure transaction=%b", transaction),
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            // Change the settings
+                            int step = index % 2;
+                            if (transaction) gauge.beginUpdate();
+                            gauge.setAngleStart(135 + step);
+                            gauge.setAngleSweep(270 - step);
+                            gauge.setStrokeSize(20 + step);
+                            gauge.setProgressSize(10 + step);
+                            gauge.setNotchs(10 + step);
+                            gauge.setNotchsLength(15 + step);
+                            if (transaction) gauge.endUpdate();
+
+                            // Measure if requested
+                            if (gauge.isLayoutRequested()) gauge.measure(spec, spec);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void measure() {
+        // Cycle all the counts
+        for (int notchs : new int[]{0, 100}) {
+            WidgetBenchmark.runMeasures(
+                    String.format("ScGauge notchs=%d", notchs),
+                    this.create(notchs, ScArc.FillingMode.DRAW, ScArc.FillingColors.GRADIENT));
+        }
+    }
+
+}
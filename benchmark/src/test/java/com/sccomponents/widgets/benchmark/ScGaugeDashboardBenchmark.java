@@ -0,0 +1,90 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+
+import com.sccomponents.widgets.ScGauge;
+import com.sccomponents.widgets.ScGaugeDashboard;
+
+import org.junit.Test;
+
+/**
+ * ScGaugeDashboard benchmarks.
+ * <p/>
+ * Measure the frame cost of a dashboard by gauges count, compared with the same number of gauge
+ * views drawn one by one.
+ * v1.0.0
+ */
+public class ScGaugeDashboardBenchmark extends WidgetBenchmark {
+
+    // Create the dashboard
+    private ScGaugeDashboard create(int count) {
+        ScGaugeDashboard dashboard = new ScGaugeDashboard(this.getContext());
+        dashboard.setColumns((int) Math.ceil(Math.sqrt(count)));
+
+        // Two styles, one with a gradient
+        int solid = dashboard.addStyle(10, WidgetBenchmark.PALETTE[0], WidgetBenchmark.PALETTE[1]);
+        int gradient = dashboard.addStyle(10, WidgetBenchmark.PALETTE[0],
+                WidgetBenchmark.createColors(4));
+
+        // Gauges
+        for (int index = 0; index < count; index++) {
+            dashboard.addGauge(135, 270, index % 2 == 0 ? solid : gradient);
+        }
+        return dashboard;
+    }
+
+    @Test
+    public void draw() {
+        // Cycle all the counts
+        for (final int count : new int[]{16, 64, 256}) {
+            final ScGaugeDashboard dashboard = this.create(count);
+            WidgetBenchmark.runFrames(
+                    String.format("ScGaugeDashboard gauges=%d", count),
+                    dashboard,
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            for (int gauge = 0; gauge < count; gauge++) {
+                                dashboard.setValue(gauge, (index + gauge) % 270);
+                            }
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void views() {
+        // The same gauges drawn as views for comparison
+        for (final int count : new int[]{16, 64}) {
+            final ScGauge[] gauges = new ScGauge[count];
+            for (int index = 0; index < count; index++) {
+                gauges[index] = new ScGauge(this.getContext());
+                gauges[index].setAngleStart(135);
+                gauges[index].setAngleSweep(270);
+                gauges[index].setStrokeSize(10);
+                gauges[index].setProgressSize(10);
+                WidgetBenchmark.layout(gauges[index]);
+            }
+
+            // All the gauges are drawn on the same canvas
+            Bitmap bitmap = Bitmap.createBitmap(
+                    WidgetBenchmark.DEFAULT_SIZE, WidgetBenchmark.DEFAULT_SIZE,
+                    Bitmap.Config.ARGB_8888);
+            final Canvas canvas = new Canvas(bitmap);
+            WidgetBenchmark.run(
+                    String.format("ScGauge views=%d frame", count),
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            for (int gauge = 0; gauge < count; gauge++) {
+                                gauges[gauge].setValue((index + gauge) % 270);
+                                gauges[gauge].draw(canvas);
+                            }
+                        }
+                    });
+            bitmap.recycle();
+        }
+    }
+
+}
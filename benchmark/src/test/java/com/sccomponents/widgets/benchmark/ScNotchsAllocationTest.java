@@ -0,0 +1,114 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.graphics.Canvas;
+
+import com.sccomponents.widgets.ScArc;
+import com.sccomponents.widgets.ScNotchs;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * ScNotchs allocation tests.
+ * <p/>
+ * Robolectric dispatch every call to a shadowed class by reflection and this allocate, so the
+ * bytes allocated by a frame are never zero inside the sandbox.
+ * For this reason the tests draw on a canvas that not call the shadows and compare the frames
+ * of few notchs with the frames of many notchs: the shadows work is the same and the difference
+ * is only the library per notch path, that must not allocate.
+ * The geometry module test prove that the maths of a steady state frame allocate zero bytes.
+ * v1.0.0
+ */
+public class ScNotchsAllocationTest extends WidgetBenchmark {
+
+    /**
+     * Constants
+     */
+
+    private static final int FEW_NOTCHS = 10;
+    private static final int MANY_NOTCHS = 1000;
+
+
+    /**
+     * Privates methods
+     */
+
+    // Create the notchs object
+    private ScNotchs create(int count, ScArc.StrokeTypes type, boolean listener) {
+        ScNotchs notchs = new ScNotchs(this.getContext());
+        notchs.setAngleStart(135);
+        notchs.setAngleSweep(270);
+        notchs.setNotchs(count);
+        notchs.setNotchsLength(30);
+        notchs.setStrokeType(type);
+
+        // A listener that leave all notchs unchanged
+        if (listener) {
+            notchs.setOnDrawListener(new ScNotchs.OnDrawListener() {
+                @Override
+                public void onDrawNotch(ScNotchs.NotchInfo info) {
+                    // Nothing
+                }
+            });
+        }
+        return notchs;
+    }
+
+    // Find the allocated bytes of the steady state frames
+    private long getFramesBytes(int count, ScArc.StrokeTypes type, boolean listener) {
+        // Create and layout
+        ScNotchs notchs = this.create(count, type, listener);
+        WidgetBenchmark.layout(notchs);
+        Canvas canvas = new NullCanvas();
+
+        // Warm up
+        for (int index = 0; index < WidgetBenchmark.DEFAULT_WARMUP; index++) {
+            notchs.draw(canvas);
+        }
+
+        // Count
+        long bytes = WidgetBenchmark.getAllocatedBytes();
+        for (int index = 0; index < WidgetBenchmark.DEFAULT_ITERATIONS; index++) {
+            notchs.draw(canvas);
+        }
+        return WidgetBenchmark.getAllocatedBytes() - bytes;
+    }
+
+    // Check that the notchs count not change the allocated bytes
+    private void checkNotchsNotAllocate(ScArc.StrokeTypes type, boolean listener) {
+        // Skip if the JVM not support the allocation counting
+        Assume.assumeTrue(WidgetBenchmark.getAllocatedBytes() >= 0);
+
+        long few = this.getFramesBytes(ScNotchsAllocationTest.FEW_NOTCHS, type, listener);
+        long many = this.getFramesBytes(ScNotchsAllocationTest.MANY_NOTCHS, type, listener);
+
+        // Less of one byte for frame
+        String message = String.format("%s listener=%b: %d notchs %d bytes, %d notchs %d bytes",
+                type, listener,
+                ScNotchsAllocationTest.FEW_NOTCHS, few, ScNotchsAllocationTest.MANY_NOTCHS, many);
+        System.out.println(message);
+        Assert.assertTrue(message, many - few < WidgetBenchmark.DEFAULT_ITERATIONS);
+    }
+
+
+    /**
+     * Tests
+     */
+
+    @Test
+    public void linesNotAllocate() {
+        this.checkNotchsNotAllocate(ScArc.StrokeTypes.LINE, false);
+    }
+
+    @Test
+    public void linesWithListenerNotAllocate() {
+        this.checkNotchsNotAllocate(ScArc.StrokeTypes.LINE, true);
+    }
+
+    @Test
+    public void circlesNotAllocate() {
+        this.checkNotchsNotAllocate(ScArc.StrokeTypes.CLOSED_ARC, false);
+    }
+
+}
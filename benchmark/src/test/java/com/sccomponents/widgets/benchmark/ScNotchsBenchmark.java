@@ -0,0 +1,83 @@
+package com.sccomponents.widgets.benchmark;
+
+import com.sccomponents.widgets.ScArc;
+import com.sccomponents.widgets.ScNotchs;
+import com.sccomponents.widgets.ScTrigTable;
+
+import org.junit.Test;
+
+/**
+ * ScNotchs benchmarks.
+ * <p/>
+ * Measure the frame cost by notchs count and notchs type, with and without a draw listener that
+ * change some notchs, and with and without the trigonometry table.
+ * v1.0.0
+ */
+public class ScNotchsBenchmark extends WidgetBenchmark {
+
+    // Create the notchs object
+    private ScNotchs create(int count, ScArc.StrokeTypes type) {
+        ScNotchs notchs = new ScNotchs(this.getContext());
+        notchs.setAngleStart(135);
+        notchs.setAngleSweep(270);
+        notchs.setNotchs(count);
+        notchs.setNotchsLength(30);
+        notchs.setStrokeType(type);
+        return notchs;
+    }
+
+    @Test
+    public void draw() {
+        // Cycle all the cases
+        for (ScArc.StrokeTypes type : ScArc.StrokeTypes.values()) {
+            for (int count : new int[]{10, 50, 200, 1000}) {
+                // Without listener
+                WidgetBenchmark.runFrames(
+                        String.format("ScNotchs %s notchs=%d", type, count),
+                        this.create(count, type),
+                        null);
+
+                // With a listener that change the color of one notch every ten
+                ScNotchs notchs = this.create(count, type);
+                notchs.setOnDrawListener(new ScNotchs.OnDrawListener() {
+                    @Override
+                    public void onDrawNotch(ScNotchs.NotchInfo info) {
+                        if (info.index % 10 == 0) info.color = WidgetBenchmark.PALETTE[0];
+                    }
+                });
+                WidgetBenchmark.runFrames(
+                        String.format("ScNotchs %s notchs=%d listener", type, count),
+                        notchs,
+                        null);
+            }
+        }
+    }
+
+    @Test
+    public void drawWithTrigTable() {
+        // Cycle all the cases.
+        // The lines are precomputed so use the circles that find the points on every frame.
+        for (ScTrigTable table : new ScTrigTable[]{null, ScTrigTable.getDefault()}) {
+            for (int count : new int[]{50, 200, 1000}) {
+                ScNotchs notchs = this.create(count, ScArc.StrokeTypes.CLOSED_ARC);
+                notchs.setTrigTable(table);
+                WidgetBenchmark.runFrames(
+                        String.format("ScNotchs notchs=%d %s",
+                                count, table != null ? "table" : "math"),
+                        notchs,
+                        null);
+            }
+        }
+    }
+
+    @Test
+    public void measure() {
+        // Cycle all the counts
+        for (int count : new int[]{10, 200, 1000}) {
+            WidgetBenchmark.runMeasures(
+                    String.format("ScNotchs notchs=%d", count),
+                    this.create(count, ScArc.StrokeTypes.LINE));
+        }
+    }
+
+}
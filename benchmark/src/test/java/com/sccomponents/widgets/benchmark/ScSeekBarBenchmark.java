@@ -0,0 +1,73 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import com.sccomponents.widgets.ScSeekBar;
+
+import org.junit.Test;
+
+/**
+ * ScSeekBar benchmarks.
+ * <p/>
+ * Measure the frame cost with the pointer and the cost of a touch move event.
+ * v1.0.0
+ */
+public class ScSeekBarBenchmark extends WidgetBenchmark {
+
+    // Create the seek bar
+    private ScSeekBar create(int notchs) {
+        ScSeekBar seekBar = new ScSeekBar(this.getContext());
+        seekBar.setAngleStart(135);
+        seekBar.setAngleSweep(270);
+        seekBar.setStrokeSize(20);
+        seekBar.setNotchs(notchs);
+        seekBar.setPointerRadius(15);
+        return seekBar;
+    }
+
+    @Test
+    public void draw() {
+        // Cycle all the counts
+        for (int notchs : new int[]{0, 100}) {
+            final ScSeekBar seekBar = this.create(notchs);
+            WidgetBenchmark.runFrames(
+                    String.format("ScSeekBar notchs=%d", notchs),
+                    seekBar,
+                    new Task() {
+                        @Override
+                        public void run(int index) {
+                            seekBar.getProgressArc().setAngleDraw(index % 270);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void touch() {
+        // Create and layout the seek bar
+        final ScSeekBar seekBar = this.create(0);
+        WidgetBenchmark.layout(seekBar);
+
+        // Create the events before the measure for not count them
+        long time = SystemClock.uptimeMillis();
+        final MotionEvent[] events = new MotionEvent[360];
+        for (int index = 0; index < events.length; index++) {
+            double radians = Math.toRadians(index);
+            float x = (float) (WidgetBenchmark.DEFAULT_SIZE / 2 * (1 + Math.cos(radians)));
+            float y = (float) (WidgetBenchmark.DEFAULT_SIZE / 2 * (1 + Math.sin(radians)));
+            events[index] = MotionEvent.obtain(time, time, MotionEvent.ACTION_MOVE, x, y, 0);
+        }
+
+        // Press and move
+        seekBar.onTouchEvent(MotionEvent.obtain(
+                time, time, MotionEvent.ACTION_DOWN, events[0].getX(), events[0].getY(), 0));
+        WidgetBenchmark.run("ScSeekBar touch move", new Task() {
+            @Override
+            public void run(int index) {
+                seekBar.onTouchEvent(events[index % events.length]);
+            }
+        });
+    }
+
+}
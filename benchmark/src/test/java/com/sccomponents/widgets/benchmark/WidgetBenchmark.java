@@ -0,0 +1,169 @@
+package com.sccomponents.widgets.benchmark;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The base class of the widgets benchmarks.
+ * <p/>
+ * Draw the widgets on a canvas backed by a bitmap and measure the time and the allocated bytes
+ * per frame and per measure pass.
+ * The widgets run inside the Robolectric 3.0 sandbox where Canvas, Bitmap and Paint are shadows
+ * that not draw any pixel: the rasterization cost is not measured at all and every call to a
+ * shadow is dispatched by reflection, that take time and allocate.
+ * So the ns/op and the bytes are the library code plus the Robolectric bookkeeping. The bytes
+ * are not the allocations of a frame on a device and must be used only to find a change between
+ * two versions of the library.
+ * The allocation tests and the geometry module measure the library code without the shadows.
+ * The results are printed on the standard output, one line for each case.
+ * v1.0.0
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public abstract class WidgetBenchmark {
+
+    /**
+     * Constants
+     */
+
+    public static final int DEFAULT_SIZE = 500;
+    public static final int DEFAULT_WARMUP = 200;
+    public static final int DEFAULT_ITERATIONS = 2000;
+
+    public static final int[] PALETTE = new int[]{
+            Color.RED, Color.YELLOW, Color.GREEN, Color.CYAN, Color.BLUE, Color.MAGENTA
+    };
+
+
+    /**
+     * Protected methods
+     */
+
+    // Get the allocated bytes by the current thread.
+    // Return -1 if the JVM not support the allocation counting.
+    protected static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    // Get the application context
+    protected Context getContext() {
+        return RuntimeEnvironment.application;
+    }
+
+    // Create a colors array of the passed length
+    protected static int[] createColors(int count) {
+        int[] colors = new int[count];
+        for (int index = 0; index < count; index++) {
+            colors[index] = WidgetBenchmark.PALETTE[index % WidgetBenchmark.PALETTE.length];
+        }
+        return colors;
+    }
+
+    // Measure and layout the view with the default size
+    protected static void layout(View view) {
+        // Apply the layout params
+        view.setLayoutParams(new ViewGroup.LayoutParams(
+                WidgetBenchmark.DEFAULT_SIZE, WidgetBenchmark.DEFAULT_SIZE));
+
+        // Measure and layout
+        int spec = View.MeasureSpec.makeMeasureSpec(
+                WidgetBenchmark.DEFAULT_SIZE, View.MeasureSpec.EXACTLY);
+        view.measure(spec, spec);
+        view.layout(0, 0, view.getMeasuredWidth(), view.getMeasuredHeight());
+    }
+
+    // Run the task and print the time and the allocated bytes for each call.
+    // The bytes include the Robolectric shadows allocations.
+    protected static void run(String name, Task task) {
+        // Warm up
+        for (int index = 0; index < WidgetBenchmark.DEFAULT_WARMUP; index++) {
+            task.run(index);
+        }
+
+        // Measure
+        long bytes = WidgetBenchmark.getAllocatedBytes();
+        long time = System.nanoTime();
+        for (int index = 0; index < WidgetBenchmark.DEFAULT_ITERATIONS; index++) {
+            task.run(index);
+        }
+        time = System.nanoTime() - time;
+        bytes = WidgetBenchmark.getAllocatedBytes() - bytes;
+
+        // Print the result
+        System.out.println(String.format(
+                "%-64s %12.0f ns/op %12.1f B/op (with shadows)",
+                name,
+                (double) time / WidgetBenchmark.DEFAULT_ITERATIONS,
+                (double) bytes / WidgetBenchmark.DEFAULT_ITERATIONS
+        ));
+    }
+
+    // Measure the draw of the view on a software canvas.
+    // Before each frame the animation task is called for change the view status.
+    protected static void runFrames(String name, final View view, final Task animation) {
+        // Layout the view and create the canvas
+        WidgetBenchmark.layout(view);
+        Bitmap bitmap = Bitmap.createBitmap(
+                view.getMeasuredWidth(), view.getMeasuredHeight(), Bitmap.Config.ARGB_8888);
+        final Canvas canvas = new Canvas(bitmap);
+
+        // Run
+        WidgetBenchmark.run(name + " frame", new Task() {
+            @Override
+            public void run(int index) {
+                if (animation != null) animation.run(index);
+                view.draw(canvas);
+            }
+        });
+
+        // Free
+        bitmap.recycle();
+    }
+
+    // Measure the measure pass of the view
+    protected static void runMeasures(String name, final View view) {
+        // Layout the view the first time
+        WidgetBenchmark.layout(view);
+        final int spec = View.MeasureSpec.makeMeasureSpec(
+                WidgetBenchmark.DEFAULT_SIZE, View.MeasureSpec.EXACTLY);
+
+        // Run forcing the layout every time
+        WidgetBenchmark.run(name + " measure", new Task() {
+            @Override
+            public void run(int index) {
+                view.forceLayout();
+                view.measure(spec, spec);
+            }
+        });
+    }
+
+
+    /**
+     * Public interface
+     */
+
+    // The benchmarked task
+    public interface Task {
+
+        void run(int index);
+
+    }
+
+}
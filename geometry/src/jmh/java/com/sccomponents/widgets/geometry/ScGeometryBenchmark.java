@@ -0,0 +1,136 @@
+package com.sccomponents.widgets.geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScGeometry benchmarks.
+ * <p/>
+ * Measure the cost of the geometry maths used on every measure, draw and touch event.
+ * Every invocation cycle all the prepared inputs so the results are the average of a batch.
+ * v1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScGeometryBenchmark {
+
+    /**
+     * Constants
+     */
+
+    private static final int INPUTS_COUNT = 360;
+
+
+    /**
+     * Private variables
+     */
+
+    private float[] mAngles;
+    private float[] mXs;
+    private float[] mYs;
+
+    private float[] mCanvasArea;
+    private float[] mTrimmedArea;
+    private float[] mArea;
+    private int[] mPoint;
+
+
+    /**
+     * Setup
+     */
+
+    @Setup
+    public void setup() {
+        // Angles and the relative points on a circle of 200px centered in 200, 200
+        this.mAngles = new float[ScGeometryBenchmark.INPUTS_COUNT];
+        this.mXs = new float[ScGeometryBenchmark.INPUTS_COUNT];
+        this.mYs = new float[ScGeometryBenchmark.INPUTS_COUNT];
+        for (int index = 0; index < ScGeometryBenchmark.INPUTS_COUNT; index++) {
+            double radians = Math.toRadians(index);
+            this.mAngles[index] = index - 180.0f;
+            this.mXs[index] = (float) (200 + 200 * Math.cos(radians));
+            this.mYs[index] = (float) (200 + 200 * Math.sin(radians));
+        }
+
+        // Areas
+        this.mCanvasArea = ScGeometry.setArea(10.0f, 10.0f, 390.0f, 390.0f, new float[4]);
+        this.mTrimmedArea = ScGeometry.calcTrimmedArea(135.0f, 270.0f, new float[4]);
+        this.mArea = new float[4];
+        this.mPoint = new int[2];
+    }
+
+
+    /**
+     * Benchmarks
+     */
+
+    @Benchmark
+    public void angleRangeLimit(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            blackhole.consume(ScGeometry.angleRangeLimit(angle, -90.0f, 180.0f));
+        }
+    }
+
+    @Benchmark
+    public void snapToNotchs(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            blackhole.consume(ScGeometry.snapToNotchs(angle, 270.0f, 27));
+        }
+    }
+
+    @Benchmark
+    public void translateValueToAngle(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            blackhole.consume(ScGeometry.translateValueToAngle(angle, 270.0f, -100.0f, 100.0f));
+        }
+    }
+
+    @Benchmark
+    public void getPointFromAngle(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            ScGeometry.getPointFromAngle(angle, 200.0f, 200.0f, 190.0f, 190.0f, this.mPoint);
+            blackhole.consume(this.mPoint[ScGeometry.X]);
+        }
+    }
+
+    @Benchmark
+    public void getAngleFromPoint(Blackhole blackhole) {
+        for (int index = 0; index < ScGeometryBenchmark.INPUTS_COUNT; index++) {
+            blackhole.consume(ScGeometry.getAngleFromPoint(
+                    this.mXs[index], this.mYs[index],
+                    200.0f, 200.0f, 190.0f, 190.0f,
+                    135.0f, 270.0f
+            ));
+        }
+    }
+
+    @Benchmark
+    public void calcTrimmedArea(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            ScGeometry.calcTrimmedArea(angle, 270.0f, this.mArea);
+            blackhole.consume(this.mArea[ScGeometry.LEFT]);
+        }
+    }
+
+    @Benchmark
+    public void calcDrawingArea(Blackhole blackhole) {
+        for (int index = 0; index < ScGeometryBenchmark.INPUTS_COUNT; index++) {
+            ScGeometry.calcDrawingArea(
+                    this.mCanvasArea, this.mTrimmedArea,
+                    10.0f, 10.0f, index % 2 == 0, index % 3 == 0,
+                    this.mArea
+            );
+            blackhole.consume(this.mArea[ScGeometry.LEFT]);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.sccomponents.widgets.geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trigonometry table benchmarks.
+ * <p/>
+ * Compare the points of the notchs found with the trigonometry table and with the Math methods.
+ * Every invocation find the start and the end point of all the notchs on a 270° arc, as the
+ * notchs rendering do on every frame.
+ * v1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScTrigTableBenchmark {
+
+    /**
+     * Constants
+     */
+
+    private static final float ANGLE_START = 135.0f;
+    private static final float ANGLE_SWEEP = 270.0f;
+
+    private static final float CENTER = 250.0f;
+    private static final float RADIUS = 240.0f;
+    private static final float NOTCHS_LENGTH = 30.0f;
+
+
+    /**
+     * Parameters
+     */
+
+    @Param({"50", "200", "1000"})
+    public int notchs;
+
+
+    /**
+     * Private variables
+     */
+
+    private ScTrigTable mTable;
+    private int[] mStartPoint;
+    private int[] mEndPoint;
+
+
+    /**
+     * Setup
+     */
+
+    @Setup
+    public void setup() {
+        this.mTable = new ScTrigTable();
+        this.mStartPoint = new int[2];
+        this.mEndPoint = new int[2];
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Find the points of all the notchs
+    private void drawNotchs(ScTrigTable table, Blackhole blackhole) {
+        float delta = ScTrigTableBenchmark.ANGLE_SWEEP / this.notchs;
+        float inner = ScTrigTableBenchmark.RADIUS - ScTrigTableBenchmark.NOTCHS_LENGTH;
+
+        for (int index = 0; index <= this.notchs; index++) {
+            float angle = ScTrigTableBenchmark.ANGLE_START + index * delta;
+
+            // The start and the end point of the notch
+            ScGeometry.getPointFromAngle(angle,
+                    ScTrigTableBenchmark.CENTER, ScTrigTableBenchmark.CENTER, inner, inner,
+                    table, this.mStartPoint);
+            ScGeometry.getPointFromAngle(angle,
+                    ScTrigTableBenchmark.CENTER, ScTrigTableBenchmark.CENTER,
+                    ScTrigTableBenchmark.RADIUS, ScTrigTableBenchmark.RADIUS,
+                    table, this.mEndPoint);
+
+            blackhole.consume(this.mStartPoint[ScGeometry.X] + this.mEndPoint[ScGeometry.Y]);
+        }
+    }
+
+
+    /**
+     * Benchmarks
+     */
+
+    @Benchmark
+    public void math(Blackhole blackhole) {
+        this.drawNotchs(null, blackhole);
+    }
+
+    @Benchmark
+    public void table(Blackhole blackhole) {
+        this.drawNotchs(this.mTable, blackhole);
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.sccomponents.widgets.geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trimmed area benchmarks.
+ * <p/>
+ * Compare the closed form of the trimmed area with the old sampling of the arc every 0.01
+ * radians.
+ * The sampling cost grows with the sweep angle so the benchmarks run on many sweeps.
+ * Every invocation cycle all the start angles so the results are the average of a batch.
+ * v1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScTrimmedAreaBenchmark {
+
+    /**
+     * Constants
+     */
+
+    private static final int INPUTS_COUNT = 36;
+
+
+    /**
+     * Parameters
+     */
+
+    @Param({"45", "180", "270", "360"})
+    public float sweepAngle;
+
+
+    /**
+     * Private variables
+     */
+
+    private float[] mAngles;
+    private float[] mArea;
+
+
+    /**
+     * Setup
+     */
+
+    @Setup
+    public void setup() {
+        // Start angles around the circle
+        this.mAngles = new float[ScTrimmedAreaBenchmark.INPUTS_COUNT];
+        for (int index = 0; index < ScTrimmedAreaBenchmark.INPUTS_COUNT; index++) {
+            this.mAngles[index] = index * 10.0f - 180.0f;
+        }
+        this.mArea = new float[4];
+    }
+
+
+    /**
+     * Benchmarks
+     */
+
+    @Benchmark
+    public void closedForm(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            ScGeometry.calcTrimmedArea(angle, this.sweepAngle, this.mArea);
+            blackhole.consume(this.mArea[ScGeometry.LEFT]);
+        }
+    }
+
+    @Benchmark
+    public void sampling(Blackhole blackhole) {
+        for (float angle : this.mAngles) {
+            ScTrimmedAreaSampling.calcTrimmedArea(angle, this.sweepAngle, this.mArea);
+            blackhole.consume(this.mArea[ScGeometry.LEFT]);
+        }
+    }
+
+}
@@ -0,0 +1,401 @@
+package com.sccomponents.widgets.geometry;
+
+/**
+ * The geometry core of the widgets.
+ * <p/>
+ * Contain the angles and the areas maths used by the widgets without any dependency from the
+ * Android framework, so can be benchmarked and tested on a plain JVM.
+ * All the methods are static and use only primitive values: the areas are float arrays of four
+ * elements (left, top, right, bottom) and the points are int arrays of two elements (x, y).
+ * The methods that return an area or a point write the result inside the passed destination
+ * and not allocate objects.
+ * v1.0.0
+ */
+public class ScGeometry {
+
+    /**
+     * Constants
+     */
+
+    public static final float ANGLE_MAX = 360.0f;
+
+    // Areas indexes
+    public static final int LEFT = 0;
+    public static final int TOP = 1;
+    public static final int RIGHT = 2;
+    public static final int BOTTOM = 3;
+
+    // Points indexes
+    public static final int X = 0;
+    public static final int Y = 1;
+
+
+    /**
+     * Constructors
+     */
+
+    private ScGeometry() {
+    }
+
+
+    /**
+     * Range methods
+     */
+
+    // Limit number within a values range.
+    // This method not consider the sign and the upper and lower values limit order.
+    @SuppressWarnings("unused")
+    public static float valueRangeLimit(float value, float startValue, float endValue) {
+        // If is over the limit return the normalized value
+        if (value < Math.min(startValue, endValue)) return Math.min(startValue, endValue);
+        if (value > Math.max(startValue, endValue)) return Math.max(startValue, endValue);
+        // Else return the original value
+        return value;
+    }
+
+    @SuppressWarnings("unused")
+    public static int valueRangeLimit(int value, int startValue, int endValue) {
+        return (int) ScGeometry.valueRangeLimit((float) value, (float) startValue, (float) endValue);
+    }
+
+    // Check if number is within a values range.
+    // This method not consider the sign and the upper and lower values limit order.
+    @SuppressWarnings("unused")
+    public static boolean withinRange(float value, float startValue, float endValue) {
+        return value == ScGeometry.valueRangeLimit(value, startValue, endValue);
+    }
+
+    // Find the max given a series of values
+    @SuppressWarnings("unused")
+    public static float findMaxValue(float... values) {
+        // Check for null values
+        if (values == null || values.length == 0) return 0;
+
+        // Cycle all other values
+        float max = Float.MIN_VALUE;
+        for (float value : values) {
+            // Find the max
+            if (max < value) max = value;
+        }
+        // Return
+        return max;
+    }
+
+
+    /**
+     * Angle methods
+     */
+
+    // Normalize a angle in degrees.
+    // If the angle is over 360° will be normalized.
+    // This method work for negative and positive angle values.
+    @SuppressWarnings("unused")
+    public static float normalizeAngle(float degrees) {
+        return (degrees + (degrees < 0 ? -ScGeometry.ANGLE_MAX : +ScGeometry.ANGLE_MAX)) %
+                ScGeometry.ANGLE_MAX;
+    }
+
+    // Limit an angle in degrees within a range.
+    // When press on the arc space the system return always an positive angle but the arcs accept
+    // also negative value for the start and end angles.
+    // So in case of negative setting the normal range limit method not work proper and we must
+    // implement a specific method that consider to return all kind of angle value, positive and
+    // negative.
+    @SuppressWarnings("unused")
+    public static float angleRangeLimit(float angle, float startAngle, float endAngle) {
+        // Find the opposite of the same angle.
+        // The normalized angle keep the sign so if negative must be moved on the positive side.
+        float positive = ScGeometry.normalizeAngle(angle);
+        if (positive < 0.0f) positive += ScGeometry.ANGLE_MAX;
+        float negative = positive - ScGeometry.ANGLE_MAX;
+
+        // Try both case of angle is positive and is negative.
+        float firstCase = ScGeometry.valueRangeLimit(positive, startAngle, endAngle);
+        float secondCase = ScGeometry.valueRangeLimit(negative, startAngle, endAngle);
+
+        // If the first case is equal to the positive angle than the correct angle is the
+        // positive one
+        if (firstCase == positive) {
+            return positive;
+
+        } else {
+            // If the second case is equal to the negative angle than the correct angle is the
+            // negative one
+            if (secondCase == negative) {
+                return negative;
+
+            } else {
+                // The angle if over the limit.
+                // Try to find the nearest limit and return it.
+                if (Math.abs(firstCase - positive) < Math.abs(secondCase - negative))
+                    return firstCase;
+                else
+                    return secondCase;
+            }
+        }
+    }
+
+    // Round the angle to the near notch angle
+    @SuppressWarnings("unused")
+    public static float snapToNotchs(float degrees, float sweepAngle, int notchsCount) {
+        // Calc the delta angle
+        float deltaAngle = sweepAngle / notchsCount;
+        // Round at notchs value
+        return Math.round(degrees / deltaAngle) * deltaAngle;
+    }
+
+    // Translate the angle in a value within the passed range of values
+    @SuppressWarnings("unused")
+    public static float translateAngleToValue(
+            float angle, float sweepAngle, float startRange, float endRange) {
+        // Limit the value within the range
+        angle = ScGeometry.valueRangeLimit(angle, 0.0f, sweepAngle);
+        // Check for the division domain
+        if (sweepAngle != 0.0f) {
+            return (angle / sweepAngle) * (endRange - startRange);
+        } else {
+            return 0.0f;
+        }
+    }
+
+    // Translate a value within the passed range of values in the relative angle
+    @SuppressWarnings("unused")
+    public static float translateValueToAngle(
+            float value, float sweepAngle, float startRange, float endRange) {
+        // Limit the value within the range
+        value = ScGeometry.valueRangeLimit(value, startRange, endRange);
+        // Check for the division domain
+        if (endRange == startRange) {
+            return 0;
+
+        } else {
+            // Convert the value in the relative angle respect the arc length
+            return ((value - startRange) / (endRange - startRange)) * sweepAngle;
+        }
+    }
+
+
+    /**
+     * Point methods
+     */
+
+    // Check if point is inside a circle (Pitagora).
+    // Supposed that the origin of the circle is 0, 0.
+    @SuppressWarnings("unused")
+    public static boolean pointInsideCircle(float x, float y, float radius) {
+        return (double) x * x + (double) y * y < (double) radius * radius;
+    }
+
+    // Cosine and sine of an angle in degrees.
+    // If a trigonometry table is passed the value will be read from it.
+    @SuppressWarnings("unused")
+    public static float cos(float degrees, ScTrigTable table) {
+        return table != null ? table.cos(degrees) : (float) Math.cos(Math.toRadians(degrees));
+    }
+
+    @SuppressWarnings("unused")
+    public static float sin(float degrees, ScTrigTable table) {
+        return table != null ? table.sin(degrees) : (float) Math.sin(Math.toRadians(degrees));
+    }
+
+    // Find a coordinate on the ellipse by the cosine or the sine of the angle
+    private static int getCoordinate(float radius, float value, float center) {
+        return Math.round(radius * value + center);
+    }
+
+    // Find a point on the ellipse by the cosine and the sine of the angle.
+    // The result will be written inside the destination point.
+    @SuppressWarnings("unused")
+    public static int[] getPoint(float cos, float sin,
+                                 float centerX, float centerY, float radiusX, float radiusY,
+                                 int[] dest) {
+        dest[ScGeometry.X] = ScGeometry.getCoordinate(radiusX, cos, centerX);
+        dest[ScGeometry.Y] = ScGeometry.getCoordinate(radiusY, sin, centerY);
+        return dest;
+    }
+
+    // Find the coordinates of a point on the ellipse by a global angle in degrees.
+    // Used when the point is not held inside an array.
+    @SuppressWarnings("unused")
+    public static int getPointX(float degrees, float centerX, float radiusX, ScTrigTable table) {
+        return ScGeometry.getCoordinate(radiusX, ScGeometry.cos(degrees, table), centerX);
+    }
+
+    @SuppressWarnings("unused")
+    public static int getPointY(float degrees, float centerY, float radiusY, ScTrigTable table) {
+        return ScGeometry.getCoordinate(radiusY, ScGeometry.sin(degrees, table), centerY);
+    }
+
+    // Find a point on the ellipse by a global angle in degrees.
+    // If a trigonometry table is passed the sin and cos values will be read from it.
+    // The result will be written inside the destination point.
+    @SuppressWarnings("unused")
+    public static int[] getPointFromAngle(float degrees,
+                                          float centerX, float centerY, float radiusX, float radiusY,
+                                          ScTrigTable table, int[] dest) {
+        return ScGeometry.getPoint(
+                ScGeometry.cos(degrees, table), ScGeometry.sin(degrees, table),
+                centerX, centerY, radiusX, radiusY, dest);
+    }
+
+    @SuppressWarnings("unused")
+    public static int[] getPointFromAngle(float degrees,
+                                          float centerX, float centerY, float radiusX, float radiusY,
+                                          int[] dest) {
+        return ScGeometry.getPointFromAngle(
+                degrees, centerX, centerY, radiusX, radiusY, null, dest);
+    }
+
+    // Find the angle of a point respect the ellipse center.
+    // The angle is relative to the start angle and limited within the sweep angle.
+    @SuppressWarnings("unused")
+    public static float getAngleFromPoint(float x, float y,
+                                          float centerX, float centerY, float radiusX, float radiusY,
+                                          float startAngle, float sweepAngle) {
+        // Get angle from position
+        double angle = Math.atan2((y - centerY) / radiusY, (x - centerX) / radiusX);
+
+        // Normalize the degrees angle by the start angle
+        float degrees = (float) Math.toDegrees(angle) - startAngle;
+        // Check the angle limit and return the checked value
+        return ScGeometry.angleRangeLimit(degrees, 0, sweepAngle);
+    }
+
+
+    /**
+     * Area methods
+     */
+
+    // Set the area
+    @SuppressWarnings("unused")
+    public static float[] setArea(float left, float top, float right, float bottom, float[] dest) {
+        dest[ScGeometry.LEFT] = left;
+        dest[ScGeometry.TOP] = top;
+        dest[ScGeometry.RIGHT] = right;
+        dest[ScGeometry.BOTTOM] = bottom;
+        return dest;
+    }
+
+    // Check if the area is empty
+    @SuppressWarnings("unused")
+    public static boolean isEmpty(float[] area) {
+        return area[ScGeometry.LEFT] >= area[ScGeometry.RIGHT] ||
+                area[ScGeometry.TOP] >= area[ScGeometry.BOTTOM];
+    }
+
+    // Calc the bounds of an arc on the unit circle between two global angles.
+    // The bounds are found considering the arc ends and all the quadrant crossing (0°, 90°, 180°
+    // and 270°) that fall inside the sweep.
+    // The result will be written inside the destination area.
+    @SuppressWarnings("unused")
+    public static float[] calcUnitArcBounds(float startAngle, float endAngle, float[] dest) {
+        // Sort the angles to find the min and the max
+        float minAngle = startAngle < endAngle ? startAngle : endAngle;
+        float maxAngle = startAngle > endAngle ? startAngle : endAngle;
+
+        // If is a complete circle all the bounds are reached
+        if (maxAngle - minAngle >= ScGeometry.ANGLE_MAX) {
+            return ScGeometry.setArea(-1.0f, -1.0f, 1.0f, 1.0f, dest);
+        }
+
+        // Find the sin and cos values of the arc ends
+        double minRadians = Math.toRadians(minAngle);
+        double maxRadians = Math.toRadians(maxAngle);
+        float minCos = (float) Math.cos(minRadians);
+        float minSin = (float) Math.sin(minRadians);
+        float maxCos = (float) Math.cos(maxRadians);
+        float maxSin = (float) Math.sin(maxRadians);
+
+        // Init the area with the ends
+        ScGeometry.setArea(
+                Math.min(minCos, maxCos), Math.min(minSin, maxSin),
+                Math.max(minCos, maxCos), Math.max(minSin, maxSin),
+                dest
+        );
+
+        // Cycle all the quadrant crossing inside the sweep and expand the relative bound.
+        // Are at most four seen the sweep is minor of 360°.
+        for (double crossing = Math.ceil(minAngle / 90.0) * 90.0;
+             crossing <= maxAngle; crossing += 90.0) {
+            // Find the quadrant normalized in the range 0..3
+            int quadrant = (((int) Math.round(crossing / 90.0)) % 4 + 4) % 4;
+            switch (quadrant) {
+                case 0: dest[ScGeometry.RIGHT] = 1.0f; break;
+                case 1: dest[ScGeometry.BOTTOM] = 1.0f; break;
+                case 2: dest[ScGeometry.LEFT] = -1.0f; break;
+                case 3: dest[ScGeometry.TOP] = -1.0f; break;
+            }
+        }
+
+        // Return the area
+        return dest;
+    }
+
+    // Calc the trimmed area.
+    // This is only an image of the arc dimensions inside the space, not contains the real arc
+    // dimensions but only a proportional representation.
+    // If the sweep angle is zero the area will be empty.
+    @SuppressWarnings("unused")
+    public static float[] calcTrimmedArea(float startAngle, float sweepAngle, float[] dest) {
+        // Check for sweep angle
+        if (sweepAngle == 0.0f) {
+            return ScGeometry.setArea(0.0f, 0.0f, 0.0f, 0.0f, dest);
+        }
+
+        // Find the area of the arc on the unit circle
+        return ScGeometry.calcUnitArcBounds(startAngle, startAngle + sweepAngle, dest);
+    }
+
+    // Calc complete circle drawing area.
+    // This methods calc the virtual drawing area not taking into consideration the many
+    // adjustments like the stroke size.
+    // If fill horizontally or vertically the area is expanded to have the full filling working
+    // space with the arc proportionally to the trimmed area.
+    // The destination can be the same array of the starting area.
+    @SuppressWarnings("unused")
+    public static float[] calcDrawingArea(float[] startingArea, float[] trimmedArea,
+                                          float paddingLeft, float paddingTop,
+                                          boolean horizontal, boolean vertical, float[] dest) {
+        // Check for empty values
+        if (ScGeometry.isEmpty(trimmedArea)) {
+            return ScGeometry.setArea(0.0f, 0.0f, 0.0f, 0.0f, dest);
+        }
+
+        // Default working area
+        ScGeometry.setArea(
+                startingArea[ScGeometry.LEFT], startingArea[ScGeometry.TOP],
+                startingArea[ScGeometry.RIGHT], startingArea[ScGeometry.BOTTOM],
+                dest
+        );
+
+        // Horizontal filling
+        if (horizontal) {
+            // Find the multiplier based on the trimmed area and apply the proportion to the
+            // horizontal dimensions.
+            float hMultiplier = (dest[ScGeometry.RIGHT] - dest[ScGeometry.LEFT]) /
+                    (trimmedArea[ScGeometry.RIGHT] - trimmedArea[ScGeometry.LEFT]);
+            float offset = -trimmedArea[ScGeometry.LEFT] * hMultiplier + paddingLeft;
+
+            // Apply the new values to the area and modify the horizontal offset
+            dest[ScGeometry.LEFT] = -hMultiplier + offset;
+            dest[ScGeometry.RIGHT] = hMultiplier + offset;
+        }
+
+        // Vertical filling
+        if (vertical) {
+            // Find the multiplier based on the trimmed area and apply the proportion to the
+            // vertical dimensions.
+            float vMultiplier = (dest[ScGeometry.BOTTOM] - dest[ScGeometry.TOP]) /
+                    (trimmedArea[ScGeometry.BOTTOM] - trimmedArea[ScGeometry.TOP]);
+            float offset = -trimmedArea[ScGeometry.TOP] * vMultiplier + paddingTop;
+
+            // Apply the new values to the area and modify the vertical offset
+            dest[ScGeometry.TOP] = -vMultiplier + offset;
+            dest[ScGeometry.BOTTOM] = vMultiplier + offset;
+        }
+
+        // Return the calculated area
+        return dest;
+    }
+
+}
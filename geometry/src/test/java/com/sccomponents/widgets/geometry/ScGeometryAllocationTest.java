@@ -0,0 +1,121 @@
+package com.sccomponents.widgets.geometry;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * ScGeometry allocation tests.
+ * <p/>
+ * Count the bytes allocated by the current thread while the geometry methods used on every
+ * frame run in steady state.
+ * The JIT compiler work on its own threads so the count is not affected by it.
+ * The test is skipped if the JVM not support the allocation counting.
+ * v1.0.0
+ */
+public class ScGeometryAllocationTest {
+
+    /**
+     * Constants
+     */
+
+    private static final int WARMUP = 20000;
+    private static final int ITERATIONS = 100000;
+
+
+    /**
+     * Private variables
+     */
+
+    private com.sun.management.ThreadMXBean mBean;
+    private ScTrigTable mTable;
+
+    private float[] mCanvasArea;
+    private float[] mTrimmedArea;
+    private float[] mArea;
+    private int[] mPoint;
+
+    private float mSink;
+
+
+    /**
+     * Setup
+     */
+
+    @Before
+    public void setup() {
+        // Check if the JVM can count the allocations
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        this.mBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(this.mBean.isThreadAllocatedMemorySupported());
+        this.mBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Create all the objects before the counting
+        this.mTable = new ScTrigTable();
+        this.mCanvasArea = ScGeometry.setArea(10.0f, 10.0f, 490.0f, 490.0f, new float[4]);
+        this.mTrimmedArea = new float[4];
+        this.mArea = new float[4];
+        this.mPoint = new int[2];
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Get the allocated bytes by the current thread
+    private long getAllocatedBytes() {
+        return this.mBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Run the geometry methods of a frame
+    private void frame(int index) {
+        float angle = index % 720 - 360.0f;
+
+        // Measure
+        ScGeometry.calcTrimmedArea(angle, 270.0f, this.mTrimmedArea);
+        ScGeometry.calcDrawingArea(this.mCanvasArea, this.mTrimmedArea,
+                10.0f, 10.0f, true, true, this.mArea);
+
+        // Draw
+        ScGeometry.getPointFromAngle(angle, 250.0f, 250.0f, 240.0f, 240.0f, this.mPoint);
+        this.mSink += this.mPoint[ScGeometry.X];
+        ScGeometry.getPointFromAngle(angle, 250.0f, 250.0f, 240.0f, 240.0f,
+                this.mTable, this.mPoint);
+        this.mSink += this.mPoint[ScGeometry.Y];
+
+        // Touch
+        this.mSink += ScGeometry.getAngleFromPoint(this.mPoint[ScGeometry.X],
+                this.mPoint[ScGeometry.Y], 250.0f, 250.0f, 240.0f, 240.0f, 135.0f, 270.0f);
+        this.mSink += ScGeometry.snapToNotchs(angle, 270.0f, 27);
+        this.mSink += ScGeometry.translateAngleToValue(angle, 270.0f, 0.0f, 100.0f);
+    }
+
+
+    /**
+     * Tests
+     */
+
+    @Test
+    public void steadyStateFrameNotAllocate() {
+        // Warm up
+        for (int index = 0; index < ScGeometryAllocationTest.WARMUP; index++) {
+            this.frame(index);
+        }
+
+        // Count
+        long bytes = this.getAllocatedBytes();
+        for (int index = 0; index < ScGeometryAllocationTest.ITERATIONS; index++) {
+            this.frame(index);
+        }
+        bytes = this.getAllocatedBytes() - bytes;
+
+        Assert.assertEquals("Allocated bytes (sink " + this.mSink + ")", 0L, bytes);
+    }
+
+}
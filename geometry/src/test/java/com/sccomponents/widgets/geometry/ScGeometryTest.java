@@ -0,0 +1,239 @@
+package com.sccomponents.widgets.geometry;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * ScGeometry property tests.
+ * <p/>
+ * Every test check a property of the geometry methods on a series of random inputs.
+ * The random generator use a fixed seed so a failure can be always reproduced.
+ * v1.0.0
+ */
+public class ScGeometryTest {
+
+    /**
+     * Constants
+     */
+
+    private static final long SEED = 20161018L;
+    private static final int CASES_COUNT = 100000;
+
+
+    /**
+     * Private variables
+     */
+
+    private Random mRandom;
+
+
+    /**
+     * Setup
+     */
+
+    @Before
+    public void setup() {
+        this.mRandom = new Random(ScGeometryTest.SEED);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Get a random float within the passed range
+    private float nextFloat(float min, float max) {
+        return min + this.mRandom.nextFloat() * (max - min);
+    }
+
+    // Distance between two angles in degrees considering the full circle
+    private static double angleDistance(double first, double second) {
+        return Math.abs(Math.IEEEremainder(first - second, ScGeometry.ANGLE_MAX));
+    }
+
+
+    /**
+     * Tests
+     */
+
+    @Test
+    public void normalizeAngleIsWithinTheCircleAndKeepTheDirection() {
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float degrees = this.nextFloat(-10000.0f, 10000.0f);
+            float normalized = ScGeometry.normalizeAngle(degrees);
+
+            // Within the circle and with the same sign of the original angle
+            Assert.assertTrue(degrees + " -> " + normalized,
+                    Math.abs(normalized) < ScGeometry.ANGLE_MAX);
+            Assert.assertTrue(degrees + " -> " + normalized,
+                    normalized == 0.0f || (normalized < 0.0f) == (degrees < 0.0f));
+            // Same direction
+            Assert.assertEquals(degrees + " -> " + normalized,
+                    0.0, ScGeometryTest.angleDistance(degrees, normalized), 1e-2);
+        }
+    }
+
+    @Test
+    public void angleRangeLimitIsWithinTheRange() {
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            // The range is within -360° and 360° as the arcs angles
+            float startAngle = this.nextFloat(-360.0f, 0.0f);
+            float endAngle = startAngle + this.nextFloat(0.0f, 360.0f);
+            float angle = this.nextFloat(-1080.0f, 1080.0f);
+            float limited = ScGeometry.angleRangeLimit(angle, startAngle, endAngle);
+
+            // Within the range
+            String message = angle + " in " + startAngle + ".." + endAngle + " -> " + limited;
+            Assert.assertTrue(message, limited >= startAngle && limited <= endAngle);
+
+            // Find the angle direction inside the range if exists
+            double inside = startAngle +
+                    ((angle - startAngle) % 360.0 + 360.0) % 360.0;
+            if (inside > startAngle + 1e-2 && inside < endAngle - 1e-2) {
+                // Must have the original direction
+                Assert.assertEquals(message,
+                        0.0, ScGeometryTest.angleDistance(angle, limited), 1e-2);
+
+            } else {
+                // Must be one of the limits
+                Assert.assertTrue(message,
+                        ScGeometryTest.angleDistance(limited, startAngle) < 1e-2 ||
+                                ScGeometryTest.angleDistance(limited, endAngle) < 1e-2);
+            }
+        }
+    }
+
+    @Test
+    public void translateValueToAngleRoundTrip() {
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float sweepAngle = this.nextFloat(1.0f, 360.0f);
+            float startRange = this.nextFloat(-1000.0f, 1000.0f);
+            float endRange = startRange + this.nextFloat(1.0f, 1000.0f);
+            float value = this.nextFloat(startRange, endRange);
+
+            float angle = ScGeometry.translateValueToAngle(value, sweepAngle, startRange, endRange);
+            float back = ScGeometry.translateAngleToValue(angle, sweepAngle, startRange, endRange);
+
+            // The angle is within the sweep and the value is returned as distance from the
+            // start of the range.
+            String message = value + " in " + startRange + ".." + endRange + " -> " + angle;
+            Assert.assertTrue(message, angle >= 0.0f && angle <= sweepAngle);
+            Assert.assertEquals(message, value - startRange, back, 1e-3 * (endRange - startRange));
+        }
+    }
+
+    @Test
+    public void getPointFromAngleWithTableIsWithinTheMaxError() {
+        ScTrigTable table = new ScTrigTable();
+        int[] point = new int[2];
+        int[] tablePoint = new int[2];
+
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float degrees = this.nextFloat(-720.0f, 720.0f);
+            float radius = this.nextFloat(1.0f, 2000.0f);
+            float centerX = this.nextFloat(0.0f, 2000.0f);
+            float centerY = this.nextFloat(0.0f, 2000.0f);
+
+            ScGeometry.getPointFromAngle(degrees, centerX, centerY, radius, radius, point);
+            ScGeometry.getPointFromAngle(degrees, centerX, centerY, radius, radius,
+                    table, tablePoint);
+
+            // The rounded table point is at most half pixel plus the table error far from the
+            // exact point.
+            double radians = Math.toRadians(degrees);
+            double exactX = centerX + radius * Math.cos(radians);
+            double exactY = centerY + radius * Math.sin(radians);
+            double tolerance = 0.5 + table.getMaxError(radius) + 1e-3;
+            String message = degrees + "° r " + radius;
+            Assert.assertEquals(message, exactX, tablePoint[ScGeometry.X], tolerance);
+            Assert.assertEquals(message, exactY, tablePoint[ScGeometry.Y], tolerance);
+
+            // The two points never differ for more than one pixel
+            Assert.assertTrue(message,
+                    Math.abs(point[ScGeometry.X] - tablePoint[ScGeometry.X]) <= 1);
+            Assert.assertTrue(message,
+                    Math.abs(point[ScGeometry.Y] - tablePoint[ScGeometry.Y]) <= 1);
+
+            // The single coordinates methods return the same point
+            Assert.assertEquals(message, tablePoint[ScGeometry.X],
+                    ScGeometry.getPointX(degrees, centerX, radius, table));
+            Assert.assertEquals(message, tablePoint[ScGeometry.Y],
+                    ScGeometry.getPointY(degrees, centerY, radius, table));
+        }
+    }
+
+    @Test
+    public void getAngleFromPointIsTheInverseOfThePoint() {
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float startAngle = this.nextFloat(-360.0f, 360.0f);
+            float sweepAngle = this.nextFloat(1.0f, 359.0f);
+            float angle = this.nextFloat(0.0f, sweepAngle);
+            float radiusX = this.nextFloat(10.0f, 1000.0f);
+            float radiusY = this.nextFloat(10.0f, 1000.0f);
+
+            // Find the exact point on the ellipse
+            double radians = Math.toRadians(startAngle + angle);
+            float x = (float) (500.0 + radiusX * Math.cos(radians));
+            float y = (float) (500.0 + radiusY * Math.sin(radians));
+
+            float found = ScGeometry.getAngleFromPoint(x, y,
+                    500.0f, 500.0f, radiusX, radiusY, startAngle, sweepAngle);
+            Assert.assertEquals(startAngle + " + " + angle + " -> " + found,
+                    0.0, ScGeometryTest.angleDistance(angle, found), 1e-2);
+        }
+    }
+
+    @Test
+    public void pointInsideCircleMatchTheDistance() {
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float radius = this.nextFloat(1.0f, 2000.0f);
+            double radians = this.mRandom.nextDouble() * 2 * Math.PI;
+            float cos = (float) Math.cos(radians);
+            float sin = (float) Math.sin(radians);
+
+            // Slightly inside and slightly outside the circle
+            String message = radius + " at " + radians;
+            Assert.assertTrue(message, ScGeometry.pointInsideCircle(
+                    0.999f * radius * cos, 0.999f * radius * sin, radius));
+            Assert.assertFalse(message, ScGeometry.pointInsideCircle(
+                    1.001f * radius * cos, 1.001f * radius * sin, radius));
+        }
+    }
+
+    @Test
+    public void calcTrimmedAreaMatchTheSampling() {
+        float[] area = new float[4];
+        float[] sampled = new float[4];
+
+        for (int index = 0; index < ScGeometryTest.CASES_COUNT; index++) {
+            float startAngle = this.nextFloat(-360.0f, 360.0f);
+            float sweepAngle = this.nextFloat(-360.0f, 360.0f);
+
+            ScGeometry.calcTrimmedArea(startAngle, sweepAngle, area);
+            ScTrimmedAreaSampling.calcTrimmedArea(startAngle, sweepAngle, sampled);
+
+            // The sampled points are on the arc so the closed form area must contain them and
+            // can be larger at most of one sampling step.
+            String message = startAngle + " + " + sweepAngle;
+            for (int side = ScGeometry.LEFT; side <= ScGeometry.BOTTOM; side++) {
+                // The left and top bounds grow toward the negative side
+                float difference = side < ScGeometry.RIGHT ?
+                        sampled[side] - area[side] : area[side] - sampled[side];
+                Assert.assertTrue(message + " side " + side + ": " + difference,
+                        difference >= -1e-6f &&
+                                difference <= ScTrimmedAreaSampling.STEP + 1e-5);
+            }
+        }
+    }
+
+    @Test
+    public void calcTrimmedAreaIsEmptyWithoutSweep() {
+        float[] area = ScGeometry.calcTrimmedArea(this.nextFloat(-360.0f, 360.0f), 0.0f,
+                new float[4]);
+        Assert.assertTrue(ScGeometry.isEmpty(area));
+    }
+
+}
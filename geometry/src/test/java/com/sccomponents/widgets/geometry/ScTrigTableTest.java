@@ -0,0 +1,69 @@
+package com.sccomponents.widgets.geometry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * ScTrigTable property tests.
+ * <p/>
+ * Compare the table values with the Math methods on a series of random angles.
+ * v1.0.0
+ */
+public class ScTrigTableTest {
+
+    /**
+     * Constants
+     */
+
+    private static final long SEED = 20161018L;
+    private static final int CASES_COUNT = 100000;
+
+    private static final float[] RESOLUTIONS = new float[]{0.05f, 0.1f, 0.5f, 1.0f, 5.0f};
+
+
+    /**
+     * Tests
+     */
+
+    @Test
+    public void valuesAreWithinTheMaxError() {
+        Random random = new Random(ScTrigTableTest.SEED);
+
+        for (float resolution : ScTrigTableTest.RESOLUTIONS) {
+            ScTrigTable table = new ScTrigTable(resolution);
+            float maxError = table.getMaxError(1.0f);
+
+            for (int index = 0; index < ScTrigTableTest.CASES_COUNT; index++) {
+                float degrees = -10000.0f + random.nextFloat() * 20000.0f;
+                double radians = Math.toRadians(degrees);
+
+                String message = degrees + "° at " + resolution + "°";
+                Assert.assertEquals(message, Math.sin(radians), table.sin(degrees), maxError);
+                Assert.assertEquals(message, Math.cos(radians), table.cos(degrees), maxError);
+            }
+        }
+    }
+
+    @Test
+    public void tableEntriesAreExact() {
+        ScTrigTable table = new ScTrigTable(1.0f);
+        for (int degrees = -720; degrees <= 720; degrees++) {
+            double radians = Math.toRadians(degrees);
+            Assert.assertEquals(degrees + "°", Math.sin(radians), table.sin(degrees), 1e-6);
+            Assert.assertEquals(degrees + "°", Math.cos(radians), table.cos(degrees), 1e-6);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroResolutionIsRejected() {
+        new ScTrigTable(0.0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void overRightAngleResolutionIsRejected() {
+        new ScTrigTable(91.0f);
+    }
+
+}
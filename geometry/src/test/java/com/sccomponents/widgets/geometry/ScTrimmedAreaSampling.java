@@ -0,0 +1,75 @@
+package com.sccomponents.widgets.geometry;
+
+/**
+ * The old trimmed area calculation.
+ * <p/>
+ * Find the bounds sampling the arc every 0.01 radians, so the result can miss the arc end for at
+ * most one step.
+ * Kept only as reference for the closed form of ScGeometry.calcTrimmedArea inside the tests and
+ * the benchmarks.
+ * v1.0.0
+ */
+public class ScTrimmedAreaSampling {
+
+    /**
+     * Constants
+     */
+
+    public static final double STEP = 0.01;
+
+
+    /**
+     * Constructors
+     */
+
+    private ScTrimmedAreaSampling() {
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Calc the trimmed area sampling the arc.
+    // The result will be written inside the destination area.
+    public static float[] calcTrimmedArea(float startAngle, float sweepAngle, float[] dest) {
+        // Check for sweep angle.
+        // If 0 return and empty area
+        if (sweepAngle == 0.0f) {
+            return ScGeometry.setArea(0.0f, 0.0f, 0.0f, 0.0f, dest);
+        }
+
+        // Init the area with the inverted values that will be replaced with the real values.
+        ScGeometry.setArea(1.0f, 1.0f, -1.0f, -1.0f, dest);
+
+        // Calc the start and end angles in radians.
+        double start = Math.toRadians(startAngle);
+        double end = start + Math.toRadians(sweepAngle);
+
+        // Sort the angles to find the min and the max
+        double minAngle = start < end ? start : end;
+        double maxAngle = start > end ? start : end;
+
+        // Cycle all angles and compare the found sin and cos values for find the bounds of the
+        // area.
+        while (minAngle <= maxAngle) {
+            // Find the sin and cos values
+            float sin = (float) Math.sin(minAngle);
+            float cos = (float) Math.cos(minAngle);
+
+            // Check the the precedents limits and update they if needed
+            if (cos < dest[ScGeometry.LEFT]) dest[ScGeometry.LEFT] = cos;
+            if (cos > dest[ScGeometry.RIGHT]) dest[ScGeometry.RIGHT] = cos;
+
+            if (sin < dest[ScGeometry.TOP]) dest[ScGeometry.TOP] = sin;
+            if (sin > dest[ScGeometry.BOTTOM]) dest[ScGeometry.BOTTOM] = sin;
+
+            // Increment the current angle
+            minAngle += ScTrimmedAreaSampling.STEP;
+        }
+
+        // Return the area
+        return dest;
+    }
+
+}
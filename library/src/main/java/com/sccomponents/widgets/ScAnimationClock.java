@@ -0,0 +1,200 @@
+package com.sccomponents.widgets;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.Arrays;
+
+/**
+ * Shared animation clock.
+ * <p/>
+ * A single frame callback step all the active clients on every frame, so many animated widgets
+ * cost one callback instead of one animator each. The clock is registered on the choreographer
+ * only while at least one client is animating and unregister itself when all are ended.
+ * Must be used only on the UI thread.
+ * v1.0.0
+ */
+public class ScAnimationClock {
+
+    /**
+     * Constants
+     */
+
+    // Used only before Jelly Bean where the choreographer is not available
+    private static final long FRAME_DELAY = 16;
+
+
+    /**
+     * Private variables
+     */
+
+    private static ScAnimationClock sInstance;
+
+    private Client[] mClients;
+    private int mCount;
+    private boolean mScheduled;
+
+    private Object mFrameCallback;
+    private Handler mHandler;
+    private Runnable mRunnable;
+
+
+    /**
+     * Constructors
+     */
+
+    private ScAnimationClock() {
+        // Clients holder
+        this.mClients = new Client[8];
+
+        // Use the choreographer if available else post the frame on the UI thread
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            this.mFrameCallback = new ClockFrameCallback(this);
+
+        } else {
+            this.mHandler = new Handler(Looper.getMainLooper());
+            this.mRunnable = new Runnable() {
+                @Override
+                public void run() {
+                    ScAnimationClock.this.doFrame(System.nanoTime());
+                }
+            };
+        }
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Schedule the next frame if not already scheduled
+    private void schedule() {
+        // Check if already scheduled
+        if (this.mScheduled) return;
+        this.mScheduled = true;
+
+        // Post the frame
+        if (this.mFrameCallback != null) {
+            this.postFrameCallback();
+        } else {
+            this.mHandler.postDelayed(this.mRunnable, ScAnimationClock.FRAME_DELAY);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postFrameCallback() {
+        ((ClockFrameCallback) this.mFrameCallback).post();
+    }
+
+    // Step all the clients and remove the ended ones.
+    // A client added while stepping is stepped within the same frame.
+    private void doFrame(long frameTimeNanos) {
+        // The frame is consumed
+        this.mScheduled = false;
+
+        // Step the clients holding only the ones that still animating
+        int write = 0;
+        for (int read = 0; read < this.mCount; read++) {
+            Client client = this.mClients[read];
+            if (client.onAnimationFrame(frameTimeNanos)) {
+                this.mClients[write++] = client;
+            }
+        }
+
+        // Release the references of the removed clients
+        Arrays.fill(this.mClients, write, this.mCount, null);
+        this.mCount = write;
+
+        // Continue only if have at least one client
+        if (this.mCount > 0) this.schedule();
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Get the clock instance
+    @SuppressWarnings("unused")
+    public static ScAnimationClock getInstance() {
+        if (ScAnimationClock.sInstance == null) {
+            ScAnimationClock.sInstance = new ScAnimationClock();
+        }
+        return ScAnimationClock.sInstance;
+    }
+
+    // Add a client.
+    // The client will be stepped on every frame until its step method return false.
+    // The caller must not add the same client again while it is animating.
+    @SuppressWarnings("unused")
+    public void add(Client client) {
+        // Grow the holder if needed
+        if (this.mCount == this.mClients.length) {
+            this.mClients = Arrays.copyOf(this.mClients, this.mCount * 2);
+        }
+
+        // Add the client and start the clock
+        this.mClients[this.mCount++] = client;
+        this.schedule();
+    }
+
+    // Get the number of clients currently animating
+    @SuppressWarnings("unused")
+    public int getClientsCount() {
+        return this.mCount;
+    }
+
+    // Check if the clock is registered for the next frame
+    @SuppressWarnings("unused")
+    public boolean isRunning() {
+        return this.mScheduled;
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // The choreographer frame callback that step the clock.
+    // Available only from Jelly Bean.
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static class ClockFrameCallback implements Choreographer.FrameCallback {
+
+        private final ScAnimationClock mClock;
+        private final Choreographer mChoreographer;
+
+        public ClockFrameCallback(ScAnimationClock clock) {
+            this.mClock = clock;
+            this.mChoreographer = Choreographer.getInstance();
+        }
+
+        // Post the callback on the next frame
+        public void post() {
+            this.mChoreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            this.mClock.doFrame(frameTimeNanos);
+        }
+
+    }
+
+
+    /**
+     * Public listener and interface
+     */
+
+    // The animated client.
+    // Return true if the client still animating and must be stepped on the next frame.
+    @SuppressWarnings("unused")
+    public interface Client {
+
+        boolean onAnimationFrame(long frameTimeNanos);
+
+    }
+
+}
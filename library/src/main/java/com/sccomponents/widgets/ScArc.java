@@ -1,31 +1,26 @@
 package com.sccomponents.widgets;
 
-import android.animation.ArgbEvaluator;
 import android.content.Context;
-import android.content.res.TypedArray;
-import android.graphics.Bitmap;
-import android.graphics.BitmapShader;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Point;
 import android.graphics.RectF;
-import android.graphics.Shader;
-import android.graphics.SweepGradient;
 import android.os.Bundle;
 import android.os.Parcelable;
 import android.util.AttributeSet;
-import android.view.View;
 import android.view.ViewGroup;
 
-import java.util.Arrays;
+import com.sccomponents.widgets.geometry.ScGeometry;
 
 /**
  * Draw an arc
- * v1.1.3
+ * <p/>
+ * This view is a thin wrapper around the ScArcRenderer that contain all the geometry and the
+ * painting logic.
+ * v1.2.0
  */
-public class ScArc extends ScWidget {
+public class ScArc extends ScWidget implements ScArcRenderer.Host {
 
     /**
      * Constants
@@ -38,36 +33,14 @@ public class ScArc extends ScWidget {
     public static final float DEFAULT_STROKE_SIZE = 3.0f;
     public static final int DEFAULT_STROKE_COLOR = Color.BLACK;
 
-
-    /**
-     * Private attributes
-     */
-
-    protected float mAngleStart;
-    protected float mAngleSweep;
-    protected float mAngleDraw;
-
-    protected float mStrokeSize;
-    protected int mStrokeColor;
-    protected StrokeTypes mStrokeType;
-
-    protected int mMaxWidth;
-    protected int mMaxHeight;
-
-    protected FillingArea mFillingArea;
-    protected FillingMode mFillingMode;
-    protected FillingColors mFillingColors;
+    public static final int DEFAULT_COLORS_TABLE_SIZE = 256;
 
 
     /**
      * Private variables
      */
 
-    private int[] mStrokeColors;
-    private RectF mTrimmedArea;
-
-    private Paint mStrokePaint;
-    private Paint mPiePaint;
+    private ScArcRenderer mRenderer;
 
 
     /**
@@ -89,130 +62,28 @@ public class ScArc extends ScWidget {
         this.init(context, attrs, defStyleAttr);
     }
 
+    // Wrap an existing renderer.
+    // Used by the components that draw the renderer by themselves (like the ScGauge) for expose
+    // it with the usual arc interface. In this case the view is never attached or measured.
+    ScArc(Context context, ScArcRenderer renderer) {
+        super(context);
+        this.mRenderer = renderer;
+        this.mRenderer.setView(this);
+    }
+
 
     /**
      * Privates methods
      */
 
-    // Limit an angle in degrees within a range.
-    // When press on the arc space the system return always an positive angle but the ScArc accept
-    // also negative value for the start and end angles.
-    // So in case of negative setting the normal range limit method not work proper and we must
-    // implement a specific method that consider to return all kind of angle value, positive and
-    // negative.
-    private float angleRangeLimit(float angle, float startAngle, float endAngle) {
-        // Find the opposite of the same angle
-        float positive = ScArc.normalizeAngle(angle + ScArc.DEFAULT_ANGLE_MAX);
-        float negative = positive - ScArc.DEFAULT_ANGLE_MAX;
-
-        // Try both case of angle is positive and is negative.
-        float firstCase = ScArc.valueRangeLimit(positive, startAngle, endAngle);
-        float secondCase = ScArc.valueRangeLimit(negative, startAngle, endAngle);
-
-        // If the first case is equal to the positive angle than the correct angle is the
-        // positive one
-        if (firstCase == positive) {
-            return positive;
-
-        } else {
-            // If the second case is equal to the negative angle than the correct angle is the
-            // negative one
-            if (secondCase == negative) {
-                return negative;
-
-            } else {
-                // The angle if over the limit.
-                // Try to find the nearest limit and return it.
-                if (Math.abs(firstCase - positive) < Math.abs(secondCase - negative))
-                    return firstCase;
-                else
-                    return secondCase;
-            }
-        }
-    }
-
-    // Check all input values if over the limits
-    private void checkValues() {
-        // Size
-        if (this.mStrokeSize < 0.0f) this.mStrokeSize = 0.0f;
-
-        // Angle
-        if (Math.abs(this.mAngleSweep) > ScArc.DEFAULT_ANGLE_MAX)
-            this.mAngleSweep = ScArc.normalizeAngle(this.mAngleSweep);
-        if (Math.abs(this.mAngleDraw) > ScArc.DEFAULT_ANGLE_MAX)
-            this.mAngleDraw = ScArc.normalizeAngle(this.mAngleDraw);
-
-        // Dimension
-        if (this.mMaxWidth < 0) this.mMaxWidth = 0;
-        if (this.mMaxHeight < 0) this.mMaxHeight = 0;
-
-        // Check the draw angle limits
-        this.mAngleDraw = ScArc.valueRangeLimit(this.mAngleDraw, 0, this.mAngleSweep);
-    }
-
     // Init the component.
-    // Retrieve all attributes with the default values if needed.
-    // Check the values for internal use.
-    // Create the painter and enable the touch event response.
+    // Create the renderer and enable the touch event response.
     private void init(Context context, AttributeSet attrs, int defStyle) {
         //--------------------------------------------------
-        // ATTRIBUTES
-
-        // Get the attributes list
-        final TypedArray attrArray = context.obtainStyledAttributes(attrs, R.styleable.ScComponents, defStyle, 0);
-
-        // Read all attributes from xml and assign the value to linked variables
-        this.mAngleStart = attrArray.getFloat(
-                R.styleable.ScComponents_scc_angle_start, ScArc.DEFAULT_ANGLE_START);
-        this.mAngleSweep = attrArray.getFloat(
-                R.styleable.ScComponents_scc_angle_sweep, ScArc.DEFAULT_ANGLE_SWEEP);
-        this.mAngleDraw = attrArray.getFloat(
-                R.styleable.ScComponents_scc_angle_draw, this.mAngleSweep);
-
-        this.mStrokeSize = attrArray.getDimension(
-                R.styleable.ScComponents_scc_stroke_size, this.dipToPixel(ScArc.DEFAULT_STROKE_SIZE));
-        this.mStrokeColor = attrArray.getColor(
-                R.styleable.ScComponents_scc_stroke_color, ScArc.DEFAULT_STROKE_COLOR);
-        // StrokeTypes.LINE
-        this.mStrokeType =
-                StrokeTypes.values()[attrArray.getInt(R.styleable.ScComponents_scc_stroke_type, 0)];
-
-        this.mMaxWidth = attrArray.getDimensionPixelSize(
-                R.styleable.ScComponents_scc_max_width, Integer.MAX_VALUE);
-        this.mMaxHeight = attrArray.getDimensionPixelSize(
-                R.styleable.ScComponents_scc_max_height, Integer.MAX_VALUE);
-
-        // FillingArea.BOTH
-        this.mFillingArea =
-                FillingArea.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_area, 1)];
-        // FillingMode.DRAW
-        this.mFillingMode =
-                FillingMode.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_mode, 1)];
-        // FillingColors.GRADIENT
-        this.mFillingColors =
-                FillingColors.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_colors, 1)];
-
-        // Recycle
-        attrArray.recycle();
-
-        //--------------------------------------------------
-        // INTERNAL
-
-        this.checkValues();
-
-        //--------------------------------------------------
-        // PAINTS
+        // RENDERER
 
-        this.mStrokePaint = new Paint();
-        this.mStrokePaint.setColor(this.mStrokeColor);
-        this.mStrokePaint.setAntiAlias(true);
-        this.mStrokePaint.setStrokeWidth(this.mStrokeSize);
-        this.mStrokePaint.setStyle(Paint.Style.STROKE);
-        this.mStrokePaint.setStrokeCap(Paint.Cap.BUTT);
-
-        this.mPiePaint = new Paint();
-        this.mPiePaint.setAntiAlias(true);
-        this.mPiePaint.setStyle(Paint.Style.FILL);
+        this.mRenderer = this.createRenderer(context, attrs, defStyle);
+        this.mRenderer.setView(this);
 
         //--------------------------------------------------
         // EVENTS
@@ -222,349 +93,97 @@ public class ScArc extends ScWidget {
         this.setFocusableInTouchMode(true);
     }
 
-    // Create a bitmap shader.
-    // If the colors filling mode is SOLID we cannot use a gradient but we must separate colors
-    // each other.
-    // For do it we will use a trick creating a bitmap and filling it with a colored pies. After
-    // that create a bitmap shader that will going to apply to the Painter.
-    private BitmapShader createBitmapShader(RectF area) {
-        // Create a temporary bitmap and get its canvas
-        Bitmap bitmap = Bitmap.createBitmap((int) area.width(), (int) area.height(), Bitmap.Config.ARGB_8888);
-        Canvas canvas = new Canvas(bitmap);
-
-        // Get the delta angle from the colors count.
-        float deltaAngle = this.mAngleSweep / this.mStrokeColors.length;
-
-        // Fix a visual filling issue when use a stroke cap type different from BUTT
-        if (this.mAngleSweep < 360.0f) {
-            // Calc the starting half circle and get the colors
-            float startAngle = this.mAngleStart - (360.0f - this.mAngleSweep) / 2;
-            int firstColor = this.mStrokeColors[0];
-            int lastColor = this.mStrokeColors[this.mStrokeColors.length - 1];
-
-            // Set the painter with the first color and draw half circle
-            this.mPiePaint.setColor(deltaAngle < 0 ? lastColor : firstColor);
-            canvas.drawArc(area, startAngle, 180.0f, true, this.mPiePaint);
-
-            // Set the painter with the last color and draw the second half circle
-            this.mPiePaint.setColor(deltaAngle < 0 ? firstColor : lastColor);
-            canvas.drawArc(area, startAngle + 180.0f, 180.0f, true, this.mPiePaint);
-        }
-
-        // Draw all pie sector on the circle
-        for (int index = 0; index < this.mStrokeColors.length; index++) {
-            // Calculate the start and the end angle
-            float currentAngle = index * deltaAngle + this.mAngleStart;
-            // Set the painter color and draw
-            this.mPiePaint.setColor(this.mStrokeColors[index]);
-            canvas.drawArc(area, currentAngle, deltaAngle, true, this.mPiePaint);
-        }
-
-        // Create the filter from the temporary bitmap
-        return new BitmapShader(bitmap, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP);
-    }
-
-    // Create a sweep gradient shader.
-    // Since the sweep angle can be minor of 360° we must create an array storing the colors
-    // position respect to the arc (sectors).
-    private SweepGradient createSweepGradient(RectF area) {
-        // Create a copy of colors because not want lost the original values
-        int[] colors = Arrays.copyOf(this.mStrokeColors, this.mStrokeColors.length);
-        // Create a positions holder and get the delta angle from the colors count.
-        float[] positions = new float[colors.length];
-        float deltaAngle = Math.abs(this.mAngleSweep / (colors.length - 1));
-
-        // Fill the positions holder
-        for (int index = 0; index < colors.length; index++) {
-            positions[index] = index * (deltaAngle / 360.0f);
-        }
-
-        // Fix a visual filling issue when use a stroke cap type different from BUTT
-        float toClose = 1 - positions[positions.length - 1];
-        if (toClose > 0) {
-            // Hold the new length
-            int len = positions.length + 2;
-
-            // Resize the positions the array and insert the missed values
-            positions = Arrays.copyOf(positions, len);
-            positions[len - 2] = 1.0f - (toClose / 3) * 2;
-            positions[len - 1] = 1.0f - (toClose / 3) * 1;
-
-            // Resize then colors array and insert the last and first color
-            colors = Arrays.copyOf(colors, len);
-            colors[len - 2] = colors[len - 3];
-            colors[len - 1] = colors[0];
-
-            // If the delta angle is negative I must invert the last two colors
-            if (deltaAngle < 0) {
-                ScArc.swapArrayPosition(colors, len - 2, len - 1);
-            }
-        }
-
-        // Create the matrix and rotate it
-        Matrix matrix = new Matrix();
-        matrix.preRotate(this.mAngleStart, area.centerX(), area.centerY());
-
-        // Create the gradient and apply the matrix
-        SweepGradient gradient = new SweepGradient(
-                area.centerX(), area.centerY(), colors, positions);
-        gradient.setLocalMatrix(matrix);
-
-        // Return the gradient
-        return gradient;
-    }
-
-    // Get the right paint shader by the case
-    private Shader getPaintShader(RectF area) {
-        // Check no values inside the array
-        if (this.mStrokeColors.length == 0)
-            return null;
-
-        // If have only one value set directly to the painter and return null
-        if (this.mStrokeColors.length == 1) {
-            this.mStrokePaint.setColor(this.mStrokeColors[0]);
-            return null;
-        }
-
-        // Select the draw colors method by the case
-        switch (this.mFillingColors) {
-            // Solid filling
-            case SOLID:
-                return this.createBitmapShader(area);
-
-            // Gradient filling
-            case GRADIENT:
-                return this.createSweepGradient(area);
-
-            // Else
-            default:
-                return null;
-        }
-    }
-
-
-    /**
-     * Area methods
-     */
-
-    // Calc the trimmed area.
-    // This is only an image of the arc dimensions inside the space, not contains the real arc
-    // dimensions but only a proportional representation.
-    // This method essentially hold the left/top padding and the arc width/height.
-    private RectF calcTrimmedArea() {
-        // Check for sweep angle.
-        // If 0 return and empty rectangle
-        if (this.mAngleSweep == 0.0f) return new RectF();
-
-        // Init the area rectangle with the inverted values that will be replaced with the real
-        // values.
-        RectF area = new RectF(1.0f, 1.0f, -1.0f, -1.0f);
-
-        // Calc the start and end angles in radians.
-        double startAngle = Math.toRadians(this.mAngleStart);
-        double endAngle = startAngle + Math.toRadians(this.mAngleSweep);
-
-        // Sort the angles to find the min and the max
-        double minAngle = startAngle < endAngle ? startAngle : endAngle;
-        double maxAngle = startAngle > endAngle ? startAngle : endAngle;
-
-        // Cycle all angles and compare the found sin and cos values for find the bounds of the
-        // area.
-        while (minAngle <= maxAngle) {
-            // Convert the current angle in radiant and find the sin and cos values
-            float sin = (float) Math.sin(minAngle);
-            float cos = (float) Math.cos(minAngle);
-
-            // Check the the precedents limits and update they if needed
-            if (cos < area.left) area.left = cos;
-            if (cos > area.right) area.right = cos;
-
-            if (sin < area.top) area.top = sin;
-            if (sin > area.bottom) area.bottom = sin;
-
-            // Increment the current angle
-            minAngle += 0.01;
-        }
-
-        // Return the area.
-        // Inside this could have an image of the trimmed area used to draw this arc.
-        return area;
-    }
-
-    // Calc starting area from width and height dimensions and apply padding.
-    private RectF calcCanvasArea(int width, int height) {
-        return new RectF(
+    // Apply the current padding and the layout wrapping to the renderer
+    @SuppressWarnings("all")
+    private void applyLayout() {
+        // Padding
+        this.mRenderer.setPadding(
                 this.getPaddingLeft(),
                 this.getPaddingTop(),
-                width - this.getPaddingRight(),
-                height - this.getPaddingBottom()
+                this.getPaddingRight(),
+                this.getPaddingBottom()
         );
-    }
 
-    // Calc complete circle drawing area.
-    // This methods calc the virtual drawing area not taking into consideration the many adjustments
-    // like the stroke size or the area padding.
-    private RectF calcDrawingArea(RectF startingArea) {
-        // Check for empty values
-        if (this.mTrimmedArea == null || this.mTrimmedArea.isEmpty()) return new RectF();
+        // Layout wrapping
+        ViewGroup.LayoutParams params = this.getLayoutParams();
+        this.mRenderer.setLayoutWrap(
+                params != null && params.width == ViewGroup.LayoutParams.WRAP_CONTENT,
+                params != null && params.height == ViewGroup.LayoutParams.WRAP_CONTENT
+        );
+    }
 
-        // Default working area calculated consider the padding and the stroke size
-        RectF newArea = new RectF(startingArea);
+    // Create the renderer.
+    // This is an important method can be override for future inherit class implementation.
+    protected ScArcRenderer createRenderer(Context context, AttributeSet attrs, int defStyle) {
+        return new ScArcRenderer(context, attrs, defStyle, this);
+    }
 
-        // Layout wrapping
-        boolean hWrap = this.getLayoutParams().width == ViewGroup.LayoutParams.WRAP_CONTENT;
-        boolean vWrap = this.getLayoutParams().height == ViewGroup.LayoutParams.WRAP_CONTENT;
-
-        // If fill the area expand the area to have the full filling working space with the arc.
-        // In the wrapping case the horizontal filling it is executed in anyway while the component
-        // dimension will be elaborated before inside the component measuring.
-        if (hWrap ||
-                this.mFillingArea == FillingArea.BOTH || this.mFillingArea == FillingArea.HORIZONTAL) {
-            // Find the multiplier based on the trimmed area and apply the proportion to the
-            // horizontal dimensions.
-            float hMultiplier = newArea.width() / this.mTrimmedArea.width();
-            float left = this.mTrimmedArea.left * hMultiplier;
-
-            // Apply the new values to the area and modify the horizontal offset
-            newArea.left = -hMultiplier;
-            newArea.right = hMultiplier;
-            newArea.offset(-left + this.getPaddingLeft(), 0);
-        }
-
-        // If fill the area expand the area to have the full filling working space with the arc
-        // In the wrapping case the vertical filling it is executed in anyway while the component
-        // dimension will be elaborated before inside the component measuring.
-        if (vWrap ||
-                this.mFillingArea == FillingArea.BOTH || this.mFillingArea == FillingArea.VERTICAL) {
-            // Find the multiplier based on the trimmed area and apply the proportion to the
-            // vertical dimensions.
-            float vMultiplier = newArea.height() / this.mTrimmedArea.height();
-            float top = this.mTrimmedArea.top * vMultiplier;
-
-            // Apply the new values to the area and modify the vertical offset
-            newArea.top = -vMultiplier;
-            newArea.bottom = vMultiplier;
-            newArea.offset(0, -top + this.getPaddingTop());
-        }
-
-        // Return the calculated area
-        return newArea;
-    }
-
-    // Draw arc on the canvas using the passed area reference
+    // Draw arc on the canvas using the passed area reference.
     // This is an important method can be override for future inherit class implementation.
+    // The renderer call it on every draw and by default the drawing is left to the renderer.
     protected void internalDraw(Canvas canvas, RectF area) {
-        // Check for null values
-        if (this.mStrokeSize > 0 || this.mStrokeType == StrokeTypes.FILLED_ARC) {
-            // Consider the stroke size and draw
-            canvas.drawArc(
-                    ScArc.inflateRect(area, this.mStrokeSize / 2),
-                    this.mAngleStart,
-                    this.mAngleDraw,
-                    this.mStrokeType != StrokeTypes.LINE,
-                    this.mStrokePaint);
-        }
+        this.mRenderer.internalDraw(canvas, area);
     }
 
+
     /**
      * Overrides
      */
 
-    // This method is used to calc the areas and filling it by call/set the right draw plan.
-    // Are to consider two type of draw:
-    //      DRAW ask to render simply on an area.
-    //      STRETCH before scale and transpose the canvas and after render on it using the default
-    //      render method.
+    // Draw the arc using the renderer
     @Override
     protected void onDraw(Canvas canvas) {
-        // Find the canvas and drawing area
-        RectF canvasArea = this.calcCanvasArea(canvas.getWidth(), canvas.getHeight());
-        RectF drawingArea = this.calcDrawingArea(canvasArea);
-
-        // Check if need to create a gradient
-        if (this.mStrokeColors != null) {
-            // Create the shader and apply it to the painter
-            this.mStrokePaint.setShader(this.getPaintShader(drawingArea));
-        }
-
-        // Define the painter style by the current stroke type
-        this.mStrokePaint.setStyle(
-                this.mStrokeType == StrokeTypes.FILLED_ARC ? Paint.Style.FILL_AND_STROKE : Paint.Style.STROKE
-        );
-
-        // Select the drawing mode by the case
-        switch (this.mFillingMode) {
-            // Draw
-            case DRAW:
-                // Draw the arc on the calculated drawing area
-                this.internalDraw(canvas, drawingArea);
-                break;
-
-            // Stretch
-            case STRETCH:
-                // Save the current canvas status
-                canvas.save();
-
-                // Translate and scale the canvas
-                canvas.translate(drawingArea.left, drawingArea.top);
-                canvas.scale(
-                        drawingArea.width() / canvasArea.width(),
-                        drawingArea.height() / canvasArea.height()
-                );
-
-                // Draw the arc on the reset canvas
-                canvasArea = ScArc.resetRectToOrigin(canvasArea);
-                this.internalDraw(canvas, canvasArea);
-
-                // Restore the last saved canvas status
-                canvas.restore();
-                break;
-        }
+        this.mRenderer.draw(canvas);
     }
 
     // On measure
     @Override
-    @SuppressWarnings("all")
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        // Calc the trimmed virtual area
-        this.mTrimmedArea = this.calcTrimmedArea();
+        // Record the duration if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        long startTime = metrics != null ? metrics.begin(ScWidgetMetrics.Phases.MEASURE) : 0;
 
-        // Get suggested dimensions
-        int width = View.getDefaultSize(this.getSuggestedMinimumWidth(), widthMeasureSpec);
-        int height = View.getDefaultSize(this.getSuggestedMinimumHeight(), heightMeasureSpec);
+        // The padding or the layout could be changed
+        this.applyLayout();
 
-        // Layout wrapping
-        boolean hWrap = this.getLayoutParams().width == ViewGroup.LayoutParams.WRAP_CONTENT;
-        boolean vWrap = this.getLayoutParams().height == ViewGroup.LayoutParams.WRAP_CONTENT;
+        // Measure the renderer and set the found dimensions
+        this.mRenderer.measure(widthMeasureSpec, heightMeasureSpec,
+                this.getSuggestedMinimumWidth(), this.getSuggestedMinimumHeight());
+        this.setMeasuredDimension(
+                this.mRenderer.getMeasuredWidth(), this.mRenderer.getMeasuredHeight());
 
-        // Find the horizontal and vertical global padding amount
-        float hGlobalPadding = this.getPaddingLeft() + this.getPaddingRight();
-        float vGlobalPadding = this.getPaddingTop() + this.getPaddingBottom();
+        // Close the record
+        if (metrics != null) metrics.end(ScWidgetMetrics.Phases.MEASURE, startTime);
+    }
 
-        // If have a horizontal wrap content we want to obtain a perfect circle radius so we must
-        // set the new height equal to the current width.
-        // For do this I must also consider the horizontal padding to remove before trimming the
-        // area and to add after trimmed.
-        if (hWrap) {
-            width = (int) ((height - hGlobalPadding) * (this.mTrimmedArea.width() / 2));
-            width += hGlobalPadding;
-        }
+    // Render metrics.
+    // Shared with the renderer for count the shader builds.
+    @Override
+    public void setMetrics(ScWidgetMetrics value) {
+        super.setMetrics(value);
+        this.mRenderer.setMetrics(value);
+    }
 
-        // If have a vertical wrap content we want to obtain a perfect circle radius so we must
-        // set the new width equal to the current height.
-        // For do this I must also consider the vertical padding to remove before trimming the
-        // area and to add after trimmed.
-        if (vWrap) {
-            height = (int) ((width - vGlobalPadding) * (this.mTrimmedArea.height() / 2));
-            height += vGlobalPadding;
-        }
+    // On padding changed
+    @Override
+    public void setPadding(int left, int top, int right, int bottom) {
+        super.setPadding(left, top, right, bottom);
+        // Check for null because some view methods can be called by the super constructor
+        if (this.mRenderer != null) this.applyLayout();
+    }
 
-        // Check the dimensions limits
-        width = this.valueRangeLimit(width, 0, this.mMaxWidth);
-        height = this.valueRangeLimit(height, 0, this.mMaxHeight);
+    // On layout params changed
+    @Override
+    public void setLayoutParams(ViewGroup.LayoutParams params) {
+        super.setLayoutParams(params);
+        if (this.mRenderer != null) this.applyLayout();
+    }
 
-        // Set the finded dimensions
-        this.setMeasuredDimension(width, height);
+    // On visibility changed
+    @Override
+    public void setVisibility(int visibility) {
+        super.setVisibility(visibility);
+        if (this.mRenderer != null) this.mRenderer.setVisible(visibility == ScArc.VISIBLE);
     }
 
 
@@ -582,17 +201,7 @@ public class ScArc extends ScWidget {
         Bundle state = new Bundle();
         // Save all starting from the parent state
         state.putParcelable("PARENT", superState);
-        state.putFloat("mAngleStart", this.mAngleStart);
-        state.putFloat("mAngleSweep", this.mAngleSweep);
-        state.putFloat("mAngleDraw", this.mAngleDraw);
-        state.putFloat("mStrokeSize", this.mStrokeSize);
-        state.putInt("mStrokeColor", this.mStrokeColor);
-        state.putInt("mStrokeType", this.mStrokeType.ordinal());
-        state.putInt("mMaxWidth", this.mMaxWidth);
-        state.putInt("mMaxHeight", this.mMaxHeight);
-        state.putInt("mFillingArea", this.mFillingArea.ordinal());
-        state.putInt("mFillingMode", this.mFillingMode.ordinal());
-        state.putInt("mFillingColors", this.mFillingColors.ordinal());
+        this.mRenderer.saveState(state);
 
         // Return the new state
         return state;
@@ -609,17 +218,7 @@ public class ScArc extends ScWidget {
         super.onRestoreInstanceState(superState);
 
         // Now can restore all the saved variables values
-        this.mAngleStart = savedState.getFloat("mAngleStart");
-        this.mAngleSweep = savedState.getFloat("mAngleSweep");
-        this.mAngleDraw = savedState.getFloat("mAngleDraw");
-        this.mStrokeSize = savedState.getFloat("mStrokeSize");
-        this.mStrokeColor = savedState.getInt("mStrokeColor");
-        this.mStrokeType = StrokeTypes.values()[savedState.getInt("mStrokeType")];
-        this.mMaxWidth = savedState.getInt("mMaxWidth");
-        this.mMaxHeight = savedState.getInt("mMaxHeight");
-        this.mFillingArea = FillingArea.values()[savedState.getInt("mFillingArea")];
-        this.mFillingMode = FillingMode.values()[savedState.getInt("mFillingMode")];
-        this.mFillingColors = FillingColors.values()[savedState.getInt("mFillingColors")];
+        this.mRenderer.restoreState(savedState);
     }
 
 
@@ -632,31 +231,38 @@ public class ScArc extends ScWidget {
     // This method work for negative and positive angle values.
     @SuppressWarnings("unused")
     public static float normalizeAngle(float degrees) {
-        return (degrees + (degrees < 0 ? -360.0f : +360.0f)) % 360.0f;
+        return ScGeometry.normalizeAngle(degrees);
     }
 
     // Check if point is inside a circle (Pitagora).
     // Supposed that the origin of the circle is 0, 0.
-    @SuppressWarnings("all")
+    @SuppressWarnings("unused")
     public static boolean pointInsideCircle(float x, float y, float radius) {
-        return Math.pow(x, 2) + Math.pow(y, 2) < Math.pow(radius, 2);
+        return ScGeometry.pointInsideCircle(x, y, radius);
     }
 
     // Find a point on the circumference inscribed in the passed area rectangle.
     // This angle is intended to be a global angle and if not subdue to any restriction.
-    @SuppressWarnings("unused")
-    public static Point getPointFromAngle(float degrees, RectF area) {
-        // Find the default arc radius
-        float xRadius = area.width() / 2;
-        float yRadius = area.height() / 2;
+    // The result will be written inside the passed point.
+    // If a trigonometry table is passed the sin and cos values will be read from it.
+    @SuppressWarnings("unused")
+    public static Point getPointFromAngle(float degrees, RectF area, Point point, ScTrigTable table) {
+        // Find the coordinates by the geometry, fill the point and return it
+        point.set(
+                ScGeometry.getPointX(degrees, area.centerX(), area.width() / 2, table),
+                ScGeometry.getPointY(degrees, area.centerY(), area.height() / 2, table)
+        );
+        return point;
+    }
 
-        // Convert the radius in radiant and find the coordinates in the space
-        double rad = Math.toRadians(degrees);
-        int x = Math.round(xRadius * (float) Math.cos(rad) + area.centerX());
-        int y = Math.round(yRadius * (float) Math.sin(rad) + area.centerY());
+    @SuppressWarnings("unused")
+    public static Point getPointFromAngle(float degrees, RectF area, Point point) {
+        return ScArc.getPointFromAngle(degrees, area, point, null);
+    }
 
-        // Create the point and return it
-        return new Point(x, y);
+    @SuppressWarnings("unused")
+    public static Point getPointFromAngle(float degrees, RectF area) {
+        return ScArc.getPointFromAngle(degrees, area, new Point());
     }
 
     // The area filling types.
@@ -698,31 +304,35 @@ public class ScArc extends ScWidget {
      * Public methods
      */
 
+    // Get the renderer that draw this arc
+    @SuppressWarnings("unused")
+    public ScArcRenderer getRenderer() {
+        return this.mRenderer;
+    }
+
     // Get the arc painter
     @SuppressWarnings("unused")
     public Paint getPainter() {
-        return this.mStrokePaint;
+        return this.mRenderer.getPainter();
     }
 
     // Calc point position from relative angle in degrees.
     // Note that the angle must be relative to the start angle defined by the component settings
     // and not intended as a global angle.
+    // The result will be written inside the passed point.
     @SuppressWarnings("unused")
-    public Point getPointFromAngle(float degrees, float radiusAdjust) {
-        // Get the drawing area
-        RectF canvasArea = this.calcCanvasArea(this.getMeasuredWidth(), this.getMeasuredHeight());
-        RectF drawingArea = this.calcDrawingArea(canvasArea);
-        // Adjust the area by the passed value and the half stroke size
-        RectF adjustedArea = ScArc.inflateRect(drawingArea, radiusAdjust + this.mStrokeSize / 2);
+    public Point getPointFromAngle(float degrees, float radiusAdjust, Point point) {
+        return this.mRenderer.getPointFromAngle(degrees, radiusAdjust, point);
+    }
 
-        // Create the point by the angle relative at the start angle defined in the component
-        // settings and return it.
-        return ScArc.getPointFromAngle(degrees + this.mAngleStart, adjustedArea);
+    @SuppressWarnings("unused")
+    public Point getPointFromAngle(float degrees, float radiusAdjust) {
+        return this.mRenderer.getPointFromAngle(degrees, radiusAdjust);
     }
 
     @SuppressWarnings("unused")
     public Point getPointFromAngle(float degrees) {
-        return this.getPointFromAngle(degrees, 0.0f);
+        return this.mRenderer.getPointFromAngle(degrees);
     }
 
     // Find the angle from position on the component.
@@ -730,37 +340,18 @@ public class ScArc extends ScWidget {
     // this limits.
     @SuppressWarnings("unused")
     public float getAngleFromPoint(float x, float y) {
-        // Get the drawing area
-        RectF canvasArea = this.calcCanvasArea(this.getMeasuredWidth(), this.getMeasuredHeight());
-        RectF drawingArea = this.calcDrawingArea(canvasArea);
-
-        // Get angle from position
-        double angle = Math.atan2(
-                (y - drawingArea.centerY()) / drawingArea.height(),
-                (x - drawingArea.centerX()) / drawingArea.width()
-        );
-
-        // Normalize the degrees angle by the start angle defined by component settings.
-        float degrees = (float) Math.toDegrees(angle) - this.mAngleStart;
-        // Check the angle limit and return the checked value
-        return this.angleRangeLimit(degrees, 0, this.mAngleSweep);
+        return this.mRenderer.getAngleFromPoint(x, y);
     }
 
     // Check if a point belongs to the arc
     @SuppressWarnings("unused")
     public boolean belongsToArc(float x, float y, float precision) {
-        // Find the angle from the passed point and get the point on the arc
-        float angle = this.getAngleFromPoint(x, y);
-        Point pointOnArc = this.getPointFromAngle(angle);
-
-        // Find the delta distance between the points and check if is inside a circle build on
-        // the precision radius.
-        return ScArc.pointInsideCircle(x - pointOnArc.x, y - pointOnArc.y, precision);
+        return this.mRenderer.belongsToArc(x, y, precision);
     }
 
     @SuppressWarnings("unused")
     public boolean belongsToArc(float x, float y) {
-        return this.belongsToArc(x, y, this.mStrokeSize);
+        return this.mRenderer.belongsToArc(x, y);
     }
 
     // Get the distance from center passed an angle or a point.
@@ -768,58 +359,23 @@ public class ScArc extends ScWidget {
     // calculate the distance from center.
     @SuppressWarnings("unused")
     public float getDistanceFromCenter(float x, float y) {
-        // Get the drawing area
-        RectF canvasArea = this.calcCanvasArea(this.getMeasuredWidth(), this.getMeasuredHeight());
-        RectF drawingArea = this.calcDrawingArea(canvasArea);
-
-        // Return the calculated distance
-        return (float) Math.sqrt(
-                Math.pow(x - drawingArea.centerX(), 2) + Math.pow(y - drawingArea.centerY(), 2)
-        );
+        return this.mRenderer.getDistanceFromCenter(x, y);
     }
 
     @SuppressWarnings("unused")
     public float getDistanceFromCenter(float degrees) {
-        // Find the point on the arc
-        Point point = this.getPointFromAngle(degrees);
-        // Find the distance
-        return this.getDistanceFromCenter(point.x, point.y);
+        return this.mRenderer.getDistanceFromCenter(degrees);
     }
 
     // Get the current gradient color by the current draw angle
     @SuppressWarnings("unused")
     public int getCurrentGradientColor(float angle) {
-        // Check if have colors settled
-        if (this.mStrokeColors == null) return Color.TRANSPARENT;
-
-        // Limit the passed angle
-        angle = ScArc.valueRangeLimit(angle, 0, this.mAngleSweep);
-
-        // Check the limits
-        if (angle == this.mAngleSweep)
-            return this.mStrokeColors[this.mStrokeColors.length - 1];
-        if (angle == 0)
-            return this.mStrokeColors[0];
-
-        // Find the delta angle and the sector
-        float deltaAngle = this.mAngleSweep / this.mStrokeColors.length;
-        int sector = Math.round(angle / deltaAngle);
-
-        // Reduce the angle to be relative to the sector and find the fraction
-        float sectorAngle = angle - sector * deltaAngle;
-        float fraction = sectorAngle / deltaAngle;
-
-        // First color and last color
-        int firstColor = this.mStrokeColors[sector];
-        int lastColor = this.mStrokeColors[sector + 1];
-
-        // Return the color
-        return (int) new ArgbEvaluator().evaluate(fraction, firstColor, lastColor);
+        return this.mRenderer.getCurrentGradientColor(angle);
     }
 
     @SuppressWarnings("unused")
     public int getCurrentGradientColor() {
-        return this.getCurrentGradientColor(this.mAngleDraw);
+        return this.mRenderer.getCurrentGradientColor();
     }
 
 
@@ -830,207 +386,171 @@ public class ScArc extends ScWidget {
     // Start angle
     @SuppressWarnings("unused")
     public float getAngleStart() {
-        return this.mAngleStart;
+        return this.mRenderer.getAngleStart();
     }
 
     @SuppressWarnings("unused")
     public void setAngleStart(float value) {
-        // Check if value is changed
-        if (this.mAngleStart != value) {
-            // Store the new value
-            this.mAngleStart = value;
-            // Check and refresh the component
-            this.checkValues();
-            this.requestLayout();
-        }
+        this.mRenderer.setAngleStart(value);
     }
 
     // Sweep angle
     @SuppressWarnings("unused")
     public float getAngleSweep() {
-        return this.mAngleSweep;
+        return this.mRenderer.getAngleSweep();
     }
 
     @SuppressWarnings("unused")
     public void setAngleSweep(float value) {
-        // Check if value is changed
-        if (this.mAngleSweep != value) {
-            // Store the new value
-            this.mAngleDraw = this.mAngleSweep == this.mAngleDraw ? value : this.mAngleDraw;
-            this.mAngleSweep = value;
-            // Check and refresh
-            this.checkValues();
-            this.requestLayout();
-        }
+        this.mRenderer.setAngleSweep(value);
     }
 
     // Draw angle
     @SuppressWarnings("unused")
     public float getAngleDraw() {
-        return this.mAngleDraw;
+        return this.mRenderer.getAngleDraw();
     }
 
     @SuppressWarnings("unused")
     public void setAngleDraw(float value) {
-        // Check if value is changed
-        if (this.mAngleDraw != value) {
-            // Store the new value
-            this.mAngleDraw = value;
-            // Check and refresh
-            this.checkValues();
-            this.invalidate();
-        }
+        this.mRenderer.setAngleDraw(value);
     }
 
     // Stroke size
     @SuppressWarnings("unused")
     public float getStrokeSize() {
-        return this.mStrokeSize;
+        return this.mRenderer.getStrokeSize();
     }
 
     @SuppressWarnings("unused")
     public void setStrokeSize(float value) {
-        // Check if value is changed
-        if (this.mStrokeSize != value) {
-            // Store the new value and check it
-            this.mStrokeSize = value;
-            this.checkValues();
-            // Fix the painter and refresh the component
-            this.mStrokePaint.setStrokeWidth(this.mStrokeSize);
-            this.requestLayout();
-        }
+        this.mRenderer.setStrokeSize(value);
     }
 
     // Stroke color
     @SuppressWarnings("unused")
     public int getStrokeColor() {
-        return this.mStrokeColor;
+        return this.mRenderer.getStrokeColor();
     }
 
     @SuppressWarnings("unused")
     public void setStrokeColor(int value) {
-        // Check if value is changed
-        if (this.mStrokeColor != value) {
-            // Store the new value and reset the other
-            this.mStrokeColor = value;
-            this.mStrokeColors = null;
-            // Fix the painter and refresh the component
-            this.mStrokePaint.setColor(this.mStrokeColor);
-            this.invalidate();
-        }
+        this.mRenderer.setStrokeColor(value);
     }
 
     // Create a gradient color and apply it to the stroke
     @SuppressWarnings("unused")
     public int[] getStrokesColors() {
-        return this.mStrokeColors;
+        return this.mRenderer.getStrokesColors();
     }
 
     @SuppressWarnings("unused")
     public void setStrokeColors(int... values) {
-        // Save the new value and refresh
-        this.mStrokeColors = values;
-        this.invalidate();
+        this.mRenderer.setStrokeColors(values);
     }
 
     // Stroke type
     @SuppressWarnings("unused")
     public StrokeTypes getStrokeType() {
-        return this.mStrokeType;
+        return this.mRenderer.getStrokeType();
     }
 
     @SuppressWarnings("unused")
     public void setStrokeType(StrokeTypes value) {
-        // Check if value is changed
-        if (this.mStrokeType != value) {
-            // Store the new value and refresh the component
-            this.mStrokeType = value;
-            this.invalidate();
-        }
+        this.mRenderer.setStrokeType(value);
     }
 
     // Max width
     @SuppressWarnings("unused")
     public int getMaxWidth() {
-        return this.mMaxWidth;
+        return this.mRenderer.getMaxWidth();
     }
 
     @SuppressWarnings("unused")
     public void setMaxWidth(int value) {
-        // Check if value is changed
-        if (this.mMaxWidth != value) {
-            // Store the new value
-            this.mMaxWidth = value;
-            // Check and refresh the component
-            this.checkValues();
-            this.requestLayout();
-        }
+        this.mRenderer.setMaxWidth(value);
     }
 
     // Max height
     @SuppressWarnings("unused")
     public int getMaxHeight() {
-        return this.mMaxHeight;
+        return this.mRenderer.getMaxHeight();
     }
 
     @SuppressWarnings("unused")
     public void setMaxHeight(int value) {
-        // Check if value is changed
-        if (this.mMaxHeight != value) {
-            // Store the new value
-            this.mMaxHeight = value;
-            // Check and refresh the component
-            this.checkValues();
-            this.requestLayout();
-        }
+        this.mRenderer.setMaxHeight(value);
     }
 
     // Area filling type
     @SuppressWarnings("unused")
     public FillingArea getFillingArea() {
-        return this.mFillingArea;
+        return this.mRenderer.getFillingArea();
     }
 
     @SuppressWarnings("unused")
     public void setFillingArea(FillingArea value) {
-        // Check if value is changed
-        if (this.mFillingArea != value) {
-            // Store the new value and refresh the component
-            this.mFillingArea = value;
-            this.invalidate();
-        }
+        this.mRenderer.setFillingArea(value);
     }
 
     // Area filling mode
     @SuppressWarnings("unused")
     public FillingMode getFillingMode() {
-        return this.mFillingMode;
+        return this.mRenderer.getFillingMode();
     }
 
     @SuppressWarnings("unused")
     public void setFillingMode(FillingMode value) {
-        // Check if value is changed
-        if (this.mFillingMode != value) {
-            // Store the new value and refresh the component
-            this.mFillingMode = value;
-            this.invalidate();
-        }
+        this.mRenderer.setFillingMode(value);
+    }
+
+    // Colors table size.
+    // The number of entries of the table used for find the current gradient color.
+    @SuppressWarnings("unused")
+    public int getColorsTableSize() {
+        return this.mRenderer.getColorsTableSize();
+    }
+
+    @SuppressWarnings("unused")
+    public void setColorsTableSize(int value) {
+        this.mRenderer.setColorsTableSize(value);
+    }
+
+    // Dirty margin.
+    // When the draw angle change only the changed sector is drawn again and this margin is
+    // added around it.
+    @SuppressWarnings("unused")
+    public float getDirtyMargin() {
+        return this.mRenderer.getDirtyMargin();
+    }
+
+    @SuppressWarnings("unused")
+    public void setDirtyMargin(float value) {
+        this.mRenderer.setDirtyMargin(value);
+    }
+
+    // Trigonometry table.
+    // If settled the points on the arc will be found using the table instead of the Math
+    // methods. Pass null for use the Math methods.
+    @SuppressWarnings("unused")
+    public ScTrigTable getTrigTable() {
+        return this.mRenderer.getTrigTable();
+    }
+
+    @SuppressWarnings("unused")
+    public void setTrigTable(ScTrigTable value) {
+        this.mRenderer.setTrigTable(value);
     }
 
     // Colors filling mode
     @SuppressWarnings("unused")
     public FillingColors getFillingColors() {
-        return this.mFillingColors;
+        return this.mRenderer.getFillingColors();
     }
 
     @SuppressWarnings("unused")
     public void setFillingColors(FillingColors value) {
-        // Check if value is changed
-        if (this.mFillingColors != value) {
-            // Store the new value and refresh the component
-            this.mFillingColors = value;
-            this.invalidate();
-        }
+        this.mRenderer.setFillingColors(value);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,1573 @@
+package com.sccomponents.widgets;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.SweepGradient;
+import android.os.Bundle;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.sccomponents.widgets.geometry.ScGeometry;
+
+import java.util.Arrays;
+
+/**
+ * Draw an arc.
+ * <p/>
+ * This class contain the geometry and the paint of the arc but is not a View, so can be measured
+ * and drawn directly by any host view. The host is notified when the arc need to be drawn again
+ * or measured again.
+ * The ScArc view is a thin wrapper around this class.
+ * v1.0.0
+ */
+public class ScArcRenderer {
+
+    /**
+     * Private attributes
+     */
+
+    protected float mAngleStart;
+    protected float mAngleSweep;
+    protected float mAngleDraw;
+
+    protected float mStrokeSize;
+    protected int mStrokeColor;
+    protected ScArc.StrokeTypes mStrokeType;
+
+    protected int mMaxWidth;
+    protected int mMaxHeight;
+
+    protected ScArc.FillingArea mFillingArea;
+    protected ScArc.FillingMode mFillingMode;
+    protected ScArc.FillingColors mFillingColors;
+
+
+    /**
+     * Private variables
+     */
+
+    private Host mHost;
+    private ScArc mView;
+
+    private int mPaddingLeft;
+    private int mPaddingTop;
+    private int mPaddingRight;
+    private int mPaddingBottom;
+    private boolean mHorizontalWrap;
+    private boolean mVerticalWrap;
+    private int mMeasuredWidth;
+    private int mMeasuredHeight;
+    private boolean mVisible;
+
+    private int[] mStrokeColors;
+    private ScTrigTable mTrigTable;
+    private RectF mTrimmedArea;
+    private boolean mTrimmedAreaInvalid;
+
+    private Paint mStrokePaint;
+
+    private Shader mShader;
+    private RectF mShaderArea;
+    private boolean mShaderInvalid;
+    private Matrix mShaderMatrix;
+
+    private int[] mStopsColors;
+    private float[] mStopsPositions;
+
+    private int[] mColorsTable;
+    private int mColorsTableSize;
+    private boolean mColorsTableInvalid;
+
+    private Geometry mGeometry;
+
+    private RectF mDrawArea;
+    private RectF mStretchArea;
+
+    private RectF mQueryArea;
+    private Point mQueryPoint;
+
+    private float mDirtyMargin;
+
+    private ScWidgetMetrics mMetrics;
+    private RectF mDirtyArea;
+    private Rect mDirtyRect;
+
+    private float[] mGeometryArea;
+    private float[] mGeometryTrimmedArea;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScArcRenderer(Context context, AttributeSet attrs, int defStyle, Host host) {
+        this.mHost = host;
+        this.init(context, attrs, defStyle);
+    }
+
+    public ScArcRenderer(Context context, Host host) {
+        this(context, null, 0, host);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Check all input values if over the limits
+    private void checkValues() {
+        // Size
+        if (this.mStrokeSize < 0.0f) this.mStrokeSize = 0.0f;
+
+        // Angle
+        if (Math.abs(this.mAngleSweep) > ScArc.DEFAULT_ANGLE_MAX)
+            this.mAngleSweep = ScArc.normalizeAngle(this.mAngleSweep);
+        if (Math.abs(this.mAngleDraw) > ScArc.DEFAULT_ANGLE_MAX)
+            this.mAngleDraw = ScArc.normalizeAngle(this.mAngleDraw);
+
+        // Dimension
+        if (this.mMaxWidth < 0) this.mMaxWidth = 0;
+        if (this.mMaxHeight < 0) this.mMaxHeight = 0;
+
+        // Check the draw angle limits
+        this.mAngleDraw = ScWidget.valueRangeLimit(this.mAngleDraw, 0, this.mAngleSweep);
+    }
+
+    // Init the renderer.
+    // Retrieve all attributes with the default values if needed.
+    // Check the values for internal use and create the painter.
+    private void init(Context context, AttributeSet attrs, int defStyle) {
+        //--------------------------------------------------
+        // ATTRIBUTES
+
+        // Get the attributes list
+        final TypedArray attrArray = context.obtainStyledAttributes(attrs, R.styleable.ScComponents, defStyle, 0);
+
+        // Read all attributes from xml and assign the value to linked variables
+        this.mAngleStart = attrArray.getFloat(
+                R.styleable.ScComponents_scc_angle_start, ScArc.DEFAULT_ANGLE_START);
+        this.mAngleSweep = attrArray.getFloat(
+                R.styleable.ScComponents_scc_angle_sweep, ScArc.DEFAULT_ANGLE_SWEEP);
+        this.mAngleDraw = attrArray.getFloat(
+                R.styleable.ScComponents_scc_angle_draw, this.mAngleSweep);
+
+        this.mStrokeSize = attrArray.getDimension(
+                R.styleable.ScComponents_scc_stroke_size,
+                ScWidget.dipToPixel(context, ScArc.DEFAULT_STROKE_SIZE));
+        this.mStrokeColor = attrArray.getColor(
+                R.styleable.ScComponents_scc_stroke_color, ScArc.DEFAULT_STROKE_COLOR);
+        // StrokeTypes.LINE
+        this.mStrokeType =
+                ScArc.StrokeTypes.values()[attrArray.getInt(R.styleable.ScComponents_scc_stroke_type, 0)];
+
+        this.mMaxWidth = attrArray.getDimensionPixelSize(
+                R.styleable.ScComponents_scc_max_width, Integer.MAX_VALUE);
+        this.mMaxHeight = attrArray.getDimensionPixelSize(
+                R.styleable.ScComponents_scc_max_height, Integer.MAX_VALUE);
+
+        // FillingArea.BOTH
+        this.mFillingArea =
+                ScArc.FillingArea.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_area, 1)];
+        // FillingMode.DRAW
+        this.mFillingMode =
+                ScArc.FillingMode.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_mode, 1)];
+        // FillingColors.GRADIENT
+        this.mFillingColors =
+                ScArc.FillingColors.values()[attrArray.getInt(R.styleable.ScComponents_scc_fill_colors, 1)];
+
+        // Recycle
+        attrArray.recycle();
+
+        //--------------------------------------------------
+        // INTERNAL
+
+        this.checkValues();
+        this.mVisible = true;
+
+        //--------------------------------------------------
+        // PAINTS
+
+        this.mStrokePaint = new Paint();
+        this.mStrokePaint.setColor(this.mStrokeColor);
+        this.mStrokePaint.setAntiAlias(true);
+        this.mStrokePaint.setStrokeWidth(this.mStrokeSize);
+        this.mStrokePaint.setStyle(Paint.Style.STROKE);
+        this.mStrokePaint.setStrokeCap(Paint.Cap.BUTT);
+
+        //--------------------------------------------------
+        // TRIMMED AREA
+
+        // Calculated only when the angles change
+        this.mTrimmedArea = new RectF();
+        this.mTrimmedAreaInvalid = true;
+
+        //--------------------------------------------------
+        // SHADER CACHE
+
+        this.mShaderArea = new RectF();
+        this.mShaderInvalid = true;
+        this.mShaderMatrix = new Matrix();
+
+        //--------------------------------------------------
+        // COLORS TABLE
+
+        // Calculated only when the colors, the sweep angle or the colors filling mode change
+        this.mColorsTableSize = ScArc.DEFAULT_COLORS_TABLE_SIZE;
+        this.mColorsTableInvalid = true;
+
+        //--------------------------------------------------
+        // SCRATCH OBJECTS
+
+        // Used only inside the draw path for not allocate new objects on every frame
+        this.mDrawArea = new RectF();
+        this.mStretchArea = new RectF();
+
+        // Used only inside the geometry query methods
+        this.mQueryArea = new RectF();
+        this.mQueryPoint = new Point();
+
+        // Used only for find the dirty region when the draw angle change
+        this.mDirtyArea = new RectF();
+        this.mDirtyRect = new Rect();
+
+        // Used only for exchange the areas with the geometry core
+        this.mGeometryArea = new float[4];
+        this.mGeometryTrimmedArea = new float[4];
+
+        //--------------------------------------------------
+        // GEOMETRY
+
+        // Calculated only when the size or the settings that affect the areas change
+        this.mGeometry = new Geometry();
+    }
+
+    // Create a sweep gradient shader with hard edges.
+    // If the colors filling mode is SOLID we cannot blend the colors but we must separate colors
+    // each other. For do it every sector have two stops with the same color and the next sector
+    // start at the same position, so the gradient change color without blending.
+    // Fix a visual filling issue when use a stroke cap type different from BUTT: the space
+    // outside the arc is split in half between the last and the first color.
+    private SweepGradient createSolidGradient(RectF area) {
+        // Get the colors and the sweep as fraction of the circle
+        int count = this.mStrokeColors.length;
+        int firstColor = this.mStrokeColors[0];
+        int lastColor = this.mStrokeColors[count - 1];
+        float sweep = this.mAngleSweep / ScArc.DEFAULT_ANGLE_MAX;
+        boolean closed = Math.abs(sweep) >= 1.0f;
+
+        // Create the stops holders
+        int len = count * 2 + (closed ? 0 : 4);
+        int[] colors = new int[len];
+        float[] positions = new float[len];
+        int stop = 0;
+
+        // Positive sweep: the sectors start from zero and the space outside follow the arc
+        if (sweep >= 0) {
+            for (int index = 0; index < count; index++) {
+                positions[stop] = sweep * index / count;
+                colors[stop++] = this.mStrokeColors[index];
+                positions[stop] = sweep * (index + 1) / count;
+                colors[stop++] = this.mStrokeColors[index];
+            }
+
+            if (!closed) {
+                float middle = (sweep + 1.0f) / 2;
+                positions[stop] = middle;
+                colors[stop++] = lastColor;
+                positions[stop] = middle;
+                colors[stop++] = firstColor;
+                positions[stop] = 1.0f;
+                colors[stop] = firstColor;
+            }
+
+        } else {
+            // Negative sweep: the arc end to the circle end so the space outside come first
+            float end = 1.0f + sweep;
+            if (!closed) {
+                positions[stop] = 0.0f;
+                colors[stop++] = firstColor;
+                positions[stop] = end / 2;
+                colors[stop++] = firstColor;
+                positions[stop] = end / 2;
+                colors[stop++] = lastColor;
+                positions[stop] = end;
+                colors[stop++] = lastColor;
+            }
+
+            for (int index = count - 1; index >= 0; index--) {
+                positions[stop] = 1.0f + sweep * (index + 1) / count;
+                colors[stop++] = this.mStrokeColors[index];
+                positions[stop] = 1.0f + sweep * index / count;
+                colors[stop++] = this.mStrokeColors[index];
+            }
+        }
+
+        // Reset the matrix and rotate it
+        Matrix matrix = this.mShaderMatrix;
+        matrix.reset();
+        matrix.preRotate(this.mAngleStart, area.centerX(), area.centerY());
+
+        // Create the gradient and apply the matrix
+        SweepGradient gradient = new SweepGradient(
+                area.centerX(), area.centerY(), colors, positions);
+        gradient.setLocalMatrix(matrix);
+
+        // Return the gradient
+        return gradient;
+    }
+
+    // Calculate the stops (colors and positions) of the sweep gradient.
+    // Since the sweep angle can be minor of 360° we must create an array storing the colors
+    // position respect to the arc (sectors).
+    // The stops are shared by the sweep gradient shader and the colors table so the colors
+    // found by the table are the same of the drawn ones.
+    private void calcGradientStops() {
+        // Create a copy of colors because not want lost the original values
+        int[] colors = Arrays.copyOf(this.mStrokeColors, this.mStrokeColors.length);
+        // Create a positions holder and get the delta angle from the colors count.
+        float[] positions = new float[colors.length];
+        float deltaAngle = Math.abs(this.mAngleSweep / (colors.length - 1));
+
+        // Fill the positions holder
+        for (int index = 0; index < colors.length; index++) {
+            positions[index] = index * (deltaAngle / 360.0f);
+        }
+
+        // Fix a visual filling issue when use a stroke cap type different from BUTT
+        float toClose = 1 - positions[positions.length - 1];
+        if (toClose > 0) {
+            // Hold the new length
+            int len = positions.length + 2;
+
+            // Resize the positions the array and insert the missed values
+            positions = Arrays.copyOf(positions, len);
+            positions[len - 2] = 1.0f - (toClose / 3) * 2;
+            positions[len - 1] = 1.0f - (toClose / 3) * 1;
+
+            // Resize then colors array and insert the last and first color
+            colors = Arrays.copyOf(colors, len);
+            colors[len - 2] = colors[len - 3];
+            colors[len - 1] = colors[0];
+
+            // If the delta angle is negative I must invert the last two colors
+            if (deltaAngle < 0) {
+                ScWidget.swapArrayPosition(colors, len - 2, len - 1);
+            }
+        }
+
+        // Hold the stops
+        this.mStopsColors = colors;
+        this.mStopsPositions = positions;
+    }
+
+    // Create a sweep gradient shader
+    private SweepGradient createSweepGradient(RectF area) {
+        // Calculate the gradient stops
+        this.calcGradientStops();
+
+        // Reset the matrix and rotate it
+        Matrix matrix = this.mShaderMatrix;
+        matrix.reset();
+        matrix.preRotate(this.mAngleStart, area.centerX(), area.centerY());
+
+        // Create the gradient and apply the matrix
+        SweepGradient gradient = new SweepGradient(
+                area.centerX(), area.centerY(), this.mStopsColors, this.mStopsPositions);
+        gradient.setLocalMatrix(matrix);
+
+        // Return the gradient
+        return gradient;
+    }
+
+    // Release the cached shader.
+    // After this call the shader will be rebuilt on the next draw.
+    private void releaseShader() {
+        // Reset the shader and invalidate the cache
+        this.mShader = null;
+        this.mShaderInvalid = true;
+    }
+
+    // Get the paint shader from the cache.
+    // The shader will be created again only if the drawing area is changed or if one of the
+    // inputs used to build it (angles, colors and colors filling mode) was changed by the setters.
+    private Shader getPaintShader(RectF area) {
+        // Check if the cached shader is still valid
+        if (!this.mShaderInvalid && this.mShaderArea.equals(area)) {
+            return this.mShader;
+        }
+
+        // Release the old shader and create the new one
+        this.releaseShader();
+        this.mShader = this.createPaintShader(area);
+        if (this.mMetrics != null) this.mMetrics.count(ScWidgetMetrics.Counters.SHADER_BUILD);
+
+        // Hold the area used to build it and validate the cache
+        this.mShaderArea.set(area);
+        this.mShaderInvalid = false;
+
+        // Return the new shader
+        return this.mShader;
+    }
+
+    // Interpolate linearly two colors channel by channel
+    private static int interpolateColor(int startColor, int endColor, float fraction) {
+        // Get the starting channels
+        int alpha = Color.alpha(startColor);
+        int red = Color.red(startColor);
+        int green = Color.green(startColor);
+        int blue = Color.blue(startColor);
+
+        // Interpolate and return the color
+        return Color.argb(
+                alpha + Math.round(fraction * (Color.alpha(endColor) - alpha)),
+                red + Math.round(fraction * (Color.red(endColor) - red)),
+                green + Math.round(fraction * (Color.green(endColor) - green)),
+                blue + Math.round(fraction * (Color.blue(endColor) - blue))
+        );
+    }
+
+    // Find the color of the gradient stops at the passed position (0 - 1).
+    // Like the sweep gradient the color is interpolated between the two nearest stops and is
+    // clamped before the first stop and after the last one.
+    private int getStopsColor(float position) {
+        // Check the limits
+        int last = this.mStopsPositions.length - 1;
+        if (position <= this.mStopsPositions[0]) return this.mStopsColors[0];
+        if (position >= this.mStopsPositions[last]) return this.mStopsColors[last];
+
+        // Find the first stop after the position
+        int index = 1;
+        while (this.mStopsPositions[index] < position) index++;
+
+        // Find the fraction between the two stops and interpolate the colors
+        float startPosition = this.mStopsPositions[index - 1];
+        float fraction = (position - startPosition) / (this.mStopsPositions[index] - startPosition);
+        return ScArcRenderer.interpolateColor(
+                this.mStopsColors[index - 1], this.mStopsColors[index], fraction);
+    }
+
+    // Build the gradient colors table.
+    // Every entry hold the color drawn by the sweep gradient at the relative angle
+    // index * sweep / (size - 1) so the current gradient color can be found without calculation.
+    // The table array is reused if the size not change.
+    private void buildColorsTable() {
+        // Check if the table must be created again
+        if (this.mColorsTable == null || this.mColorsTable.length != this.mColorsTableSize) {
+            this.mColorsTable = new int[this.mColorsTableSize];
+        }
+
+        // Calculate the gradient stops
+        this.calcGradientStops();
+
+        // Fill the table
+        int last = this.mColorsTable.length - 1;
+        for (int index = 0; index <= last; index++) {
+            // Find the position on the sweep gradient.
+            // The gradient start from the start angle so a negative angle is at the end of it.
+            float position = (this.mAngleSweep * index / last) / ScArc.DEFAULT_ANGLE_MAX;
+            if (position < 0) position += 1.0f;
+
+            // Store the color
+            this.mColorsTable[index] = this.getStopsColor(position);
+        }
+
+        // Validate the table
+        this.mColorsTableInvalid = false;
+    }
+
+    // Create the right paint shader by the case
+    private Shader createPaintShader(RectF area) {
+        // Check no values inside the array
+        if (this.mStrokeColors.length == 0)
+            return null;
+
+        // If have only one value set directly to the painter and return null
+        if (this.mStrokeColors.length == 1) {
+            this.mStrokePaint.setColor(this.mStrokeColors[0]);
+            return null;
+        }
+
+        // Select the draw colors method by the case
+        switch (this.mFillingColors) {
+            // Solid filling
+            case SOLID:
+                return this.createSolidGradient(area);
+
+            // Gradient filling
+            case GRADIENT:
+                return this.createSweepGradient(area);
+
+            // Else
+            default:
+                return null;
+        }
+    }
+
+    // Notify the host that the arc must be drawn again
+    protected void invalidate() {
+        if (this.mHost != null) this.mHost.invalidate();
+    }
+
+    // Notify the host that the arc must be measured again
+    protected void requestLayout() {
+        if (this.mHost != null) this.mHost.requestLayout();
+    }
+
+    // Notify the host that only the sector between the two angles must be drawn again.
+    // If the sector bounds cannot be found the host will be drawn again completely.
+    private void invalidateSector(float startAngle, float endAngle) {
+        // Check for the host
+        if (this.mHost == null) return;
+
+        // Find the dirty region and invalidate
+        if (this.getSectorBounds(startAngle, endAngle, this.mDirtyMargin, this.mDirtyRect))
+            this.mHost.invalidate(this.mDirtyRect);
+        else
+            this.mHost.invalidate();
+    }
+
+    // The thickness of the drawing around the arc path.
+    // Used for widen the sector bounds and can be override if the inherited class draw outside
+    // the stroke.
+    protected float getDrawingThickness() {
+        return this.mStrokeSize;
+    }
+
+
+    /**
+     * Area methods
+     */
+
+    // Calc the bounds of an arc on the unit circle between two global angles.
+    // The bounds are found considering the arc ends and all the quadrant crossing (0°, 90°, 180°
+    // and 270°) that fall inside the sweep.
+    // The result will be written inside the destination rectangle.
+    private RectF calcUnitArcBounds(float startAngle, float endAngle, RectF area) {
+        return ScArcRenderer.toRect(
+                ScGeometry.calcUnitArcBounds(startAngle, endAngle, this.mGeometryArea), area);
+    }
+
+    // Copy a rectangle inside a geometry area
+    private static float[] toArea(RectF rect, float[] dest) {
+        return ScGeometry.setArea(rect.left, rect.top, rect.right, rect.bottom, dest);
+    }
+
+    // Copy a geometry area inside a rectangle
+    private static RectF toRect(float[] area, RectF dest) {
+        dest.set(
+                area[ScGeometry.LEFT], area[ScGeometry.TOP],
+                area[ScGeometry.RIGHT], area[ScGeometry.BOTTOM]
+        );
+        return dest;
+    }
+
+    // Calc the trimmed area.
+    // This is only an image of the arc dimensions inside the space, not contains the real arc
+    // dimensions but only a proportional representation.
+    // This method essentially hold the left/top padding and the arc width/height.
+    private RectF calcTrimmedArea(RectF area) {
+        // Check for sweep angle.
+        // If 0 return and empty rectangle
+        if (this.mAngleSweep == 0.0f) {
+            area.setEmpty();
+            return area;
+        }
+
+        // Return the area.
+        // Inside this could have an image of the trimmed area used to draw this arc.
+        return this.calcUnitArcBounds(
+                this.mAngleStart, this.mAngleStart + this.mAngleSweep, area);
+    }
+
+    // Calc starting area from width and height dimensions and apply padding.
+    // The result will be written inside the destination rectangle.
+    private RectF calcCanvasArea(int width, int height, RectF dest) {
+        dest.set(
+                this.mPaddingLeft,
+                this.mPaddingTop,
+                width - this.mPaddingRight,
+                height - this.mPaddingBottom
+        );
+        return dest;
+    }
+
+    // Calc complete circle drawing area.
+    // This methods calc the virtual drawing area not taking into consideration the many adjustments
+    // like the stroke size or the area padding.
+    // The result will be written inside the destination rectangle.
+    private RectF calcDrawingArea(RectF startingArea, RectF dest) {
+        // If fill the area expand the area to have the full filling working space with the arc.
+        // In the wrapping case the filling it is executed in anyway while the component
+        // dimension will be elaborated before inside the component measuring.
+        boolean horizontal = this.mHorizontalWrap ||
+                this.mFillingArea == ScArc.FillingArea.BOTH ||
+                this.mFillingArea == ScArc.FillingArea.HORIZONTAL;
+        boolean vertical = this.mVerticalWrap ||
+                this.mFillingArea == ScArc.FillingArea.BOTH ||
+                this.mFillingArea == ScArc.FillingArea.VERTICAL;
+
+        // Calc the area by the geometry core
+        float[] area = ScGeometry.calcDrawingArea(
+                ScArcRenderer.toArea(startingArea, this.mGeometryArea),
+                ScArcRenderer.toArea(this.mTrimmedArea, this.mGeometryTrimmedArea),
+                this.mPaddingLeft, this.mPaddingTop,
+                horizontal, vertical,
+                this.mGeometryArea
+        );
+
+        // Return the calculated area
+        return ScArcRenderer.toRect(area, dest);
+    }
+
+    // Calc the trimmed area only if the angles was changed from the last calculation
+    private void updateTrimmedArea() {
+        if (this.mTrimmedAreaInvalid) {
+            this.calcTrimmedArea(this.mTrimmedArea);
+            this.mTrimmedAreaInvalid = false;
+        }
+    }
+
+    // Invalidate the cached geometry.
+    // It will be calculated again on the next draw or on the next geometry query.
+    private void invalidateGeometry() {
+        this.mGeometry.valid = false;
+    }
+
+    // Get the geometry of the arc for the passed dimensions.
+    // The areas are calculated again only if the cache was invalidated or the dimensions
+    // changed.
+    private Geometry getGeometry(int width, int height) {
+        // Check if the cached geometry is still valid
+        Geometry geometry = this.mGeometry;
+        if (geometry.valid && geometry.width == width && geometry.height == height) {
+            return geometry;
+        }
+
+        // Calc the areas
+        this.updateTrimmedArea();
+        this.calcCanvasArea(width, height, geometry.canvasArea);
+        this.calcDrawingArea(geometry.canvasArea, geometry.drawingArea);
+
+        // Center and radius
+        geometry.centerX = geometry.drawingArea.centerX();
+        geometry.centerY = geometry.drawingArea.centerY();
+        geometry.radiusX = geometry.drawingArea.width() / 2;
+        geometry.radiusY = geometry.drawingArea.height() / 2;
+
+        // Validate the cache and return
+        geometry.width = width;
+        geometry.height = height;
+        geometry.valid = true;
+        return geometry;
+    }
+
+    // Get the geometry of the arc using the measured dimensions
+    private Geometry getGeometry() {
+        return this.getGeometry(this.mMeasuredWidth, this.mMeasuredHeight);
+    }
+
+    // Draw the arc on the area.
+    // If wrapped by a view the drawing pass through it, so the inherited views can change it.
+    private void drawOnArea(Canvas canvas, RectF area) {
+        if (this.mView != null)
+            this.mView.internalDraw(canvas, area);
+        else
+            this.internalDraw(canvas, area);
+    }
+
+    // Draw arc on the canvas using the passed area reference
+    // This is an important method can be override for future inherit class implementation.
+    protected void internalDraw(Canvas canvas, RectF area) {
+        // Check for null values
+        if (this.mStrokeSize > 0 || this.mStrokeType == ScArc.StrokeTypes.FILLED_ARC) {
+            // Consider the stroke size and draw
+            canvas.drawArc(
+                    ScWidget.inflateRect(area, this.mStrokeSize / 2, this.mDrawArea),
+                    this.mAngleStart,
+                    this.mAngleDraw,
+                    this.mStrokeType != ScArc.StrokeTypes.LINE,
+                    this.mStrokePaint);
+        }
+    }
+
+
+    /**
+     * Draw and measure
+     */
+
+    // This method is used to calc the areas and filling it by call/set the right draw plan.
+    // Are to consider two type of draw:
+    //      DRAW ask to render simply on an area.
+    //      STRETCH before scale and transpose the canvas and after render on it using the default
+    //      render method.
+    @SuppressWarnings("unused")
+    public void draw(Canvas canvas) {
+        this.draw(canvas, canvas.getWidth(), canvas.getHeight());
+    }
+
+    // Draw the arc inside an area of the passed dimensions starting from the canvas origin.
+    // Used when the canvas is shared with other drawings, the canvas must be translated on the
+    // area before call this method.
+    @SuppressWarnings("unused")
+    public void draw(Canvas canvas, int width, int height) {
+        // Find the canvas and drawing area
+        Geometry geometry = this.getGeometry(width, height);
+        RectF canvasArea = geometry.canvasArea;
+        RectF drawingArea = geometry.drawingArea;
+
+        // Check if need to create a gradient
+        if (this.mStrokeColors != null) {
+            // Create the shader and apply it to the painter
+            this.mStrokePaint.setShader(this.getPaintShader(drawingArea));
+        }
+
+        // Define the painter style by the current stroke type
+        this.mStrokePaint.setStyle(
+                this.mStrokeType == ScArc.StrokeTypes.FILLED_ARC ? Paint.Style.FILL_AND_STROKE : Paint.Style.STROKE
+        );
+
+        // Select the drawing mode by the case
+        switch (this.mFillingMode) {
+            // Draw
+            case DRAW:
+                // Draw the arc on the calculated drawing area
+                this.drawOnArea(canvas, drawingArea);
+                break;
+
+            // Stretch
+            case STRETCH:
+                // Save the current canvas status
+                canvas.save();
+
+                // Translate and scale the canvas
+                canvas.translate(drawingArea.left, drawingArea.top);
+                canvas.scale(
+                        drawingArea.width() / canvasArea.width(),
+                        drawingArea.height() / canvasArea.height()
+                );
+
+                // Draw the arc on the reset canvas
+                RectF stretchArea = ScWidget.resetRectToOrigin(canvasArea, this.mStretchArea);
+                this.drawOnArea(canvas, stretchArea);
+
+                // Restore the last saved canvas status
+                canvas.restore();
+                break;
+        }
+    }
+
+    // Draw a sector of the arc path between two angles relative to the start angle using the
+    // passed painter. The sector follow the filling mode and the geometry of the arc so can be
+    // drawn over it without change the arc settings.
+    @SuppressWarnings("unused")
+    public void drawSector(Canvas canvas, float startAngle, float sweepAngle, Paint paint) {
+        this.drawSector(
+                canvas, canvas.getWidth(), canvas.getHeight(), startAngle, sweepAngle, paint);
+    }
+
+    // Draw the sector inside an area of the passed dimensions starting from the canvas origin
+    @SuppressWarnings("unused")
+    public void drawSector(Canvas canvas, int width, int height,
+                           float startAngle, float sweepAngle, Paint paint) {
+        // Find the canvas and drawing area
+        Geometry geometry = this.getGeometry(width, height);
+        RectF area = geometry.drawingArea;
+
+        // The stretched arc is drawn on a scaled canvas
+        boolean stretch = this.mFillingMode == ScArc.FillingMode.STRETCH;
+        if (stretch) {
+            canvas.save();
+            canvas.translate(area.left, area.top);
+            canvas.scale(
+                    area.width() / geometry.canvasArea.width(),
+                    area.height() / geometry.canvasArea.height()
+            );
+            area = ScWidget.resetRectToOrigin(geometry.canvasArea, this.mStretchArea);
+        }
+
+        // Draw the sector on the arc path
+        canvas.drawArc(
+                ScWidget.inflateRect(area, this.mStrokeSize / 2, this.mDrawArea),
+                this.mAngleStart + startAngle,
+                sweepAngle,
+                false,
+                paint);
+
+        // Restore the canvas status
+        if (stretch) canvas.restore();
+    }
+
+    // Measure the arc.
+    // Find the dimensions by the measure specifications considering the layout wrapping and the
+    // max dimensions settings. The found dimensions will be used by the geometry query methods.
+    @SuppressWarnings("unused")
+    public void measure(int widthMeasureSpec, int heightMeasureSpec, int minWidth, int minHeight) {
+        // Calc the trimmed virtual area only if the angles was changed.
+        // The layout could be changed so the geometry must be calculated again.
+        this.updateTrimmedArea();
+        this.invalidateGeometry();
+
+        // Get suggested dimensions
+        int width = View.getDefaultSize(minWidth, widthMeasureSpec);
+        int height = View.getDefaultSize(minHeight, heightMeasureSpec);
+
+        // Find the horizontal and vertical global padding amount
+        float hGlobalPadding = this.mPaddingLeft + this.mPaddingRight;
+        float vGlobalPadding = this.mPaddingTop + this.mPaddingBottom;
+
+        // If have a horizontal wrap content we want to obtain a perfect circle radius so we must
+        // set the new height equal to the current width.
+        // For do this I must also consider the horizontal padding to remove before trimming the
+        // area and to add after trimmed.
+        if (this.mHorizontalWrap) {
+            width = (int) ((height - hGlobalPadding) * (this.mTrimmedArea.width() / 2));
+            width += hGlobalPadding;
+        }
+
+        // If have a vertical wrap content we want to obtain a perfect circle radius so we must
+        // set the new width equal to the current height.
+        // For do this I must also consider the vertical padding to remove before trimming the
+        // area and to add after trimmed.
+        if (this.mVerticalWrap) {
+            height = (int) ((width - vGlobalPadding) * (this.mTrimmedArea.height() / 2));
+            height += vGlobalPadding;
+        }
+
+        // Check the dimensions limits and hold the found dimensions
+        this.mMeasuredWidth = ScWidget.valueRangeLimit(width, 0, this.mMaxWidth);
+        this.mMeasuredHeight = ScWidget.valueRangeLimit(height, 0, this.mMaxHeight);
+    }
+
+    // Find the bounds of the sector of the drawn arc between two angles relative to the start
+    // angle. The bounds are widen by the drawing thickness and by the passed margin, and are
+    // written inside the destination rectangle.
+    // Return false if the bounds cannot be found, in this case the whole arc must be considered.
+    @SuppressWarnings("unused")
+    public boolean getSectorBounds(float startAngle, float endAngle, float margin, Rect dest) {
+        // The stretched canvas is scaled so the sector cannot be found by the geometry
+        if (this.mFillingMode != ScArc.FillingMode.DRAW) return false;
+
+        // Get the geometry and check it
+        Geometry geometry = this.getGeometry();
+        if (geometry.width <= 0 || geometry.height <= 0 || geometry.drawingArea.isEmpty())
+            return false;
+
+        // Find the sector bounds on the unit circle and bring it on the arc path
+        RectF area = this.calcUnitArcBounds(
+                startAngle + this.mAngleStart, endAngle + this.mAngleStart, this.mDirtyArea);
+        float radiusX = geometry.radiusX - this.mStrokeSize / 2;
+        float radiusY = geometry.radiusY - this.mStrokeSize / 2;
+        area.set(
+                geometry.centerX + area.left * radiusX,
+                geometry.centerY + area.top * radiusY,
+                geometry.centerX + area.right * radiusX,
+                geometry.centerY + area.bottom * radiusY
+        );
+
+        // The closed and filled arcs are drawn using the center too
+        if (this.mStrokeType != ScArc.StrokeTypes.LINE) {
+            area.union(geometry.centerX, geometry.centerY);
+        }
+
+        // Widen by the thickness, the margin and one more pixel for the antialias
+        float widen = this.getDrawingThickness() + margin + 1.0f;
+        dest.set(
+                (int) Math.floor(area.left - widen),
+                (int) Math.floor(area.top - widen),
+                (int) Math.ceil(area.right + widen),
+                (int) Math.ceil(area.bottom + widen)
+        );
+        return true;
+    }
+
+    // The measured dimensions
+    @SuppressWarnings("unused")
+    public int getMeasuredWidth() {
+        return this.mMeasuredWidth;
+    }
+
+    @SuppressWarnings("unused")
+    public int getMeasuredHeight() {
+        return this.mMeasuredHeight;
+    }
+
+
+    /**
+     * Instance state
+     */
+
+    // Save all the variables inside the passed bundle
+    @SuppressWarnings("unused")
+    public void saveState(Bundle state) {
+        state.putFloat("mAngleStart", this.mAngleStart);
+        state.putFloat("mAngleSweep", this.mAngleSweep);
+        state.putFloat("mAngleDraw", this.mAngleDraw);
+        state.putFloat("mStrokeSize", this.mStrokeSize);
+        state.putInt("mStrokeColor", this.mStrokeColor);
+        state.putInt("mStrokeType", this.mStrokeType.ordinal());
+        state.putInt("mMaxWidth", this.mMaxWidth);
+        state.putInt("mMaxHeight", this.mMaxHeight);
+        state.putInt("mFillingArea", this.mFillingArea.ordinal());
+        state.putInt("mFillingMode", this.mFillingMode.ordinal());
+        state.putInt("mFillingColors", this.mFillingColors.ordinal());
+    }
+
+    // Restore all the variables from the passed bundle
+    @SuppressWarnings("unused")
+    public void restoreState(Bundle savedState) {
+        this.mAngleStart = savedState.getFloat("mAngleStart");
+        this.mAngleSweep = savedState.getFloat("mAngleSweep");
+        this.mAngleDraw = savedState.getFloat("mAngleDraw");
+        this.mStrokeSize = savedState.getFloat("mStrokeSize");
+        this.mStrokeColor = savedState.getInt("mStrokeColor");
+        this.mStrokeType = ScArc.StrokeTypes.values()[savedState.getInt("mStrokeType")];
+        this.mMaxWidth = savedState.getInt("mMaxWidth");
+        this.mMaxHeight = savedState.getInt("mMaxHeight");
+        this.mFillingArea = ScArc.FillingArea.values()[savedState.getInt("mFillingArea")];
+        this.mFillingMode = ScArc.FillingMode.values()[savedState.getInt("mFillingMode")];
+        this.mFillingColors = ScArc.FillingColors.values()[savedState.getInt("mFillingColors")];
+
+        // The angles and the colors filling could be changed
+        this.mTrimmedAreaInvalid = true;
+        this.invalidateGeometry();
+        this.releaseShader();
+        this.mColorsTableInvalid = true;
+    }
+
+    // Copy all the settings from another renderer.
+    // The host, the view and the metrics are not copied. The source must not be changed or
+    // drawn by another thread while copying.
+    @SuppressWarnings("unused")
+    public void copyFrom(ScArcRenderer source) {
+        // Properties
+        this.mAngleStart = source.mAngleStart;
+        this.mAngleSweep = source.mAngleSweep;
+        this.mAngleDraw = source.mAngleDraw;
+        this.mStrokeSize = source.mStrokeSize;
+        this.mStrokeColor = source.mStrokeColor;
+        this.mStrokeType = source.mStrokeType;
+        this.mMaxWidth = source.mMaxWidth;
+        this.mMaxHeight = source.mMaxHeight;
+        this.mFillingArea = source.mFillingArea;
+        this.mFillingMode = source.mFillingMode;
+        this.mFillingColors = source.mFillingColors;
+        this.mStrokeColors = source.mStrokeColors != null ?
+                Arrays.copyOf(source.mStrokeColors, source.mStrokeColors.length) : null;
+        this.mTrigTable = source.mTrigTable;
+        this.mColorsTableSize = source.mColorsTableSize;
+        this.mDirtyMargin = source.mDirtyMargin;
+
+        // Layout
+        this.mPaddingLeft = source.mPaddingLeft;
+        this.mPaddingTop = source.mPaddingTop;
+        this.mPaddingRight = source.mPaddingRight;
+        this.mPaddingBottom = source.mPaddingBottom;
+        this.mHorizontalWrap = source.mHorizontalWrap;
+        this.mVerticalWrap = source.mVerticalWrap;
+        this.mVisible = source.mVisible;
+
+        // Painter.
+        // Copy all the painter customizations but not the cached gradient shader that will be
+        // created again for this renderer.
+        this.mStrokePaint.set(source.mStrokePaint);
+        if (source.mShader != null && this.mStrokePaint.getShader() == source.mShader) {
+            this.mStrokePaint.setShader(null);
+        }
+
+        // The caches must be calculated again
+        this.mTrimmedAreaInvalid = true;
+        this.invalidateGeometry();
+        this.releaseShader();
+        this.mColorsTableInvalid = true;
+        this.requestLayout();
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Get the arc painter
+    @SuppressWarnings("unused")
+    public Paint getPainter() {
+        return this.mStrokePaint;
+    }
+
+    // Calc point position from relative angle in degrees.
+    // Note that the angle must be relative to the start angle defined by the component settings
+    // and not intended as a global angle.
+    // The result will be written inside the passed point.
+    @SuppressWarnings("unused")
+    public Point getPointFromAngle(float degrees, float radiusAdjust, Point point) {
+        // Get the drawing area
+        RectF drawingArea = this.getGeometry().drawingArea;
+        // Adjust the area by the passed value and the half stroke size
+        RectF adjustedArea = ScWidget.inflateRect(
+                drawingArea, radiusAdjust + this.mStrokeSize / 2, this.mQueryArea);
+
+        // Find the point by the angle relative at the start angle defined in the component
+        // settings and return it.
+        return ScArc.getPointFromAngle(
+                degrees + this.mAngleStart, adjustedArea, point, this.mTrigTable);
+    }
+
+    @SuppressWarnings("unused")
+    public Point getPointFromAngle(float degrees, float radiusAdjust) {
+        return this.getPointFromAngle(degrees, radiusAdjust, new Point());
+    }
+
+    @SuppressWarnings("unused")
+    public Point getPointFromAngle(float degrees) {
+        return this.getPointFromAngle(degrees, 0.0f);
+    }
+
+    // Find the angle from position on the component.
+    // This method consider the angles limits settings and return a relative angle value within
+    // this limits.
+    @SuppressWarnings("unused")
+    public float getAngleFromPoint(float x, float y) {
+        // Get the drawing area geometry
+        Geometry geometry = this.getGeometry();
+
+        // Find the angle relative to the start angle defined by component settings and limited
+        // within the sweep angle.
+        return ScGeometry.getAngleFromPoint(
+                x, y,
+                geometry.centerX, geometry.centerY, geometry.radiusX, geometry.radiusY,
+                this.mAngleStart, this.mAngleSweep
+        );
+    }
+
+    // Check if a point belongs to the arc
+    @SuppressWarnings("unused")
+    public boolean belongsToArc(float x, float y, float precision) {
+        // Find the angle from the passed point and get the point on the arc
+        float angle = this.getAngleFromPoint(x, y);
+        Point pointOnArc = this.getPointFromAngle(angle, 0.0f, this.mQueryPoint);
+
+        // Find the delta distance between the points and check if is inside a circle build on
+        // the precision radius.
+        return ScArc.pointInsideCircle(x - pointOnArc.x, y - pointOnArc.y, precision);
+    }
+
+    @SuppressWarnings("unused")
+    public boolean belongsToArc(float x, float y) {
+        return this.belongsToArc(x, y, this.mStrokeSize);
+    }
+
+    // Get the distance from center passed an angle or a point.
+    // If an angle will passed the method find the relative point on the arc and than will
+    // calculate the distance from center.
+    @SuppressWarnings("unused")
+    public float getDistanceFromCenter(float x, float y) {
+        // Get the drawing area geometry
+        Geometry geometry = this.getGeometry();
+
+        // Return the calculated distance
+        return (float) Math.sqrt(
+                Math.pow(x - geometry.centerX, 2) + Math.pow(y - geometry.centerY, 2)
+        );
+    }
+
+    // Get the center of the arc drawing area on the host
+    @SuppressWarnings("unused")
+    public float getCenterX() {
+        return this.getGeometry().centerX;
+    }
+
+    @SuppressWarnings("unused")
+    public float getCenterY() {
+        return this.getGeometry().centerY;
+    }
+
+    @SuppressWarnings("unused")
+    public float getDistanceFromCenter(float degrees) {
+        // Find the point on the arc
+        Point point = this.getPointFromAngle(degrees, 0.0f, this.mQueryPoint);
+        // Find the distance
+        return this.getDistanceFromCenter(point.x, point.y);
+    }
+
+    // Get the current gradient color by the current draw angle.
+    // The color is the same drawn on the arc at the passed angle: for the SOLID filling is the
+    // color of the sector that contain the angle and for the GRADIENT filling is read from the
+    // colors table. The table is built again only when the colors, the sweep angle or the
+    // colors filling mode change so this method not allocate any object.
+    @SuppressWarnings("unused")
+    public int getCurrentGradientColor(float angle) {
+        // Check if have colors settled
+        if (this.mStrokeColors == null || this.mStrokeColors.length == 0) return Color.TRANSPARENT;
+
+        // Check for the single color or the empty arc
+        if (this.mStrokeColors.length == 1 || this.mAngleSweep == 0) return this.mStrokeColors[0];
+
+        // Limit the passed angle
+        angle = ScWidget.valueRangeLimit(angle, 0, this.mAngleSweep);
+
+        // Solid filling
+        if (this.mFillingColors == ScArc.FillingColors.SOLID) {
+            // Find the delta angle and the sector
+            float deltaAngle = this.mAngleSweep / this.mStrokeColors.length;
+            int sector = Math.min((int) (angle / deltaAngle), this.mStrokeColors.length - 1);
+            // Return the sector color
+            return this.mStrokeColors[sector];
+        }
+
+        // Check if the colors table must be built again
+        if (this.mColorsTableInvalid) this.buildColorsTable();
+
+        // Find the table index and return the color
+        int index = Math.round(angle / this.mAngleSweep * (this.mColorsTable.length - 1));
+        return this.mColorsTable[index];
+    }
+
+    @SuppressWarnings("unused")
+    public int getCurrentGradientColor() {
+        return this.getCurrentGradientColor(this.mAngleDraw);
+    }
+
+
+    /**
+     * Layout properties
+     */
+
+    // The padding.
+    // The layout properties are applied by the host view while measuring so the host is not
+    // notified about the changes.
+    @SuppressWarnings("unused")
+    public void setPadding(int left, int top, int right, int bottom) {
+        // Check if values are changed
+        if (this.mPaddingLeft != left || this.mPaddingTop != top ||
+                this.mPaddingRight != right || this.mPaddingBottom != bottom) {
+            // Store the new values and invalidate the geometry
+            this.mPaddingLeft = left;
+            this.mPaddingTop = top;
+            this.mPaddingRight = right;
+            this.mPaddingBottom = bottom;
+            this.invalidateGeometry();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingLeft() {
+        return this.mPaddingLeft;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingTop() {
+        return this.mPaddingTop;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingRight() {
+        return this.mPaddingRight;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingBottom() {
+        return this.mPaddingBottom;
+    }
+
+    // The layout wrapping.
+    // Same to have the layout params dimensions settled to WRAP_CONTENT.
+    @SuppressWarnings("unused")
+    public void setLayoutWrap(boolean horizontal, boolean vertical) {
+        // Check if values are changed
+        if (this.mHorizontalWrap != horizontal || this.mVerticalWrap != vertical) {
+            // Store the new values and invalidate the geometry
+            this.mHorizontalWrap = horizontal;
+            this.mVerticalWrap = vertical;
+            this.invalidateGeometry();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public boolean getHorizontalWrap() {
+        return this.mHorizontalWrap;
+    }
+
+    @SuppressWarnings("unused")
+    public boolean getVerticalWrap() {
+        return this.mVerticalWrap;
+    }
+
+    // Visibility.
+    // The renderer not check it by itself but the host view should not draw it if not visible.
+    @SuppressWarnings("unused")
+    public boolean getVisible() {
+        return this.mVisible;
+    }
+
+    @SuppressWarnings("unused")
+    public void setVisible(boolean value) {
+        // Check if value is changed
+        if (this.mVisible != value) {
+            // Store the new value and refresh
+            this.mVisible = value;
+            this.invalidate();
+        }
+    }
+
+    // The host notified when the arc must be drawn or measured again
+    @SuppressWarnings("unused")
+    public Host getHost() {
+        return this.mHost;
+    }
+
+    @SuppressWarnings("unused")
+    public void setHost(Host value) {
+        this.mHost = value;
+    }
+
+    // The view wrapping this renderer if exists
+    @SuppressWarnings("unused")
+    public ScArc getView() {
+        return this.mView;
+    }
+
+    void setView(ScArc value) {
+        this.mView = value;
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // Start angle
+    @SuppressWarnings("unused")
+    public float getAngleStart() {
+        return this.mAngleStart;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAngleStart(float value) {
+        // Check if value is changed
+        if (this.mAngleStart != value) {
+            // Store the new value
+            this.mAngleStart = value;
+            // Check and refresh the component
+            this.checkValues();
+            this.mTrimmedAreaInvalid = true;
+            this.invalidateGeometry();
+            this.releaseShader();
+            this.requestLayout();
+        }
+    }
+
+    // Sweep angle
+    @SuppressWarnings("unused")
+    public float getAngleSweep() {
+        return this.mAngleSweep;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAngleSweep(float value) {
+        // Check if value is changed
+        if (this.mAngleSweep != value) {
+            // Store the new value
+            this.mAngleDraw = this.mAngleSweep == this.mAngleDraw ? value : this.mAngleDraw;
+            this.mAngleSweep = value;
+            // Check and refresh
+            this.checkValues();
+            this.mTrimmedAreaInvalid = true;
+            this.invalidateGeometry();
+            this.releaseShader();
+            this.mColorsTableInvalid = true;
+            this.requestLayout();
+        }
+    }
+
+    // Draw angle
+    @SuppressWarnings("unused")
+    public float getAngleDraw() {
+        return this.mAngleDraw;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAngleDraw(float value) {
+        // Check if value is changed
+        if (this.mAngleDraw != value) {
+            // Store the new value
+            float oldValue = this.mAngleDraw;
+            this.mAngleDraw = value;
+            // Check and refresh only the changed sector
+            this.checkValues();
+            this.invalidateSector(oldValue, this.mAngleDraw);
+        }
+    }
+
+    // Stroke size
+    @SuppressWarnings("unused")
+    public float getStrokeSize() {
+        return this.mStrokeSize;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStrokeSize(float value) {
+        // Check if value is changed
+        if (this.mStrokeSize != value) {
+            // Store the new value and check it
+            this.mStrokeSize = value;
+            this.checkValues();
+            // Fix the painter and refresh the component
+            this.mStrokePaint.setStrokeWidth(this.mStrokeSize);
+            this.requestLayout();
+        }
+    }
+
+    // Stroke color
+    @SuppressWarnings("unused")
+    public int getStrokeColor() {
+        return this.mStrokeColor;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStrokeColor(int value) {
+        // Check if value is changed
+        if (this.mStrokeColor != value) {
+            // Store the new value and reset the other
+            this.mStrokeColor = value;
+            this.mStrokeColors = null;
+            // Fix the painter and refresh the component
+            this.releaseShader();
+            this.mColorsTableInvalid = true;
+            this.mStrokePaint.setShader(null);
+            this.mStrokePaint.setColor(this.mStrokeColor);
+            this.invalidate();
+        }
+    }
+
+    // Create a gradient color and apply it to the stroke
+    @SuppressWarnings("unused")
+    public int[] getStrokesColors() {
+        return this.mStrokeColors;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStrokeColors(int... values) {
+        // Save the new value and refresh
+        this.mStrokeColors = values;
+        this.releaseShader();
+        this.mColorsTableInvalid = true;
+        this.invalidate();
+    }
+
+    // Stroke type
+    @SuppressWarnings("unused")
+    public ScArc.StrokeTypes getStrokeType() {
+        return this.mStrokeType;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStrokeType(ScArc.StrokeTypes value) {
+        // Check if value is changed
+        if (this.mStrokeType != value) {
+            // Store the new value and refresh the component
+            this.mStrokeType = value;
+            this.invalidate();
+        }
+    }
+
+    // Max width
+    @SuppressWarnings("unused")
+    public int getMaxWidth() {
+        return this.mMaxWidth;
+    }
+
+    @SuppressWarnings("unused")
+    public void setMaxWidth(int value) {
+        // Check if value is changed
+        if (this.mMaxWidth != value) {
+            // Store the new value
+            this.mMaxWidth = value;
+            // Check and refresh the component
+            this.checkValues();
+            this.requestLayout();
+        }
+    }
+
+    // Max height
+    @SuppressWarnings("unused")
+    public int getMaxHeight() {
+        return this.mMaxHeight;
+    }
+
+    @SuppressWarnings("unused")
+    public void setMaxHeight(int value) {
+        // Check if value is changed
+        if (this.mMaxHeight != value) {
+            // Store the new value
+            this.mMaxHeight = value;
+            // Check and refresh the component
+            this.checkValues();
+            this.requestLayout();
+        }
+    }
+
+    // Area filling type
+    @SuppressWarnings("unused")
+    public ScArc.FillingArea getFillingArea() {
+        return this.mFillingArea;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFillingArea(ScArc.FillingArea value) {
+        // Check if value is changed
+        if (this.mFillingArea != value) {
+            // Store the new value and refresh the component
+            this.mFillingArea = value;
+            this.invalidateGeometry();
+            this.invalidate();
+        }
+    }
+
+    // Area filling mode
+    @SuppressWarnings("unused")
+    public ScArc.FillingMode getFillingMode() {
+        return this.mFillingMode;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFillingMode(ScArc.FillingMode value) {
+        // Check if value is changed
+        if (this.mFillingMode != value) {
+            // Store the new value and refresh the component
+            this.mFillingMode = value;
+            this.invalidate();
+        }
+    }
+
+    // Render metrics.
+    // Pass null for disable them.
+    @SuppressWarnings("unused")
+    public ScWidgetMetrics getMetrics() {
+        return this.mMetrics;
+    }
+
+    @SuppressWarnings("unused")
+    public void setMetrics(ScWidgetMetrics value) {
+        this.mMetrics = value;
+    }
+
+    // Colors table size.
+    // The number of entries of the table used for find the current gradient color.
+    // A bigger table give a more precise color but need more memory.
+    @SuppressWarnings("unused")
+    public int getColorsTableSize() {
+        return this.mColorsTableSize;
+    }
+
+    @SuppressWarnings("unused")
+    public void setColorsTableSize(int value) {
+        // Check the limit
+        if (value < 2) value = 2;
+
+        // Check if value is changed
+        if (this.mColorsTableSize != value) {
+            // Store the new value and build the table again when needed
+            this.mColorsTableSize = value;
+            this.mColorsTableInvalid = true;
+        }
+    }
+
+    // Dirty margin.
+    // When the draw angle change only the changed sector is drawn again and this margin is
+    // added around it. Useful when something is drawn over the arc, like a pointer.
+    @SuppressWarnings("unused")
+    public float getDirtyMargin() {
+        return this.mDirtyMargin;
+    }
+
+    @SuppressWarnings("unused")
+    public void setDirtyMargin(float value) {
+        this.mDirtyMargin = value < 0.0f ? 0.0f : value;
+    }
+
+    // Trigonometry table.
+    // If settled the points on the arc will be found using the table instead of the Math
+    // methods. Pass null for use the Math methods.
+    @SuppressWarnings("unused")
+    public ScTrigTable getTrigTable() {
+        return this.mTrigTable;
+    }
+
+    @SuppressWarnings("unused")
+    public void setTrigTable(ScTrigTable value) {
+        // Check if value is changed
+        if (this.mTrigTable != value) {
+            // Store the new value and refresh the component
+            this.mTrigTable = value;
+            this.invalidate();
+        }
+    }
+
+    // Colors filling mode
+    @SuppressWarnings("unused")
+    public ScArc.FillingColors getFillingColors() {
+        return this.mFillingColors;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFillingColors(ScArc.FillingColors value) {
+        // Check if value is changed
+        if (this.mFillingColors != value) {
+            // Store the new value and refresh the component
+            this.mFillingColors = value;
+            this.releaseShader();
+            this.mColorsTableInvalid = true;
+            this.invalidate();
+        }
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // The cached geometry of the arc.
+    // Hold the areas, the center and the radius used by the drawing and the geometry query
+    // methods.
+    private static class Geometry {
+
+        public int width = -1;
+        public int height = -1;
+        public boolean valid = false;
+
+        public final RectF canvasArea = new RectF();
+        public final RectF drawingArea = new RectF();
+
+        public float centerX = 0.0f;
+        public float centerY = 0.0f;
+        public float radiusX = 0.0f;
+        public float radiusY = 0.0f;
+
+    }
+
+
+    /**
+     * Public interface
+     */
+
+    // The host of the renderer.
+    // Every View already implement these methods so is enough to declare the interface.
+    @SuppressWarnings("unused")
+    public interface Host {
+
+        void invalidate();
+
+        void invalidate(Rect dirty);
+
+        void requestLayout();
+
+    }
+
+}
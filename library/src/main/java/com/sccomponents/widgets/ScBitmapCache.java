@@ -0,0 +1,183 @@
+package com.sccomponents.widgets;
+
+import android.graphics.Bitmap;
+
+import java.util.Arrays;
+
+/**
+ * Least recently used cache of bitmaps with a memory budget.
+ * <p/>
+ * The bitmaps are identified by an int key and must have all the same dimensions. When the
+ * memory budget is exceeded the least recently used bitmaps are recycled.
+ * The keys are primitive so the lookup not allocate objects. Designed for a few entries, the
+ * lookup is linear. Not thread safe.
+ * v1.0.0
+ */
+public class ScBitmapCache {
+
+    /**
+     * Private variables
+     */
+
+    private int mBudget;
+    private int mWidth;
+    private int mHeight;
+
+    private int[] mKeys;
+    private Bitmap[] mBitmaps;
+    private long[] mLastUse;
+    private int mCount;
+    private long mTick;
+    private long mBytes;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScBitmapCache(int budget) {
+        this.mBudget = budget;
+        this.mKeys = new int[4];
+        this.mBitmaps = new Bitmap[4];
+        this.mLastUse = new long[4];
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Find the position of the key or -1 if not exists
+    private int indexOf(int key) {
+        for (int index = 0; index < this.mCount; index++) {
+            if (this.mKeys[index] == key) return index;
+        }
+        return -1;
+    }
+
+    // Remove the entry in the passed position recycling its bitmap
+    private void removeAt(int index) {
+        // Recycle the bitmap
+        Bitmap bitmap = this.mBitmaps[index];
+        this.mBytes -= bitmap.getByteCount();
+        bitmap.recycle();
+
+        // Move the last entry in the free position
+        int last = --this.mCount;
+        this.mKeys[index] = this.mKeys[last];
+        this.mBitmaps[index] = this.mBitmaps[last];
+        this.mLastUse[index] = this.mLastUse[last];
+        this.mBitmaps[last] = null;
+    }
+
+    // Remove the least recently used entries until the bytes are within the budget
+    private void trimToBudget(long bytes) {
+        while (this.mCount > 0 && bytes > this.mBudget) {
+            // Find the least recently used
+            int oldest = 0;
+            for (int index = 1; index < this.mCount; index++) {
+                if (this.mLastUse[index] < this.mLastUse[oldest]) oldest = index;
+            }
+
+            // Remove it
+            bytes -= this.mBitmaps[oldest].getByteCount();
+            this.removeAt(oldest);
+        }
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Get the bitmap of the key or null if not exists
+    @SuppressWarnings("unused")
+    public Bitmap get(int key) {
+        int index = this.indexOf(key);
+        if (index == -1) return null;
+
+        // Update the last use
+        this.mLastUse[index] = ++this.mTick;
+        return this.mBitmaps[index];
+    }
+
+    // Create a new bitmap for the key.
+    // The old bitmap of the same key and the least recently used bitmaps are recycled if needed
+    // for stay within the budget. Return null if the bitmap is bigger than the budget.
+    @SuppressWarnings("unused")
+    public Bitmap create(int key, int width, int height) {
+        // The bitmaps must have all the same dimensions
+        if (width != this.mWidth || height != this.mHeight) {
+            this.clear();
+            this.mWidth = width;
+            this.mHeight = height;
+        }
+
+        // Remove the old bitmap of the key
+        int index = this.indexOf(key);
+        if (index != -1) this.removeAt(index);
+
+        // Check the budget and make space
+        long bytes = (long) width * height * 4;
+        if (width <= 0 || height <= 0 || bytes > this.mBudget) return null;
+        this.trimToBudget(this.mBytes + bytes);
+
+        // Grow the holders if needed
+        if (this.mCount == this.mKeys.length) {
+            int length = this.mCount * 2;
+            this.mKeys = Arrays.copyOf(this.mKeys, length);
+            this.mBitmaps = Arrays.copyOf(this.mBitmaps, length);
+            this.mLastUse = Arrays.copyOf(this.mLastUse, length);
+        }
+
+        // Create and store the bitmap
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        this.mKeys[this.mCount] = key;
+        this.mBitmaps[this.mCount] = bitmap;
+        this.mLastUse[this.mCount] = ++this.mTick;
+        this.mCount++;
+        this.mBytes += bitmap.getByteCount();
+
+        // Return the new bitmap
+        return bitmap;
+    }
+
+    // Recycle all the bitmaps
+    @SuppressWarnings("unused")
+    public void clear() {
+        while (this.mCount > 0) {
+            this.removeAt(this.mCount - 1);
+        }
+        this.mBytes = 0;
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // Memory budget in bytes
+    @SuppressWarnings("unused")
+    public int getBudget() {
+        return this.mBudget;
+    }
+
+    @SuppressWarnings("unused")
+    public void setBudget(int value) {
+        this.mBudget = value < 0 ? 0 : value;
+        this.trimToBudget(this.mBytes);
+    }
+
+    // The number of bitmaps inside the cache
+    @SuppressWarnings("unused")
+    public int getCount() {
+        return this.mCount;
+    }
+
+    // The bytes used by the bitmaps inside the cache
+    @SuppressWarnings("unused")
+    public long getBytes() {
+        return this.mBytes;
+    }
+
+}
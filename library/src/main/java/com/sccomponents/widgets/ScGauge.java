@@ -1,27 +1,39 @@
 package com.sccomponents.widgets;
 
 import android.animation.Animator;
+import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Rect;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.Parcelable;
 import android.util.AttributeSet;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.animation.DecelerateInterpolator;
 
+import com.sccomponents.widgets.geometry.ScGeometry;
+
 /**
  * Create a Gauge component.
- * v1.0.3
+ * <p/>
+ * The arcs are not child views but renderers measured and drawn directly by this view.
+ * v1.1.0
  */
 public class ScGauge
         extends ScWidget
-        implements ValueAnimator.AnimatorUpdateListener, ScNotchs.OnDrawListener {
+        implements ValueAnimator.AnimatorUpdateListener, ScAnimationClock.Client,
+        ScNotchs.OnDrawListener, ScArcRenderer.Host {
 
     /**
      * Constants
@@ -36,6 +48,17 @@ public class ScGauge
     public static final float DEFAULT_PROGRESS_SIZE = 1.0f;
     public static final int DEFAULT_PROGRESS_COLOR = Color.GRAY;
 
+    public static final int DEFAULT_SPRITE_CACHE_BUDGET = 4 * 1024 * 1024;
+
+    public static final int DEFAULT_HISTORY_COLOR = Color.argb(64, 0, 0, 0);
+    public static final int DEFAULT_PEAK_COLOR = Color.RED;
+
+    // The sweep in degrees of the peak marker
+    private static final float PEAK_MARKER_SWEEP = 2.0f;
+
+    // The max difference in degrees between the drawn angle and a notch for use its sprite
+    private static final float SPRITE_ANGLE_TOLERANCE = 0.01f;
+
 
     /**
      * Private attributes
@@ -62,16 +85,51 @@ public class ScGauge
      * Private variables
      */
 
-    private ScArc mArcBase;
-    private ScArc mArcProgress;
-    private ScArc mArcNotchs;
+    private ScArcRenderer mArcBase;
+    private ScArcRenderer mArcProgress;
+    private ScArcRenderer mArcNotchs;
 
     private ValueAnimator mAnimator;
+    private long mAnimationDuration;
+    private TimeInterpolator mAnimationInterpolator;
+    private float mAnimationFrom;
+    private float mAnimationTo;
+    private long mAnimationStart;
+    private boolean mAnimating;
+    private boolean mAnimationClockRegistered;
     private boolean mDrawNotchsForLast;
 
+    private boolean mStaticLayerEnabled;
+    private boolean mStaticLayerInvalid;
+    private Bitmap mStaticLayerBitmap;
+    private Canvas mStaticLayerCanvas;
+
+    private boolean mSpriteCacheEnabled;
+    private ScBitmapCache mSpriteCache;
+    private Canvas mSpriteCanvas;
+
+    private volatile ScValueStream mValueStream;
+    private ScValueStream mPublishStream;
+    private Object mValueStreamFrameCallback;
+    private Runnable mValueStreamRunnable;
+    private Handler mValueStreamHandler;
+
+    private ScValueLabel mValueLabel;
+
+    private ScValueHistory mHistory;
+    private long mPeakHoldTime;
+    private Paint mHistoryPaint;
+    private Paint mPeakPaint;
+
+    private int mUpdateDepth;
+    private boolean mUpdateLayoutPending;
+    private boolean mUpdateInvalidatePending;
+
     private OnDrawListener mOnDrawListener;
     private OnCustomPaddingListener mOnCustomPaddingListener;
-    private OnEventListener mOnEventListener;
+    private EventListenerEntry mOnEventListenerEntry;
+    private volatile EventListenerEntry[] mEventListeners;
+    private final Object mEventListenersLock = new Object();
 
 
     /**
@@ -98,8 +156,8 @@ public class ScGauge
      * Privates methods
      */
 
-    // Initialize a ScArc object with the defined settings of components
-    private void arcObjectSetter(ScArc arc, boolean isProgress) {
+    // Initialize an arc renderer with the defined settings of components
+    private void arcObjectSetter(ScArcRenderer arc, boolean isProgress) {
         // Fill the settings
         arc.setAngleStart(this.mAngleStart);
         arc.setAngleSweep(this.mAngleSweep);
@@ -112,25 +170,46 @@ public class ScGauge
         }
 
         // Check if notchs instance
-        if (arc instanceof ScNotchs) {
+        if (arc instanceof ScNotchsRenderer) {
             // Cast to notchs
-            ScNotchs notchs = (ScNotchs) arc;
+            ScNotchsRenderer notchs = (ScNotchsRenderer) arc;
 
             // Set the particular notchs properties
             notchs.setStrokeSize(isProgress ? this.mProgressSize : this.mNotchsSize);
             notchs.setStrokeColor(isProgress ? this.mProgressColor : this.mNotchsColor);
             notchs.setNotchs(this.mNotchsCount);
             notchs.setNotchsLength(this.mNotchsLength);
+        }
+
+        // Link the notchs listener if needed
+        this.linkNotchsListener(arc);
+
+        // Share the metrics
+        arc.setMetrics(this.getMetrics());
+    }
+
+    // Link this gauge as notchs listener only if a draw listener is settled.
+    // Without listener the notchs renderer can draw all the lines with a single call.
+    // The view is created before so the source of the notch info is always filled.
+    private void linkNotchsListener(ScArcRenderer arc) {
+        // Check for the notchs instance
+        if (!(arc instanceof ScNotchsRenderer)) return;
+        ScNotchsRenderer notchs = (ScNotchsRenderer) arc;
+
+        // Link or unlink.
+        // Unlink only if linked to this gauge for not remove a listener settled on the renderer.
+        if (this.mOnDrawListener != null) {
+            this.getArcView(notchs);
             notchs.setOnDrawListener(this);
+
+        } else if (notchs.getOnDrawListener() == this) {
+            notchs.setOnDrawListener(null);
         }
     }
 
     // Round the degree angle to the near notch value
     private float snapToNotchs(float degrees) {
-        // Calc the delta angle and the middle stroke
-        float deltaAngle = this.mAngleSweep / this.mNotchsCount;
-        // Round at notchs value
-        return Math.round(degrees / deltaAngle) * deltaAngle;
+        return ScGeometry.snapToNotchs(degrees, this.mAngleSweep, this.mNotchsCount);
     }
 
     // Init the component.
@@ -189,32 +268,271 @@ public class ScGauge
         //--------------------------------------------------
         // ARCS
 
+        // The arcs are renderers drawn directly on this view canvas.
         // Base arc
-        this.mArcBase = new ScArc(context);
+        this.mArcBase = new ScArcRenderer(context, this);
         this.arcObjectSetter(this.mArcBase, false);
 
         // Notchs
-        this.mArcNotchs = new ScNotchs(context);
+        this.mArcNotchs = new ScNotchsRenderer(context, this);
         this.arcObjectSetter(this.mArcNotchs, false);
 
         // Progress arc.
         // The last one is ALWAYS the progress one.
-        this.mArcProgress = new ScArc(context);
+        this.mArcProgress = new ScArcRenderer(context, this);
         this.arcObjectSetter(this.mArcProgress, true);
 
         //--------------------------------------------------
         // ANIMATOR
 
-        this.mAnimator = new ValueAnimator();
-        this.mAnimator.setDuration(0);
-        this.mAnimator.setInterpolator(new DecelerateInterpolator());
-        this.mAnimator.addUpdateListener(this);
+        // The progress is animated by the shared clock.
+        // The value animator is created only if requested for compatibility.
+        this.mAnimationDuration = 0;
+        this.mAnimationInterpolator = new DecelerateInterpolator();
+
+        //--------------------------------------------------
+        // VALUE LABEL
+
+        // Hidden by default
+        this.mValueLabel = new ScValueLabel(context, this);
+        this.mValueLabel.setVisible(false);
+        this.syncValueLabel();
+
+        //--------------------------------------------------
+        // LISTENERS
+
+        // The copy-on-write array of the value change listeners
+        this.mEventListeners = new EventListenerEntry[0];
+
+        //--------------------------------------------------
+        // HISTORY
+
+        // Disabled by default
+        this.mPeakHoldTime = ScValueHistory.DEFAULT_PEAK_HOLD_TIME;
+
+        this.mHistoryPaint = new Paint();
+        this.mHistoryPaint.setAntiAlias(true);
+        this.mHistoryPaint.setStyle(Paint.Style.STROKE);
+        this.mHistoryPaint.setColor(ScGauge.DEFAULT_HISTORY_COLOR);
+
+        this.mPeakPaint = new Paint();
+        this.mPeakPaint.setAntiAlias(true);
+        this.mPeakPaint.setStyle(Paint.Style.STROKE);
+        this.mPeakPaint.setColor(ScGauge.DEFAULT_PEAK_COLOR);
+
+        //--------------------------------------------------
+        // VALUE STREAM
+
+        // The stream used by the publish method when the streaming is not enabled
+        this.mPublishStream = new ScValueStream(ScValueStream.Policies.LATEST, this.mAngleDraw);
+
+        // The consumer of the streamed values.
+        // The gauge could be created on any thread (like the off thread inflation) so all is
+        // bound to the main looper: before Jelly Bean the consumer is posted on it and after the
+        // choreographer of the main thread is taken from it on the first post.
+        // Note that the view post method queue the runnable on the calling thread if the view is
+        // not attached yet.
+        this.mValueStreamHandler = new Handler(Looper.getMainLooper());
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            this.mValueStreamFrameCallback =
+                    new ValueStreamFrameCallback(this, this.mValueStreamHandler);
+        }
+        this.mValueStreamRunnable = new Runnable() {
+            @Override
+            public void run() {
+                ScGauge.this.consumeValueStream();
+            }
+        };
+    }
+
+    // Schedule the consumer of the streamed values on the next frame.
+    // Can be called from any thread.
+    private void scheduleValueStream() {
+        // Use the choreographer if available else post the consumer on the UI thread
+        if (this.mValueStreamFrameCallback != null) {
+            this.postValueStreamFrameCallback();
+        } else {
+            this.mValueStreamHandler.post(this.mValueStreamRunnable);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postValueStreamFrameCallback() {
+        ((ValueStreamFrameCallback) this.mValueStreamFrameCallback).post();
+    }
+
+    // Consume the pending streamed and published values and apply it.
+    // This is called at most once per frame on the UI thread.
+    private void consumeValueStream() {
+        // Get the value from the stream if still enabled and apply it if valid
+        ScValueStream stream = this.mValueStream;
+        if (stream != null) {
+            float degrees = stream.consume(this.mAngleDraw);
+            if (!Float.isNaN(degrees)) this.applyValue(degrees);
+        }
+
+        // Get the published value and apply it if valid
+        float degrees = this.mPublishStream.consume(this.mAngleDraw);
+        if (!Float.isNaN(degrees)) this.applyValue(degrees);
+
+        // The history could be changed also if the value is the same
+        if (this.mHistory != null) this.invalidate();
+    }
+
+    // Record the value inside the history as fraction of the sweep angle.
+    // Called only on the UI thread when the value is applied so the history have always a
+    // single producer, also if the values are published from other threads.
+    private void recordValue(float degrees) {
+        // Check if enabled
+        ScValueHistory history = this.mHistory;
+        if (history == null) return;
+
+        // Push the fraction so the negative sweep angles not invert the min and max
+        float fraction = this.mAngleSweep == 0.0f ? 0.0f : degrees / this.mAngleSweep;
+        history.push(ScGauge.valueRangeLimit(fraction, 0.0f, 1.0f));
+    }
+
+    // Translate a value within the passed range of values in the relative angle
+    private float translateValueToAngle(float value, float startRange, float endRange) {
+        return ScGeometry.translateValueToAngle(value, this.mAngleSweep, startRange, endRange);
+    }
+
+    // Apply the new value in degrees and start the animation
+    private void applyValue(float degrees) {
+        // Record the value as set before the snap
+        this.recordValue(degrees);
+
+        // Check for snap to notchs the new degrees value
+        if (this.mSnapToNotchs) {
+            // Round at the closed notchs value
+            degrees = this.snapToNotchs(degrees);
+        }
+
+        // Check if value is changed
+        if (this.mAngleDraw != degrees) {
+            // Save the new value and start animation
+            this.mAngleDraw = degrees;
+            this.animateProgress(ScGauge.valueRangeLimit(degrees, 0, this.mAngleSweep));
+        }
+    }
+
+    // Animate the progress arc from the current drawn angle to the passed one.
+    // The animation is stepped by the shared animation clock but if the value animator was
+    // requested it is used instead for compatibility.
+    private void animateProgress(float degrees) {
+        // The animation start from the current drawn angle also if an animation is running
+        float from = this.mArcProgress.getAngleDraw();
+
+        // Count the animation start if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        if (metrics != null && (this.mAnimator != null || this.mAnimationDuration > 0)) {
+            metrics.count(ScWidgetMetrics.Counters.ANIMATION_START);
+        }
+
+        // Compatibility mode
+        if (this.mAnimator != null) {
+            this.mAnimator.setFloatValues(from, degrees);
+            this.mAnimator.start();
+            return;
+        }
+
+        // Without duration the new angle is applied immediately
+        if (this.mAnimationDuration <= 0) {
+            this.mAnimating = false;
+            this.updateProgress(degrees, true);
+            return;
+        }
+
+        // Hold the animation settings
+        this.mAnimationFrom = from;
+        this.mAnimationTo = degrees;
+        this.mAnimationStart = System.nanoTime();
+        this.mAnimating = true;
+
+        // Add the gauge to the clock only if not already added
+        if (!this.mAnimationClockRegistered) {
+            this.mAnimationClockRegistered = true;
+            ScAnimationClock.getInstance().add(this);
+        }
+    }
+
+    // Set the new progress angle and raise the event.
+    // Settled is true if the angle is the final one and not an animation step.
+    private void updateProgress(float degrees, boolean settled) {
+        // Set the new angle.
+        // The progress arc invalidate only the changed sector but if the drawing could depend
+        // on the listener or the geometry is changing the component must be drawn again
+        // completely.
+        this.mArcProgress.setAngleDraw(degrees);
+        if (!this.canInvalidatePartially()) this.invalidate();
+
+        // The label invalidate only its bounds if the text is changed
+        this.syncValueLabel();
+
+        // Manage the listeners
+        this.notifyValueChange(degrees, settled);
+    }
+
+    // Update the value label by the progress arc angles.
+    // Called when the progress angles change and never while drawing because the label could
+    // invalidate its bounds.
+    private void syncValueLabel() {
+        this.mValueLabel.setAngle(
+                this.mArcProgress.getAngleDraw(), this.mArcProgress.getAngleSweep());
+    }
+
+    // Raise the value change event to the listeners that accept it.
+    // The array is read once so the listeners can be added or removed while raising the event
+    // and the filters are checked before call any listener without allocate objects.
+    private void notifyValueChange(float degrees, boolean settled) {
+        // Check for listeners
+        EventListenerEntry[] entries = this.mEventListeners;
+        if (entries.length == 0) return;
+
+        // Cycle all the listeners
+        long nanoTime = System.nanoTime();
+        for (EventListenerEntry entry : entries) {
+            if (entry.accept(degrees, settled, nanoTime)) entry.listener.onValueChange(degrees);
+        }
+    }
+
+    // Copy the listeners array adding the new entry
+    private void addEventListenerEntry(EventListenerEntry entry) {
+        synchronized (this.mEventListenersLock) {
+            EventListenerEntry[] entries = this.mEventListeners;
+            EventListenerEntry[] copy = new EventListenerEntry[entries.length + 1];
+            System.arraycopy(entries, 0, copy, 0, entries.length);
+            copy[entries.length] = entry;
+            this.mEventListeners = copy;
+        }
+    }
+
+    // Copy the listeners array removing the passed entry or, if the entry is null, all the
+    // entries of the passed listener
+    private void removeEventListenerEntries(OnEventListener listener, EventListenerEntry removed) {
+        synchronized (this.mEventListenersLock) {
+            // Count the entries to hold
+            EventListenerEntry[] entries = this.mEventListeners;
+            int count = 0;
+            for (EventListenerEntry entry : entries) {
+                if (!entry.matches(listener, removed)) count++;
+            }
+            if (count == entries.length) return;
+
+            // Copy the entries to hold
+            EventListenerEntry[] copy = new EventListenerEntry[count];
+            int index = 0;
+            for (EventListenerEntry entry : entries) {
+                if (!entry.matches(listener, removed)) copy[index++] = entry;
+            }
+            this.mEventListeners = copy;
+        }
     }
 
     // Get the size in relation at the type
-    private float getStrokeSize(ScArc object) {
-        return object instanceof ScNotchs ?
-                ((ScNotchs) object).getNotchsLength() : object.getStrokeSize();
+    private float getStrokeSize(ScArcRenderer object) {
+        return object instanceof ScNotchsRenderer ?
+                ((ScNotchsRenderer) object).getNotchsLength() : object.getStrokeSize();
     }
 
     // Find the maximum stroke size.
@@ -277,9 +595,214 @@ public class ScGauge
         );
     }
 
+    // Draw an arc only if visible.
+    // The arc is drawn on the view dimensions: in the software rendered windows the canvas have
+    // the window dimensions.
+    private void drawArc(Canvas canvas, ScArcRenderer arc) {
+        if (arc.getVisible()) {
+            arc.draw(canvas, this.getWidth(), this.getHeight());
+        }
+    }
+
+    // Get the view wrapping the arc renderer.
+    // The view is created only when requested the first time and is never attached or measured
+    // but expose the renderer with the usual arc interface.
+    private ScArc getArcView(ScArcRenderer arc) {
+        // Create the view if not exists
+        if (arc.getView() == null) {
+            if (arc instanceof ScNotchsRenderer)
+                new ScNotchs(this.getContext(), (ScNotchsRenderer) arc);
+            else
+                new ScArc(this.getContext(), arc);
+        }
+        // Return the view
+        return arc.getView();
+    }
+
+    // Invalidate the static layer.
+    // The layer will be drawn again on the next frame.
+    private void invalidateStaticLayer() {
+        this.mStaticLayerInvalid = true;
+        // The sprites contain the static arcs too
+        if (this.mSpriteCache != null) this.mSpriteCache.clear();
+    }
+
+    // Release the static layer bitmap
+    private void releaseStaticLayer() {
+        // Recycle the bitmap if exists
+        if (this.mStaticLayerBitmap != null) {
+            this.mStaticLayerBitmap.recycle();
+            this.mStaticLayerBitmap = null;
+        }
+        // Invalidate
+        this.mStaticLayerInvalid = true;
+        // Recycle the sprites
+        if (this.mSpriteCache != null) this.mSpriteCache.clear();
+    }
+
+    // Check if the progress value is animating
+    private boolean isValueAnimating() {
+        return this.mAnimator != null ? this.mAnimator.isRunning() : this.mAnimating;
+    }
+
+    // Draw the arcs choosing between the sprites cache, the static layer or the live drawing
+    private void drawLayers(Canvas canvas) {
+        // Check for the sprites cache
+        if (this.drawSprite(canvas)) return;
+
+        // Check for the static layer
+        if (this.mStaticLayerEnabled &&
+                this.updateStaticLayer(this.getWidth(), this.getHeight())) {
+            // Compose the static arcs and draw only the dynamic ones
+            canvas.drawBitmap(this.mStaticLayerBitmap, 0, 0, null);
+            this.drawHistoryBand(canvas);
+            this.drawArc(canvas, this.mArcProgress);
+            if (this.mDrawNotchsForLast) this.drawArc(canvas, this.mArcNotchs);
+            this.drawPeakMarker(canvas);
+            return;
+        }
+
+        // Draw the arcs
+        this.drawArcs(canvas);
+    }
+
+    // Draw all the arcs in sequence.
+    // If need to draw the notchs for last invert its position with the progress. The history
+    // band is drawn over the static arcs and the peak marker over all.
+    private void drawArcs(Canvas canvas) {
+        this.drawArc(canvas, this.mArcBase);
+        if (!this.mDrawNotchsForLast) this.drawArc(canvas, this.mArcNotchs);
+        this.drawHistoryBand(canvas);
+        this.drawArc(canvas, this.mArcProgress);
+        if (this.mDrawNotchsForLast) this.drawArc(canvas, this.mArcNotchs);
+        this.drawPeakMarker(canvas);
+    }
+
+    // Draw the range of the recent values as a band over the base arc
+    private void drawHistoryBand(Canvas canvas) {
+        // Check if have values
+        ScValueHistory history = this.mHistory;
+        if (history == null || Float.isNaN(history.getMin())) return;
+
+        // Draw the band with the base arc stroke
+        float min = history.getMin() * this.mAngleSweep;
+        float max = history.getMax() * this.mAngleSweep;
+        this.mHistoryPaint.setStrokeWidth(this.mArcBase.getStrokeSize());
+        this.mArcBase.drawSector(canvas, this.getWidth(), this.getHeight(),
+                min, max - min, this.mHistoryPaint);
+    }
+
+    // Draw the peak marker over the base and the progress arcs
+    private void drawPeakMarker(Canvas canvas) {
+        // Check if have values
+        ScValueHistory history = this.mHistory;
+        if (history == null || Float.isNaN(history.getPeak())) return;
+
+        // Draw the marker centered on the peak angle
+        float peak = history.getPeak() * this.mAngleSweep;
+        float sweep = Math.copySign(ScGauge.PEAK_MARKER_SWEEP, this.mAngleSweep);
+        this.mPeakPaint.setStrokeWidth(Math.max(
+                this.mArcBase.getStrokeSize(), this.mArcProgress.getStrokeSize()));
+        this.mArcBase.drawSector(canvas, this.getWidth(), this.getHeight(),
+                peak - sweep / 2, sweep, this.mPeakPaint);
+    }
+
+    // Draw the current state using the sprites cache.
+    // When snap to notchs the gauge can be only in the notchs states and every state is drawn
+    // once inside a bitmap of the cache. During the animation the gauge is drawn live and the
+    // sprites are created only when the animation is settled.
+    // Return false if the sprite cannot be used.
+    private boolean drawSprite(Canvas canvas) {
+        // Check if the sprites can be used
+        if (!this.mSpriteCacheEnabled || !this.mSnapToNotchs || this.mNotchsCount <= 0 ||
+                this.mOnDrawListener != null || this.mHistory != null) return false;
+
+        // Find the state of the drawn angle and check if the angle is on a notch
+        float angle = this.mArcProgress.getAngleDraw();
+        float deltaAngle = this.mAngleSweep / this.mNotchsCount;
+        int state = Math.round(angle / deltaAngle);
+        if (Math.abs(state * deltaAngle - angle) > ScGauge.SPRITE_ANGLE_TOLERANCE) return false;
+
+        // Get the sprite from the cache checking the view dimensions
+        int width = this.getWidth();
+        int height = this.getHeight();
+        if (width <= 0 || height <= 0) return false;
+        Bitmap sprite = this.mSpriteCache.get(state);
+        if (sprite != null && (sprite.getWidth() != width || sprite.getHeight() != height))
+            sprite = null;
+
+        // Create the sprite only if the animation is settled
+        if (sprite == null) {
+            if (this.isValueAnimating()) return false;
+            sprite = this.mSpriteCache.create(state, width, height);
+            if (sprite == null) return false;
+
+            // Create the canvas or attach the new bitmap to the existing one
+            if (this.mSpriteCanvas == null)
+                this.mSpriteCanvas = new Canvas(sprite);
+            else
+                this.mSpriteCanvas.setBitmap(sprite);
+
+            // Draw the whole gauge inside the sprite
+            this.drawArcs(this.mSpriteCanvas);
+            this.mSpriteCanvas.setBitmap(null);
+        }
+
+        // Draw the sprite
+        canvas.drawBitmap(sprite, 0, 0, null);
+        return true;
+    }
+
+    // Update the static layer.
+    // The base arc and the notchs arc (only if not must be drawn for last) are drawn once inside
+    // an offscreen bitmap that will be composed on the canvas on every frame.
+    // Return false if the layer cannot be created.
+    private boolean updateStaticLayer(int width, int height) {
+        // Check the dimensions
+        if (width <= 0 || height <= 0) return false;
+
+        // Create the bitmap if not exists or if the dimensions are changed
+        if (this.mStaticLayerBitmap == null ||
+                this.mStaticLayerBitmap.getWidth() != width ||
+                this.mStaticLayerBitmap.getHeight() != height) {
+            // Release the old and create the new one
+            this.releaseStaticLayer();
+            this.mStaticLayerBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+            // Create the canvas or attach the new bitmap to the existing one
+            if (this.mStaticLayerCanvas == null)
+                this.mStaticLayerCanvas = new Canvas(this.mStaticLayerBitmap);
+            else
+                this.mStaticLayerCanvas.setBitmap(this.mStaticLayerBitmap);
+        }
+
+        // Draw the static arcs if needed
+        if (this.mStaticLayerInvalid) {
+            // Clear the bitmap
+            this.mStaticLayerBitmap.eraseColor(Color.TRANSPARENT);
+
+            // Draw the base and the notchs arcs
+            this.drawArc(this.mStaticLayerCanvas, this.mArcBase);
+            if (!this.mDrawNotchsForLast) this.drawArc(this.mStaticLayerCanvas, this.mArcNotchs);
+
+            // Validate
+            this.mStaticLayerInvalid = false;
+        }
+
+        // Ready
+        return true;
+    }
+
+    // Check if the component can be drawn again only in the changed region.
+    // Not possible if a draw listener is linked because it could change the drawing by the
+    // current value, if the layout is changing or if the history is drawn.
+    protected boolean canInvalidatePartially() {
+        return this.mOnDrawListener == null && this.mHistory == null && !this.isLayoutRequested();
+    }
+
     // Get the arcs that compose this component.
-    private ScArc[] getArcs() {
-        return new ScArc[]{this.mArcBase, this.mArcNotchs, this.mArcProgress};
+    private ScArcRenderer[] getArcs() {
+        return new ScArcRenderer[]{this.mArcBase, this.mArcNotchs, this.mArcProgress};
     }
 
 
@@ -290,22 +813,33 @@ public class ScGauge
     // On measure
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        // Fix arcs the padding
+        // Record the duration if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        long startTime = metrics != null ? metrics.begin(ScWidgetMetrics.Phases.MEASURE) : 0;
+
+        // Fix arcs the padding.
+        // The arcs areas could change so the static layer must be drawn again.
         this.fixArcsPadding();
+        this.invalidateStaticLayer();
+
+        // When the value change the progress arc invalidate only the changed sector and this
+        // margin around it. The max stroke size consider also the pointer of the inherited
+        // classes.
+        this.mArcProgress.setDirtyMargin(this.findMaxStrokeSize());
+
+        // Layout wrapping
+        boolean hWrap = this.getLayoutParams().width == ViewGroup.LayoutParams.WRAP_CONTENT;
+        boolean vWrap = this.getLayoutParams().height == ViewGroup.LayoutParams.WRAP_CONTENT;
 
         // Cycle all arcs and do the common operations like apply the parent layout and measure
         // the arc.
         // It is important to call measure for all arcs before draw in the onDraw method.
-        for (ScArc arc : this.getArcs()) {
+        for (ScArcRenderer arc : this.getArcs()) {
             // Apply the parent layout and measure the arc
-            arc.setLayoutParams(this.getLayoutParams());
-            arc.measure(widthMeasureSpec, heightMeasureSpec);
+            arc.setLayoutWrap(hWrap, vWrap);
+            arc.measure(widthMeasureSpec, heightMeasureSpec, 0, 0);
         }
 
-        // Layout wrapping
-        boolean hWrap = this.getLayoutParams().width == ViewGroup.LayoutParams.WRAP_CONTENT;
-        boolean vWrap = this.getLayoutParams().height == ViewGroup.LayoutParams.WRAP_CONTENT;
-
         // If no have wrapping just call the super class method and finish the procedure
         if (!hWrap && !vWrap) {
             super.onMeasure(widthMeasureSpec, heightMeasureSpec);
@@ -319,7 +853,7 @@ public class ScGauge
                     vWrap ? 0 : View.getDefaultSize(this.getSuggestedMinimumHeight(), heightMeasureSpec);
 
             // Cycle all arcs and check for update the component dimensions
-            for (ScArc arc : this.getArcs()) {
+            for (ScArcRenderer arc : this.getArcs()) {
                 // Horizontal wrap
                 if (hWrap && maxWidth < arc.getMeasuredWidth())
                     maxWidth = arc.getMeasuredWidth();
@@ -331,6 +865,21 @@ public class ScGauge
             // Set the dimension
             this.setMeasuredDimension(maxWidth, maxHeight);
         }
+
+        // Close the record
+        if (metrics != null) metrics.end(ScWidgetMetrics.Phases.MEASURE, startTime);
+    }
+
+    // Render metrics.
+    // Shared with all the arcs renderers for count the shader builds and the drawn notchs.
+    @Override
+    public void setMetrics(ScWidgetMetrics value) {
+        super.setMetrics(value);
+        // Check for null because some view methods can be called by the super constructor
+        if (this.mArcProgress == null) return;
+        for (ScArcRenderer arc : this.getArcs()) {
+            arc.setMetrics(value);
+        }
     }
 
     // On draw
@@ -346,34 +895,108 @@ public class ScGauge
             );
         }
 
-        // Create a copy of the arcs array
-        ScArc[] copy = this.getArcs().clone();
-        // If need to draw the notchs for last invert its position
-        if (this.mDrawNotchsForLast) ScGauge.swapArrayPosition(copy, 1, 2);
+        // Read the values recorded since the last frame
+        if (this.mHistory != null) this.mHistory.drain(System.nanoTime());
 
-        // Cycle all arcs for draw it
-        for (ScArc arc : copy) {
-            // Only if visible
-            if (arc.getVisibility() == View.VISIBLE) {
-                // Draw
-                arc.draw(canvas);
-            }
+        // Draw the arcs and the value label over them
+        this.drawLayers(canvas);
+        this.mValueLabel.draw(canvas, this.mArcBase.getCenterX(), this.mArcBase.getCenterY(),
+                this.getWidth(), this.getHeight());
+    }
+
+    // On size changed
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        this.invalidateStaticLayer();
+    }
+
+    // Request layout.
+    // Inside an update transaction the request is hold until the transaction end.
+    @Override
+    public void requestLayout() {
+        if (this.mUpdateDepth > 0) {
+            this.mUpdateLayoutPending = true;
+            return;
+        }
+        super.requestLayout();
+    }
+
+    // Invalidate.
+    // Inside an update transaction the request is hold until the transaction end.
+    @Override
+    public void invalidate() {
+        if (this.mUpdateDepth > 0) {
+            this.mUpdateInvalidatePending = true;
+            return;
         }
+        super.invalidate();
     }
 
-    // On animation update
+    // Invalidate a region.
+    // Inside an update transaction the whole component will be invalidated at the end.
+    @Override
+    @SuppressWarnings("deprecation")
+    public void invalidate(Rect dirty) {
+        if (this.mUpdateDepth > 0) {
+            this.mUpdateInvalidatePending = true;
+            return;
+        }
+        super.invalidate(dirty);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void invalidate(int left, int top, int right, int bottom) {
+        if (this.mUpdateDepth > 0) {
+            this.mUpdateInvalidatePending = true;
+            return;
+        }
+        super.invalidate(left, top, right, bottom);
+    }
+
+    // On detached from window
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        this.releaseStaticLayer();
+    }
+
+    // On animation update.
+    // Used only in compatibility mode when the value animator was requested.
     @Override
     public void onAnimationUpdate(ValueAnimator animation) {
-        // Get the current angle value
-        float degrees = (float) animation.getAnimatedValue();
-        // Set and refresh
-        this.mArcProgress.setAngleDraw(degrees);
-        this.invalidate();
+        this.updateProgress(
+                (float) animation.getAnimatedValue(), animation.getAnimatedFraction() >= 1.0f);
+    }
+
+    // On animation frame of the shared clock
+    @Override
+    public boolean onAnimationFrame(long frameTimeNanos) {
+        // Check if the animation was stopped
+        if (!this.mAnimating) {
+            this.mAnimationClockRegistered = false;
+            return false;
+        }
+
+        // Find the fraction of the elapsed time and check for the end
+        float fraction = (frameTimeNanos - this.mAnimationStart) /
+                (this.mAnimationDuration * 1000000.0f);
+        fraction = ScGauge.valueRangeLimit(fraction, 0.0f, 1.0f);
+        if (fraction == 1.0f) this.mAnimating = false;
 
-        // Manage the listener
-        if (this.mOnEventListener != null) {
-            this.mOnEventListener.onValueChange(degrees);
+        // Interpolate the angle and apply it
+        if (this.mAnimationInterpolator != null) {
+            fraction = this.mAnimationInterpolator.getInterpolation(fraction);
         }
+        this.updateProgress(
+                this.mAnimationFrom + (this.mAnimationTo - this.mAnimationFrom) * fraction,
+                !this.mAnimating);
+
+        // Continue only if still animating.
+        // Note that the listener could have started a new animation.
+        this.mAnimationClockRegistered = this.mAnimating;
+        return this.mAnimating;
     }
 
     // On before to draw the single notch for each notchs
@@ -381,6 +1004,10 @@ public class ScGauge
     public void onDrawNotch(ScNotchs.NotchInfo info) {
         // If have a listener linked
         if (this.mOnDrawListener != null) {
+            // The notchs view is created only on request but the listener expect to find it as
+            // source, so create it before forward the first notch.
+            if (info.source == null) info.source = (ScNotchs) this.getArcView(info.renderer);
+
             // Forward the event
             this.mOnDrawListener.onDrawNotch(info);
         }
@@ -437,6 +1064,9 @@ public class ScGauge
         this.mNotchsCount = savedState.getInt("mNotchsCount");
         this.mNotchsLength = savedState.getFloat("mNotchsLength");
         this.mSnapToNotchs = savedState.getBoolean("mSnapToNotchs");
+
+        // Refresh the static layer
+        this.invalidateStaticLayer();
     }
 
 
@@ -447,7 +1077,7 @@ public class ScGauge
     // Get the base arc.
     @SuppressWarnings("unused")
     public ScArc getBaseArc() {
-        return this.mArcBase;
+        return this.getArcView(this.mArcBase);
     }
 
     // Get the notchs arc.
@@ -455,12 +1085,29 @@ public class ScGauge
     // it could be an ScArc, so you need to cast it for use as ScNotchs.
     @SuppressWarnings("unused")
     public ScArc getNotchsArc() {
-        return this.mArcNotchs;
+        return this.getArcView(this.mArcNotchs);
     }
 
     // Get the progress arc.
     @SuppressWarnings("unused")
     public ScArc getProgressArc() {
+        return this.getArcView(this.mArcProgress);
+    }
+
+    // Get the arcs renderers.
+    // Same of the above methods but return directly the renderers without create the views.
+    @SuppressWarnings("unused")
+    public ScArcRenderer getBaseArcRenderer() {
+        return this.mArcBase;
+    }
+
+    @SuppressWarnings("unused")
+    public ScArcRenderer getNotchsArcRenderer() {
+        return this.mArcNotchs;
+    }
+
+    @SuppressWarnings("unused")
+    public ScArcRenderer getProgressArcRenderer() {
         return this.mArcProgress;
     }
 
@@ -469,10 +1116,11 @@ public class ScGauge
     @SuppressWarnings("unused")
     public void setStrokesCap(Paint.Cap cap) {
         // Cycle all arcs and set the stroke definition by painter
-        for (ScArc arc : this.getArcs()) {
+        for (ScArcRenderer arc : this.getArcs()) {
             arc.getPainter().setStrokeCap(cap);
         }
         // Refresh
+        this.invalidateStaticLayer();
         this.invalidate();
     }
 
@@ -480,44 +1128,72 @@ public class ScGauge
     @SuppressWarnings("unused")
     public void setCanvasFilling(ScArc.FillingArea area, ScArc.FillingMode mode) {
         // Cycle all arcs and set the filling
-        for (ScArc arc : this.getArcs()) {
+        for (ScArcRenderer arc : this.getArcs()) {
             arc.setFillingArea(area);
             arc.setFillingMode(mode);
         }
         // Refresh
+        this.invalidateStaticLayer();
         this.requestLayout();
     }
 
+    // Set the trigonometry table for all components inside the gauge.
+    // Pass null for use the Math methods.
+    @SuppressWarnings("unused")
+    public void setTrigTable(ScTrigTable table) {
+        // Cycle all arcs and set the table
+        for (ScArcRenderer arc : this.getArcs()) {
+            arc.setTrigTable(table);
+        }
+        // Refresh
+        this.invalidateStaticLayer();
+        this.invalidate();
+    }
+
     // Set the components visibility.
     // For a correct measure of the component it is better not use GONE.
     @SuppressWarnings("unused")
     public void show(boolean baseArc, boolean notchsArc, boolean progressArc) {
         // Apply the visibility status
-        this.mArcBase.setVisibility(baseArc ? View.VISIBLE : View.INVISIBLE);
-        this.mArcNotchs.setVisibility(notchsArc ? View.VISIBLE : View.INVISIBLE);
-        this.mArcProgress.setVisibility(progressArc ? View.VISIBLE : View.INVISIBLE);
+        this.mArcBase.setVisible(baseArc);
+        this.mArcNotchs.setVisible(notchsArc);
+        this.mArcProgress.setVisible(progressArc);
 
         // Refresh
+        this.invalidateStaticLayer();
         this.requestLayout();
     }
 
     // Translate the angle in a value within the passed range of values.
     @SuppressWarnings("unused")
     public float translateAngleToValue(float angle, float startRange, float endRange) {
-        // Limit the value within the range
-        angle = ScGauge.valueRangeLimit(angle, 0.0f, this.mArcProgress.getAngleSweep());
-        // Check for the division domain
-        if (this.mArcProgress.getAngleSweep() != 0.0f) {
-            return (angle / this.mArcProgress.getAngleSweep()) * (endRange - startRange);
-        } else {
-            return 0.0f;
-        }
+        return ScGeometry.translateAngleToValue(
+                angle, this.mArcProgress.getAngleSweep(), startRange, endRange);
     }
 
     // Get the value animator.
     // Note that the initial value duration of the animation is zero equal to "no animation".
+    // For compatibility only: once requested the progress is animated by this animator instead
+    // of the shared animation clock. Use the animation duration and interpolator properties
+    // for animate the progress without an animator for each gauge.
     @SuppressWarnings("unused")
     public Animator getValueAnimator() {
+        // Create the animator if needed
+        if (this.mAnimator == null) {
+            // Stop the clock animation moving to its end
+            if (this.mAnimating) {
+                this.mAnimating = false;
+                this.updateProgress(this.mAnimationTo, true);
+            }
+
+            // Create the animator with the current settings
+            this.mAnimator = new ValueAnimator();
+            this.mAnimator.setDuration(this.mAnimationDuration);
+            this.mAnimator.setInterpolator(this.mAnimationInterpolator);
+            this.mAnimator.addUpdateListener(this);
+        }
+
+        // Return the animator
         return this.mAnimator;
     }
 
@@ -533,38 +1209,255 @@ public class ScGauge
             boolean baseArcToNotchs, boolean notchsArcToArc, boolean progressArcToNotchs) {
         // Transform the base arc to a notchs object
         if (baseArcToNotchs) {
-            // Create a new instance of the ScNotchs
-            this.mArcBase = new ScNotchs(this.getContext());
+            // Create a new instance of the notchs renderer
+            this.mArcBase = new ScNotchsRenderer(this.getContext(), this);
             this.arcObjectSetter(this.mArcBase, false);
         }
 
         // Transform the notchs to an arc object
         if (notchsArcToArc) {
-            // Create a new instance of the ScArc
-            this.mArcNotchs = new ScArc(this.getContext());
+            // Create a new instance of the arc renderer
+            this.mArcNotchs = new ScArcRenderer(this.getContext(), this);
             this.arcObjectSetter(this.mArcNotchs, false);
         }
 
         // Transform the progress arc to a notchs object
         if (progressArcToNotchs) {
-            // Create a new instance of the ScNotchs
-            this.mArcProgress = new ScNotchs(this.getContext());
+            // Create a new instance of the notchs renderer
+            this.mArcProgress = new ScNotchsRenderer(this.getContext(), this);
             this.arcObjectSetter(this.mArcProgress, true);
+            this.syncValueLabel();
+        }
+
+        // The static arcs could be changed and the new arcs must be measured
+        this.invalidateStaticLayer();
+        this.requestLayout();
+    }
+
+    // Begin an update transaction.
+    // Until the matching endUpdate call the setters only store the new settings and the layout
+    // and the invalidation requests are hold. The transactions can be nested.
+    @SuppressWarnings("unused")
+    public void beginUpdate() {
+        this.mUpdateDepth++;
+    }
+
+    // End an update transaction.
+    // When the most external transaction end at most one layout request and one invalidation
+    // are done.
+    @SuppressWarnings("unused")
+    public void endUpdate() {
+        // Check the transaction
+        if (this.mUpdateDepth == 0)
+            throw new IllegalStateException("The endUpdate must follow a beginUpdate call.");
+
+        // Check if still inside a transaction
+        this.mUpdateDepth--;
+        if (this.mUpdateDepth > 0) return;
+
+        // Apply the pending requests
+        if (this.mUpdateLayoutPending) {
+            this.mUpdateLayoutPending = false;
+            this.requestLayout();
+        }
+        if (this.mUpdateInvalidatePending) {
+            this.mUpdateInvalidatePending = false;
+            this.invalidate();
         }
     }
 
+    // Check if an update transaction is open
+    @SuppressWarnings("unused")
+    public boolean isUpdating() {
+        return this.mUpdateDepth > 0;
+    }
+
     // Draw the notchs for the last in the drawing method.
     // The default sequence of drawing is base arc, notchs arc and progress arc for last.
+    @SuppressWarnings("unused")
+    public boolean getDrawNotchsForLast() {
+        return this.mDrawNotchsForLast;
+    }
+
     @SuppressWarnings("unused")
     public void setDrawNotchsForLast(boolean value) {
         // Check for changed value
         if (this.mDrawNotchsForLast != value) {
             // Fix the new value and refresh the component
             this.mDrawNotchsForLast = value;
+            this.invalidateStaticLayer();
+            this.invalidate();
+        }
+    }
+
+    // Enable the static layer cache.
+    // When enabled the base arc and the notchs arc are drawn only once inside an offscreen bitmap
+    // and on every frame will be drawn live only the progress arc (and the notchs if must be
+    // drawn for last).
+    // Note that the OnDrawListener methods will be called for the static arcs only when the layer
+    // is drawn again. If you change the base or the notchs arc settings directly by the arc
+    // objects you must call refreshStaticLayer for apply the changes.
+    @SuppressWarnings("unused")
+    public boolean getStaticLayerEnabled() {
+        return this.mStaticLayerEnabled;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStaticLayerEnabled(boolean value) {
+        // Check for changed value
+        if (this.mStaticLayerEnabled != value) {
+            // Fix the new value
+            this.mStaticLayerEnabled = value;
+            // Free the memory if not more used
+            if (!value) this.releaseStaticLayer();
+            // Refresh the component
+            this.invalidateStaticLayer();
+            this.invalidate();
+        }
+    }
+
+    // Enable the sprites cache.
+    // Used only when snap to notchs: every notch state is drawn once inside a bitmap and then the
+    // bitmap is drawn on every frame. The bitmaps are held in a least recently used cache within
+    // the memory budget. During the animation the gauge is drawn live.
+    // Note that the cache is not used if have an OnDrawListener linked. As for the static layer
+    // if you change the arcs settings directly by the arc objects you must call
+    // refreshStaticLayer for apply the changes.
+    @SuppressWarnings("unused")
+    public boolean getSpriteCacheEnabled() {
+        return this.mSpriteCacheEnabled;
+    }
+
+    @SuppressWarnings("unused")
+    public void setSpriteCacheEnabled(boolean value) {
+        // Check for changed value
+        if (this.mSpriteCacheEnabled != value) {
+            // Fix the new value
+            this.mSpriteCacheEnabled = value;
+            // Create the cache or free the memory if not more used
+            if (value && this.mSpriteCache == null) {
+                this.mSpriteCache = new ScBitmapCache(ScGauge.DEFAULT_SPRITE_CACHE_BUDGET);
+            }
+            if (!value && this.mSpriteCache != null) this.mSpriteCache.clear();
+            // Refresh the component
             this.invalidate();
         }
     }
 
+    // The memory budget in bytes of the sprites cache
+    @SuppressWarnings("unused")
+    public int getSpriteCacheBudget() {
+        return this.mSpriteCache != null ?
+                this.mSpriteCache.getBudget() : ScGauge.DEFAULT_SPRITE_CACHE_BUDGET;
+    }
+
+    @SuppressWarnings("unused")
+    public void setSpriteCacheBudget(int value) {
+        // Create the cache if needed and apply the budget
+        if (this.mSpriteCache == null) {
+            this.mSpriteCache = new ScBitmapCache(value);
+        }
+        this.mSpriteCache.setBudget(value);
+    }
+
+    // The label that show the current value as text at the center of the arcs.
+    // Hidden by default. The label show the drawn value so follow the progress animation and
+    // is updated without allocate objects and without measure again the component.
+    @SuppressWarnings("unused")
+    public ScValueLabel getValueLabel() {
+        return this.mValueLabel;
+    }
+
+    // Recent values history.
+    // The number of the last values applied considered for draw their range as a translucent
+    // band over the base arc and the peak marker. Zero disable the history.
+    // The values published within the same frame are recorded once, as applied.
+    @SuppressWarnings("unused")
+    public int getHistorySize() {
+        ScValueHistory history = this.mHistory;
+        return history != null ? history.getWindow() : 0;
+    }
+
+    @SuppressWarnings("unused")
+    public void setHistorySize(int value) {
+        // Check for changed value
+        if (value == this.getHistorySize()) return;
+
+        // Disable or create the new history
+        if (value <= 0) {
+            this.mHistory = null;
+        } else {
+            ScValueHistory history = new ScValueHistory(value);
+            history.setPeakHoldTime(this.mPeakHoldTime);
+            this.mHistory = history;
+        }
+        this.invalidate();
+    }
+
+    // The min, the max and the peak in degrees of the recent values.
+    // Return NaN if the history is disabled or empty.
+    @SuppressWarnings("unused")
+    public float getHistoryMin() {
+        ScValueHistory history = this.mHistory;
+        return history != null ? history.getMin() * this.mAngleSweep : Float.NaN;
+    }
+
+    @SuppressWarnings("unused")
+    public float getHistoryMax() {
+        ScValueHistory history = this.mHistory;
+        return history != null ? history.getMax() * this.mAngleSweep : Float.NaN;
+    }
+
+    @SuppressWarnings("unused")
+    public float getHistoryPeak() {
+        ScValueHistory history = this.mHistory;
+        return history != null ? history.getPeak() * this.mAngleSweep : Float.NaN;
+    }
+
+    // The color of the recent values band
+    @SuppressWarnings("unused")
+    public int getHistoryColor() {
+        return this.mHistoryPaint.getColor();
+    }
+
+    @SuppressWarnings("unused")
+    public void setHistoryColor(int value) {
+        this.mHistoryPaint.setColor(value);
+        this.invalidate();
+    }
+
+    // The color of the peak marker
+    @SuppressWarnings("unused")
+    public int getPeakColor() {
+        return this.mPeakPaint.getColor();
+    }
+
+    @SuppressWarnings("unused")
+    public void setPeakColor(int value) {
+        this.mPeakPaint.setColor(value);
+        this.invalidate();
+    }
+
+    // How long the peak is held in milliseconds before follow the recent values max
+    @SuppressWarnings("unused")
+    public long getPeakHoldTime() {
+        return this.mPeakHoldTime;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPeakHoldTime(long value) {
+        this.mPeakHoldTime = value < 0 ? 0 : value;
+        ScValueHistory history = this.mHistory;
+        if (history != null) history.setPeakHoldTime(this.mPeakHoldTime);
+    }
+
+    // Force to draw again the static layer on the next frame
+    @SuppressWarnings("unused")
+    public void refreshStaticLayer() {
+        this.invalidateStaticLayer();
+        this.invalidate();
+    }
+
 
     /**
      * Public properties
@@ -584,10 +1477,11 @@ public class ScGauge
             // Save the new value
             this.mAngleStart = value;
             // Cycle all arcs and set the start angle
-            for (ScArc arc : this.getArcs()) {
+            for (ScArcRenderer arc : this.getArcs()) {
                 arc.setAngleStart(value);
             }
             // Refresh
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -606,10 +1500,12 @@ public class ScGauge
             // Save the new value
             this.mAngleSweep = value;
             // Cycle all arcs and set the start angle
-            for (ScArc arc : this.getArcs()) {
+            for (ScArcRenderer arc : this.getArcs()) {
                 arc.setAngleSweep(value);
             }
             // Refresh
+            this.syncValueLabel();
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -628,6 +1524,7 @@ public class ScGauge
             this.mStrokeSize = value;
             this.mArcBase.setStrokeSize(value);
             // Refresh the component
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -646,6 +1543,7 @@ public class ScGauge
             this.mStrokeColor = value;
             this.mArcBase.setStrokeColor(value);
             // Refresh the component
+            this.invalidateStaticLayer();
             this.invalidate();
         }
     }
@@ -697,6 +1595,7 @@ public class ScGauge
             // Store the new value and refresh the component
             this.mNotchsSize = value;
             this.mArcNotchs.setStrokeSize(value);
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -714,6 +1613,7 @@ public class ScGauge
             // Store the new value and refresh the component
             this.mNotchsColor = value;
             this.mArcNotchs.setStrokeColor(value);
+            this.invalidateStaticLayer();
             this.invalidate();
         }
     }
@@ -731,14 +1631,15 @@ public class ScGauge
             // Fix the new value
             this.mNotchsCount = value;
             // Apply to all notchs object
-            for (ScArc arc : this.getArcs()) {
+            for (ScArcRenderer arc : this.getArcs()) {
                 // Check for ScNotchs class
-                if (arc instanceof ScNotchs) {
+                if (arc instanceof ScNotchsRenderer) {
                     // Cast and setting
-                    ((ScNotchs) arc).setNotchs(value);
+                    ((ScNotchsRenderer) arc).setNotchs(value);
                 }
             }
             // Refresh the component
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -756,14 +1657,15 @@ public class ScGauge
             // Fix the new value
             this.mNotchsLength = value;
             // Apply to all notchs object
-            for (ScArc arc : this.getArcs()) {
+            for (ScArcRenderer arc : this.getArcs()) {
                 // Check for ScNotchs class
-                if (arc instanceof ScNotchs) {
+                if (arc instanceof ScNotchsRenderer) {
                     // Cast and setting
-                    ((ScNotchs) arc).setNotchsLength(value);
+                    ((ScNotchsRenderer) arc).setNotchsLength(value);
                 }
             }
             // Refresh the component
+            this.invalidateStaticLayer();
             this.requestLayout();
         }
     }
@@ -788,24 +1690,94 @@ public class ScGauge
         return this.mAngleDraw;
     }
 
+    // If the streaming is enabled the value is only stored and will be applied on the next frame,
+    // in this case this method can be called from any thread.
     @SuppressWarnings("unused")
     public void setValue(float degrees) {
-        // Check for snap to notchs the new degrees value
-        if (this.mSnapToNotchs) {
-            // Round at the closed notchs value
-            degrees = this.snapToNotchs(degrees);
+        // Check for the streaming
+        if (this.mValueStream != null) {
+            this.publishValue(degrees);
+            return;
         }
 
-        // Check if value is changed
-        if (this.mAngleDraw != degrees) {
-            // Save the new value
-            this.mAngleDraw = degrees;
-            // Set and start animation
-            this.mAnimator.setFloatValues(
-                    this.mAngleDraw,
-                    ScGauge.valueRangeLimit(degrees, 0, this.mAngleSweep)
-            );
-            this.mAnimator.start();
+        // Apply the value now.
+        // The history could be changed also if the value is the same.
+        this.applyValue(degrees);
+        if (this.mHistory != null) this.invalidate();
+    }
+
+    // Animation duration in milliseconds.
+    // Zero mean no animation and the new value is applied immediately.
+    @SuppressWarnings("unused")
+    public long getAnimationDuration() {
+        return this.mAnimator != null ? this.mAnimator.getDuration() : this.mAnimationDuration;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAnimationDuration(long value) {
+        // Store the new value and apply it to the animator if in compatibility mode
+        this.mAnimationDuration = value < 0 ? 0 : value;
+        if (this.mAnimator != null) this.mAnimator.setDuration(this.mAnimationDuration);
+    }
+
+    // Animation interpolator.
+    // Pass null for a linear animation.
+    @SuppressWarnings("unused")
+    public TimeInterpolator getAnimationInterpolator() {
+        return this.mAnimator != null ? this.mAnimator.getInterpolator() : this.mAnimationInterpolator;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAnimationInterpolator(TimeInterpolator value) {
+        // Store the new value and apply it to the animator if in compatibility mode
+        this.mAnimationInterpolator = value;
+        if (this.mAnimator != null) this.mAnimator.setInterpolator(value);
+    }
+
+    // Streaming policy.
+    // When settled the setValue method only store the values and at most one update per frame
+    // will be applied. The values stored within the same frame are aggregated by the policy.
+    // Pass null for disable the streaming.
+    @SuppressWarnings("unused")
+    public ScValueStream.Policies getStreamingPolicy() {
+        return this.mValueStream != null ? this.mValueStream.getPolicy() : null;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStreamingPolicy(ScValueStream.Policies value) {
+        // Disable applying the value pushed but not yet consumed
+        if (value == null) {
+            ScValueStream stream = this.mValueStream;
+            this.mValueStream = null;
+            if (stream != null) {
+                float degrees = stream.consume(this.mAngleDraw);
+                if (!Float.isNaN(degrees)) this.applyValue(degrees);
+            }
+            return;
+        }
+
+        // Create the stream or change the policy of the existing one.
+        // The stream restart from the current value.
+        if (this.mValueStream == null) {
+            this.mValueStream = new ScValueStream(value, this.mAngleDraw);
+        } else {
+            this.mValueStream.setPolicy(value);
+            this.mValueStream.reset(this.mAngleDraw);
+        }
+    }
+
+    // Streaming average factor.
+    // Used only with the AVERAGE policy, must be within 0 and 1.
+    @SuppressWarnings("unused")
+    public float getStreamingFactor() {
+        return this.mValueStream != null ?
+                this.mValueStream.getFactor() : ScValueStream.DEFAULT_FACTOR;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStreamingFactor(float value) {
+        if (this.mValueStream != null) {
+            this.mValueStream.setFactor(value);
         }
     }
 
@@ -823,18 +1795,133 @@ public class ScGauge
 
     @SuppressWarnings("unused")
     public void setValue(float value, float startRange, float endRange) {
-        // Limit the value within the range
-        value = ScGauge.valueRangeLimit(value, startRange, endRange);
-        // Check for the division domain
-        if (endRange == startRange) {
-            value = 0;
+        // Convert the value in the relative angle and call the base method
+        this.setValue(this.translateValueToAngle(value, startRange, endRange));
+    }
 
-        } else {
-            // Convert the value in the relative angle respect the arc length
-            value = ((value - startRange) / (endRange - startRange)) * this.mAngleSweep;
+    // Publish a new progress value in degrees.
+    // This method can be called from any thread and not allocate objects: the value is only
+    // stored and will be applied on the UI thread on the next frame. If more values are
+    // published within the same frame only the last one (or the aggregated one by the
+    // streaming policy if settled) will be applied.
+    // The OnEventListener events are always raised on the UI thread.
+    @SuppressWarnings("unused")
+    public void publishValue(float degrees) {
+        // Select the stream
+        ScValueStream stream = this.mValueStream;
+        if (stream == null) stream = this.mPublishStream;
+
+        // Store the value and schedule the consumer if needed
+        if (stream.push(degrees)) this.scheduleValueStream();
+    }
+
+    @SuppressWarnings("unused")
+    public void publishValue(float value, float startRange, float endRange) {
+        // Convert the value in the relative angle and call the base method
+        this.publishValue(this.translateValueToAngle(value, startRange, endRange));
+    }
+
+
+    /**
+     * Frame callback
+     */
+
+    // The choreographer frame callback that consume the streamed values.
+    // The choreographer is bound to the thread that get it, so it is taken on the main thread
+    // the first time the callback is posted.
+    // Available only from Jelly Bean.
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static class ValueStreamFrameCallback implements Choreographer.FrameCallback {
+
+        private final ScGauge mGauge;
+        private final Handler mMainHandler;
+        private final Runnable mBindRunnable;
+        private volatile Choreographer mChoreographer;
+
+        public ValueStreamFrameCallback(ScGauge gauge, Handler mainHandler) {
+            this.mGauge = gauge;
+            this.mMainHandler = mainHandler;
+
+            // Get the choreographer of the main thread and post the callback on it
+            this.mBindRunnable = new Runnable() {
+                @Override
+                public void run() {
+                    Choreographer choreographer = Choreographer.getInstance();
+                    ValueStreamFrameCallback.this.mChoreographer = choreographer;
+                    choreographer.postFrameCallback(ValueStreamFrameCallback.this);
+                }
+            };
+        }
+
+        // Post the callback on the next frame.
+        // The choreographer methods are thread safe. Until the choreographer is taken the
+        // callback pass by the main looper.
+        public void post() {
+            Choreographer choreographer = this.mChoreographer;
+            if (choreographer != null) {
+                choreographer.postFrameCallback(this);
+            } else {
+                this.mMainHandler.post(this.mBindRunnable);
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            this.mGauge.consumeValueStream();
+        }
+
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // A value change listener with its filters.
+    // The filter state is held by every entry so the same listener can be registered more
+    // times with different filters.
+    private static class EventListenerEntry {
+
+        public final OnEventListener listener;
+        public final long minInterval;
+        public final float minDelta;
+        public final boolean settledOnly;
+
+        private boolean mNotified;
+        private float mLastDegrees;
+        private long mLastTime;
+
+        public EventListenerEntry(
+                OnEventListener listener, long minInterval, float minDelta, boolean settledOnly) {
+            this.listener = listener;
+            this.minInterval = minInterval * 1000000L;
+            this.minDelta = minDelta;
+            this.settledOnly = settledOnly;
+        }
+
+        // Check if this is the passed entry or, if the entry is null, an entry of the passed
+        // listener
+        public boolean matches(OnEventListener listener, EventListenerEntry entry) {
+            return entry != null ? this == entry : this.listener == listener;
+        }
+
+        // Check if the listener must be called for the passed value.
+        // The settled value is always accepted if different from the last notified so the
+        // listener not lose the final value of an animation.
+        public boolean accept(float degrees, boolean settled, long nanoTime) {
+            // Check the filters
+            if (this.settledOnly && !settled) return false;
+            if (this.mNotified && !(settled && degrees != this.mLastDegrees) &&
+                    (nanoTime - this.mLastTime < this.minInterval ||
+                            Math.abs(degrees - this.mLastDegrees) < this.minDelta)) return false;
+
+            // Hold the notified value
+            this.mNotified = true;
+            this.mLastDegrees = degrees;
+            this.mLastTime = nanoTime;
+            return true;
         }
-        // Call the base method
-        this.setValue(value);
+
     }
 
 
@@ -855,6 +1942,11 @@ public class ScGauge
     @SuppressWarnings("unused")
     public void setOnDrawListener(OnDrawListener listener) {
         this.mOnDrawListener = listener;
+
+        // Link or unlink the notchs renderers
+        this.linkNotchsListener(this.mArcBase);
+        this.linkNotchsListener(this.mArcNotchs);
+        this.linkNotchsListener(this.mArcProgress);
     }
 
     // Generic gauge event
@@ -865,9 +1957,57 @@ public class ScGauge
 
     }
 
+    // Set the listener called on every value change.
+    // Replace the listener settled before by this method, the listeners added by the add
+    // methods are not touched.
     @SuppressWarnings("unused")
     public void setOnEventListener(OnEventListener listener) {
-        this.mOnEventListener = listener;
+        // Remove only the entry created by this method
+        if (this.mOnEventListenerEntry != null) {
+            this.removeEventListenerEntries(null, this.mOnEventListenerEntry);
+            this.mOnEventListenerEntry = null;
+        }
+
+        // Add the new entry without filters
+        if (listener != null) {
+            this.mOnEventListenerEntry = new EventListenerEntry(listener, 0, 0.0f, false);
+            this.addEventListenerEntry(this.mOnEventListenerEntry);
+        }
+    }
+
+    // Add a listener called on the value changes that pass the filters:
+    //      minInterval the minimum time in milliseconds between two calls.
+    //      minDelta the minimum change in degrees from the last notified value.
+    //      settledOnly call the listener only with the final values and not with the
+    //      animation steps.
+    // The final value of an animation is always notified if changed. The listeners are held in
+    // a copy-on-write array so can be added or removed from any thread, also inside a listener.
+    @SuppressWarnings("unused")
+    public void addOnEventListener(
+            OnEventListener listener, long minInterval, float minDelta, boolean settledOnly) {
+        // Check the listener
+        if (listener == null) return;
+
+        // Add the entry
+        this.addEventListenerEntry(new EventListenerEntry(
+                listener, minInterval < 0 ? 0 : minInterval, Math.abs(minDelta), settledOnly));
+    }
+
+    @SuppressWarnings("unused")
+    public void addOnEventListener(OnEventListener listener) {
+        this.addOnEventListener(listener, 0, 0.0f, false);
+    }
+
+    // Remove all the registrations of the passed listener
+    @SuppressWarnings("unused")
+    public void removeOnEventListener(OnEventListener listener) {
+        // Check the listener
+        if (listener == null) return;
+
+        // Remove the entries
+        this.removeEventListenerEntries(listener, null);
+        if (this.mOnEventListenerEntry != null && this.mOnEventListenerEntry.listener == listener)
+            this.mOnEventListenerEntry = null;
     }
 
     // Custom padding
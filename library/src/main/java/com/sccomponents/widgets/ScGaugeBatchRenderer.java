@@ -0,0 +1,245 @@
+package com.sccomponents.widgets;
+
+import android.graphics.Bitmap;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Render many gauges in parallel.
+ * <p/>
+ * The renders are spread across the executor threads, every thread use its own bitmap renderer
+ * copied from the template and the bitmaps are taken from a pool so can be reused when the
+ * caller release them.
+ * v1.0.0
+ */
+public class ScGaugeBatchRenderer {
+
+    /**
+     * Private variables
+     */
+
+    private final Executor mExecutor;
+    private final int mParallelism;
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int mMaxPoolSize;
+    private final ConcurrentLinkedQueue<Bitmap> mPool;
+    private final AtomicInteger mPoolSize;
+
+    private final ThreadLocal<WorkerRenderer> mRenderers;
+    private volatile ScGaugeBitmapRenderer mConfiguration;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScGaugeBatchRenderer(Executor executor, int parallelism, int width, int height, int maxPoolSize) {
+        this.mExecutor = executor;
+        this.mParallelism = parallelism < 1 ? 1 : parallelism;
+
+        // Pool
+        this.mWidth = width;
+        this.mHeight = height;
+        this.mMaxPoolSize = maxPoolSize < 0 ? 0 : maxPoolSize;
+        this.mPool = new ConcurrentLinkedQueue<>();
+        this.mPoolSize = new AtomicInteger(0);
+
+        // Renderers of the workers
+        this.mRenderers = new ThreadLocal<>();
+    }
+
+    public ScGaugeBatchRenderer(Executor executor, int width, int height) {
+        this(executor, Runtime.getRuntime().availableProcessors(), width, height,
+                Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Get the renderer of the current thread updating its configuration if needed
+    private ScGaugeBitmapRenderer getRenderer(ScGaugeBitmapRenderer configuration) {
+        // Create the worker renderer if not exists
+        WorkerRenderer worker = this.mRenderers.get();
+        if (worker == null) {
+            worker = new WorkerRenderer(new ScGaugeBitmapRenderer(configuration.getContext()));
+            this.mRenderers.set(worker);
+        }
+
+        // Copy the configuration if changed
+        if (worker.configuration != configuration) {
+            worker.renderer.setConfiguration(configuration);
+            worker.configuration = configuration;
+        }
+
+        // Return the renderer
+        return worker.renderer;
+    }
+
+    // Render the values with the passed step starting from the offset.
+    // Called on the executor threads.
+    private void renderSlice(ScGaugeBitmapRenderer configuration, float[] values,
+                             int offset, Callback callback, AtomicInteger pending) {
+        // Get the renderer of this thread
+        ScGaugeBitmapRenderer renderer = this.getRenderer(configuration);
+
+        // Render all the values of the slice
+        for (int index = offset; index < values.length; index += this.mParallelism) {
+            Bitmap bitmap = this.obtainBitmap();
+            renderer.render(bitmap, values[index]);
+            callback.onRendered(index, bitmap);
+        }
+
+        // Check if the whole batch is completed
+        if (pending.decrementAndGet() == 0) callback.onCompleted();
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Render a gauge for each passed value in degrees.
+    // The template configuration is copied on the calling thread, so the template can be
+    // changed after this call. The callback is called on the executor threads.
+    @SuppressWarnings("unused")
+    public void render(ScGaugeBitmapRenderer template, final float[] values, final Callback callback) {
+        // Copy the configuration
+        final ScGaugeBitmapRenderer configuration = new ScGaugeBitmapRenderer(template.getContext());
+        configuration.setConfiguration(template);
+        this.mConfiguration = configuration;
+
+        // Check for empty batch
+        int slices = Math.min(this.mParallelism, values.length);
+        if (slices == 0) {
+            callback.onCompleted();
+            return;
+        }
+
+        // Spread the renders across the executor
+        final AtomicInteger pending = new AtomicInteger(slices);
+        for (int slice = 0; slice < slices; slice++) {
+            final int offset = slice;
+            this.mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ScGaugeBatchRenderer.this
+                            .renderSlice(configuration, values, offset, callback, pending);
+                }
+            });
+        }
+    }
+
+    // Get a bitmap from the pool or create a new one if the pool is empty
+    @SuppressWarnings("unused")
+    public Bitmap obtainBitmap() {
+        // Try to reuse a bitmap of the pool
+        Bitmap bitmap = this.mPool.poll();
+        if (bitmap != null) {
+            this.mPoolSize.decrementAndGet();
+            if (!bitmap.isRecycled()) return bitmap;
+        }
+
+        // Create a new bitmap
+        return Bitmap.createBitmap(this.mWidth, this.mHeight, Bitmap.Config.ARGB_8888);
+    }
+
+    // Release a bitmap that is not used anymore.
+    // If the pool is full or the bitmap have not the pool size the bitmap will be recycled.
+    @SuppressWarnings("unused")
+    public void release(Bitmap bitmap) {
+        // Check the bitmap
+        if (bitmap == null || bitmap.isRecycled()) return;
+
+        // Put the bitmap inside the pool if possible
+        if (bitmap.getWidth() == this.mWidth && bitmap.getHeight() == this.mHeight &&
+                this.mPoolSize.incrementAndGet() <= this.mMaxPoolSize) {
+            this.mPool.offer(bitmap);
+            return;
+        }
+
+        // Else recycle it
+        if (bitmap.getWidth() == this.mWidth && bitmap.getHeight() == this.mHeight) {
+            this.mPoolSize.decrementAndGet();
+        }
+        bitmap.recycle();
+    }
+
+    // Recycle all the bitmaps inside the pool
+    @SuppressWarnings("unused")
+    public void clearPool() {
+        Bitmap bitmap;
+        while ((bitmap = this.mPool.poll()) != null) {
+            this.mPoolSize.decrementAndGet();
+            bitmap.recycle();
+        }
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The last configuration used for render
+    @SuppressWarnings("unused")
+    public ScGaugeBitmapRenderer getConfiguration() {
+        return this.mConfiguration;
+    }
+
+    // The bitmaps size
+    @SuppressWarnings("unused")
+    public int getWidth() {
+        return this.mWidth;
+    }
+
+    @SuppressWarnings("unused")
+    public int getHeight() {
+        return this.mHeight;
+    }
+
+    // The number of bitmaps inside the pool
+    @SuppressWarnings("unused")
+    public int getPoolSize() {
+        return this.mPoolSize.get();
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // The renderer of a worker thread with the configuration copied inside it
+    private static class WorkerRenderer {
+
+        public final ScGaugeBitmapRenderer renderer;
+        public ScGaugeBitmapRenderer configuration;
+
+        public WorkerRenderer(ScGaugeBitmapRenderer renderer) {
+            this.renderer = renderer;
+        }
+
+    }
+
+
+    /**
+     * Public listener and interface
+     */
+
+    // The batch events.
+    // Called on the executor threads. The rendered bitmap belong to the caller that should
+    // release it when not used anymore.
+    @SuppressWarnings("unused")
+    public interface Callback {
+
+        void onRendered(int index, Bitmap bitmap);
+
+        void onCompleted();
+
+    }
+
+}
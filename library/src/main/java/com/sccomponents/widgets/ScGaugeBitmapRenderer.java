@@ -0,0 +1,263 @@
+package com.sccomponents.widgets;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+import com.sccomponents.widgets.geometry.ScGeometry;
+
+/**
+ * Render a gauge inside a bitmap without a view.
+ * <p/>
+ * The gauge is drawn by the same arcs renderers used by the ScGauge so the result is the same
+ * drawn by the view. The configuration can be copied from a gauge or settled directly on the
+ * arcs renderers.
+ * The render can be done on any thread but the same instance must not be used by more threads
+ * at the same time. The listeners of the gauge are not considered.
+ * v1.0.0
+ */
+public class ScGaugeBitmapRenderer {
+
+    /**
+     * Private variables
+     */
+
+    private Context mContext;
+
+    private ScArcRenderer mArcBase;
+    private ScArcRenderer mArcNotchs;
+    private ScArcRenderer mArcProgress;
+
+    private boolean mDrawNotchsForLast;
+
+    private int mPaddingLeft;
+    private int mPaddingTop;
+    private int mPaddingRight;
+    private int mPaddingBottom;
+
+    private Canvas mCanvas;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScGaugeBitmapRenderer(Context context) {
+        // The arcs renderers have no host
+        this.mContext = context;
+        this.mArcBase = new ScArcRenderer(context, null);
+        this.mArcNotchs = new ScNotchsRenderer(context, null);
+        this.mArcProgress = new ScArcRenderer(context, null);
+
+        // Reused for every render
+        this.mCanvas = new Canvas();
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Copy the source renderer settings inside the target.
+    // If the target is not of the same type of the source a new renderer will be created.
+    private ScArcRenderer copyRenderer(ScArcRenderer target, ScArcRenderer source) {
+        // Check the type
+        if (target.getClass() != source.getClass()) {
+            target = source instanceof ScNotchsRenderer ?
+                    new ScNotchsRenderer(this.mContext, null) :
+                    new ScArcRenderer(this.mContext, null);
+        }
+
+        // Copy the settings
+        target.copyFrom(source);
+        return target;
+    }
+
+    // Get the size in relation at the type
+    private float getStrokeSize(ScArcRenderer object) {
+        return object instanceof ScNotchsRenderer ?
+                ((ScNotchsRenderer) object).getNotchsLength() : object.getStrokeSize();
+    }
+
+    // Apply the padding to the arc centering its stroke respect the max stroke size
+    private void fixArcPadding(ScArcRenderer arc, float maxSize) {
+        int padding = Math.round((maxSize - this.getStrokeSize(arc)) / 2);
+        arc.setPadding(
+                this.mPaddingLeft + padding, this.mPaddingTop + padding,
+                this.mPaddingRight + padding, this.mPaddingBottom + padding
+        );
+    }
+
+    // Fix the arcs padding.
+    // Like the gauge centering the strokes one above the other.
+    private void fixArcsPadding() {
+        // Find the max stroke size
+        float maxSize = ScWidget.findMaxValue(
+                this.getStrokeSize(this.mArcBase),
+                this.getStrokeSize(this.mArcNotchs),
+                this.getStrokeSize(this.mArcProgress)
+        );
+
+        // Apply the padding
+        this.fixArcPadding(this.mArcBase, maxSize);
+        this.fixArcPadding(this.mArcNotchs, maxSize);
+        this.fixArcPadding(this.mArcProgress, maxSize);
+    }
+
+    // Draw the arc only if visible
+    private void drawArc(Canvas canvas, ScArcRenderer arc, int width, int height) {
+        if (arc.getVisible()) {
+            arc.draw(canvas, width, height);
+        }
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Copy the configuration from a gauge.
+    // Must be called on the thread that own the gauge. The gauge view padding is used as outer
+    // padding while the arcs padding is calculated like the gauge do without consider the
+    // custom padding listener.
+    @SuppressWarnings("unused")
+    public void setConfiguration(ScGauge gauge) {
+        // Arcs
+        this.mArcBase = this.copyRenderer(this.mArcBase, gauge.getBaseArcRenderer());
+        this.mArcNotchs = this.copyRenderer(this.mArcNotchs, gauge.getNotchsArcRenderer());
+        this.mArcProgress = this.copyRenderer(this.mArcProgress, gauge.getProgressArcRenderer());
+
+        // Settings
+        this.mDrawNotchsForLast = gauge.getDrawNotchsForLast();
+        this.setPadding(
+                gauge.getPaddingLeft(), gauge.getPaddingTop(),
+                gauge.getPaddingRight(), gauge.getPaddingBottom()
+        );
+    }
+
+    // Copy the configuration from another bitmap renderer.
+    // The source must not be changed or used for render by another thread while copying.
+    @SuppressWarnings("unused")
+    public void setConfiguration(ScGaugeBitmapRenderer source) {
+        // Arcs
+        this.mArcBase = this.copyRenderer(this.mArcBase, source.mArcBase);
+        this.mArcNotchs = this.copyRenderer(this.mArcNotchs, source.mArcNotchs);
+        this.mArcProgress = this.copyRenderer(this.mArcProgress, source.mArcProgress);
+
+        // Settings
+        this.mDrawNotchsForLast = source.mDrawNotchsForLast;
+        this.setPadding(
+                source.mPaddingLeft, source.mPaddingTop,
+                source.mPaddingRight, source.mPaddingBottom
+        );
+    }
+
+    // Render the gauge inside the bitmap with the passed progress value in degrees.
+    // The bitmap must be mutable and will be cleared before draw. The gauge fill the whole
+    // bitmap area.
+    @SuppressWarnings("unused")
+    public void render(Bitmap bitmap, float degrees) {
+        // Clear the bitmap and bind the canvas to it
+        bitmap.eraseColor(Color.TRANSPARENT);
+        this.mCanvas.setBitmap(bitmap);
+
+        // Draw the gauge on the whole bitmap and release it
+        this.draw(this.mCanvas, bitmap.getWidth(), bitmap.getHeight(), degrees);
+        this.mCanvas.setBitmap(null);
+    }
+
+    // Draw the gauge on a canvas with the passed progress value in degrees.
+    // The gauge fill an area of the passed dimensions starting from the canvas origin so the
+    // canvas must be translated on the area before call this method. The area is not cleared.
+    @SuppressWarnings("unused")
+    public void draw(Canvas canvas, int width, int height, float degrees) {
+        // Apply the value and the padding
+        this.mArcProgress.setAngleDraw(
+                ScWidget.valueRangeLimit(degrees, 0, this.mArcProgress.getAngleSweep()));
+        this.fixArcsPadding();
+
+        // Draw the arcs in sequence.
+        // If need to draw the notchs for last invert its position with the progress.
+        this.drawArc(canvas, this.mArcBase, width, height);
+        this.drawArc(canvas, this.mDrawNotchsForLast ? this.mArcProgress : this.mArcNotchs, width, height);
+        this.drawArc(canvas, this.mDrawNotchsForLast ? this.mArcNotchs : this.mArcProgress, width, height);
+    }
+
+    // Render the gauge with a progress value based on a values range
+    @SuppressWarnings("unused")
+    public void render(Bitmap bitmap, float value, float startRange, float endRange) {
+        // Convert the value in the relative angle and render
+        this.render(bitmap, ScGeometry.translateValueToAngle(
+                value, this.mArcProgress.getAngleSweep(), startRange, endRange));
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The context used for create the arcs renderers
+    @SuppressWarnings("unused")
+    public Context getContext() {
+        return this.mContext;
+    }
+
+    // The arcs renderers.
+    // Can be used for change directly the configuration.
+    @SuppressWarnings("unused")
+    public ScArcRenderer getBaseArcRenderer() {
+        return this.mArcBase;
+    }
+
+    @SuppressWarnings("unused")
+    public ScArcRenderer getNotchsArcRenderer() {
+        return this.mArcNotchs;
+    }
+
+    @SuppressWarnings("unused")
+    public ScArcRenderer getProgressArcRenderer() {
+        return this.mArcProgress;
+    }
+
+    // Draw the notchs for the last
+    @SuppressWarnings("unused")
+    public boolean getDrawNotchsForLast() {
+        return this.mDrawNotchsForLast;
+    }
+
+    @SuppressWarnings("unused")
+    public void setDrawNotchsForLast(boolean value) {
+        this.mDrawNotchsForLast = value;
+    }
+
+    // The outer padding of the gauge inside the bitmap
+    @SuppressWarnings("unused")
+    public void setPadding(int left, int top, int right, int bottom) {
+        this.mPaddingLeft = left;
+        this.mPaddingTop = top;
+        this.mPaddingRight = right;
+        this.mPaddingBottom = bottom;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingLeft() {
+        return this.mPaddingLeft;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingTop() {
+        return this.mPaddingTop;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingRight() {
+        return this.mPaddingRight;
+    }
+
+    @SuppressWarnings("unused")
+    public int getPaddingBottom() {
+        return this.mPaddingBottom;
+    }
+
+}
@@ -0,0 +1,814 @@
+package com.sccomponents.widgets;
+
+import android.animation.TimeInterpolator;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.SweepGradient;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.animation.DecelerateInterpolator;
+
+import com.sccomponents.widgets.geometry.ScGeometry;
+
+import java.util.Arrays;
+
+/**
+ * Draw many gauges inside a single view.
+ * <p/>
+ * The gauges are placed on a grid and drawn in one pass. Every gauge is only a record inside
+ * flat primitive arrays (angles, value and style) so hundreds of gauges cost one view.
+ * The gauges with the same style share the painters and, if have the same sweep angle, the
+ * gradient shader too. The values are animated by one step of the shared animation clock and
+ * the touches are passed to the gauge under the pointer.
+ * v1.0.0
+ */
+public class ScGaugeDashboard extends ScWidget implements ScAnimationClock.Client {
+
+    /**
+     * Constants
+     */
+
+    public static final int DEFAULT_COLUMNS = 4;
+
+    public static final float DEFAULT_STROKE_SIZE = 3.0f;
+    public static final int DEFAULT_STROKE_COLOR = Color.BLACK;
+    public static final int DEFAULT_PROGRESS_COLOR = Color.GRAY;
+
+    // Initial capacity of the holders
+    private static final int DEFAULT_CAPACITY = 16;
+
+
+    /**
+     * Private variables
+     */
+
+    private int mColumns;
+    private float mCellWidth;
+    private float mCellHeight;
+
+    // Gauges
+    private int mCount;
+    private float[] mAngleStart;
+    private float[] mAngleSweep;
+    private float[] mAngleDraw;
+    private float[] mAngleFrom;
+    private float[] mAngleTo;
+    private int[] mStyle;
+    private boolean[] mAnimating;
+    private long[] mAnimationStart;
+
+    // Styles
+    private int mStylesCount;
+    private float[] mStyleStrokeSize;
+    private int[][] mStyleColors;
+    private Paint[] mStyleBasePaint;
+    private Paint[] mStyleProgressPaint;
+
+    // Shaders shared by the gauges with the same style and sweep angle
+    private int mShadersCount;
+    private int[] mShaderStyle;
+    private float[] mShaderSweep;
+    private Shader[] mShaders;
+
+    // Animation
+    private long mAnimationDuration;
+    private TimeInterpolator mAnimationInterpolator;
+    private int mAnimatingCount;
+    private boolean mAnimationClockRegistered;
+
+    // Touch
+    private boolean mInputEnabled;
+    private int mPressedIndex;
+
+    private RectF mDrawArea;
+    private OnEventListener mOnEventListener;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScGaugeDashboard(Context context) {
+        super(context);
+        this.init(context);
+    }
+
+    public ScGaugeDashboard(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        this.init(context);
+    }
+
+    public ScGaugeDashboard(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        this.init(context);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Init the component.
+    // Create the holders and the default style.
+    private void init(Context context) {
+        //--------------------------------------------------
+        // HOLDERS
+
+        this.mColumns = ScGaugeDashboard.DEFAULT_COLUMNS;
+        this.mAngleStart = new float[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAngleSweep = new float[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAngleDraw = new float[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAngleFrom = new float[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAngleTo = new float[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mStyle = new int[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAnimating = new boolean[ScGaugeDashboard.DEFAULT_CAPACITY];
+        this.mAnimationStart = new long[ScGaugeDashboard.DEFAULT_CAPACITY];
+
+        //--------------------------------------------------
+        // STYLES
+
+        this.mStyleStrokeSize = new float[4];
+        this.mStyleColors = new int[4][];
+        this.mStyleBasePaint = new Paint[4];
+        this.mStyleProgressPaint = new Paint[4];
+
+        this.mShaderStyle = new int[4];
+        this.mShaderSweep = new float[4];
+        this.mShaders = new Shader[4];
+
+        // The default style used by the gauges added without style
+        this.addStyle(
+                this.dipToPixel(ScGaugeDashboard.DEFAULT_STROKE_SIZE),
+                ScGaugeDashboard.DEFAULT_STROKE_COLOR,
+                ScGaugeDashboard.DEFAULT_PROGRESS_COLOR
+        );
+
+        //--------------------------------------------------
+        // ANIMATION AND TOUCH
+
+        this.mAnimationDuration = 0;
+        this.mAnimationInterpolator = new DecelerateInterpolator();
+        this.mPressedIndex = -1;
+
+        //--------------------------------------------------
+        // SCRATCH OBJECTS
+
+        // Used only inside the draw path for not allocate new objects on every frame
+        this.mDrawArea = new RectF();
+    }
+
+    // Grow the gauges holders if full
+    private void ensureCapacity() {
+        // Check if full
+        if (this.mCount < this.mAngleStart.length) return;
+
+        // Double the holders
+        int length = this.mCount * 2;
+        this.mAngleStart = Arrays.copyOf(this.mAngleStart, length);
+        this.mAngleSweep = Arrays.copyOf(this.mAngleSweep, length);
+        this.mAngleDraw = Arrays.copyOf(this.mAngleDraw, length);
+        this.mAngleFrom = Arrays.copyOf(this.mAngleFrom, length);
+        this.mAngleTo = Arrays.copyOf(this.mAngleTo, length);
+        this.mStyle = Arrays.copyOf(this.mStyle, length);
+        this.mAnimating = Arrays.copyOf(this.mAnimating, length);
+        this.mAnimationStart = Arrays.copyOf(this.mAnimationStart, length);
+    }
+
+    // Check the gauge index
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.mCount)
+            throw new IndexOutOfBoundsException("Gauge index " + index + ", count " + this.mCount);
+    }
+
+    // Check the style index
+    private void checkStyle(int style) {
+        if (style < 0 || style >= this.mStylesCount)
+            throw new IndexOutOfBoundsException("Style index " + style + ", count " + this.mStylesCount);
+    }
+
+    // Calc the cells dimensions by the view dimensions and the gauges count
+    private void calcCells() {
+        // Find the rows
+        int rows = Math.max(1, (this.mCount + this.mColumns - 1) / this.mColumns);
+
+        // Find the cells dimensions
+        int width = this.getWidth() - this.getPaddingLeft() - this.getPaddingRight();
+        int height = this.getHeight() - this.getPaddingTop() - this.getPaddingBottom();
+        this.mCellWidth = Math.max(0, width) / (float) this.mColumns;
+        this.mCellHeight = Math.max(0, height) / (float) rows;
+    }
+
+    // Find the horizontal center of the gauge
+    private float getCenterX(int index) {
+        return this.getPaddingLeft() + (index % this.mColumns + 0.5f) * this.mCellWidth;
+    }
+
+    // Find the vertical center of the gauge
+    private float getCenterY(int index) {
+        return this.getPaddingTop() + (index / this.mColumns + 0.5f) * this.mCellHeight;
+    }
+
+    // Find the radius of the gauge arcs path.
+    // The arcs fill the cell considering the stroke size.
+    private float getRadius(int index) {
+        float radius = Math.min(this.mCellWidth, this.mCellHeight) / 2 -
+                this.mStyleStrokeSize[this.mStyle[index]] / 2;
+        return radius < 0 ? 0 : radius;
+    }
+
+    // Get the shader of the style for the passed sweep angle.
+    // The shaders are created centered on the origin and starting from zero degrees so can be
+    // shared by all the gauges with the same style and sweep.
+    private Shader getShader(int style, float sweep) {
+        // Check for a single color
+        int[] colors = this.mStyleColors[style];
+        if (colors.length < 2) return null;
+
+        // Find the shader inside the cache
+        for (int index = 0; index < this.mShadersCount; index++) {
+            if (this.mShaderStyle[index] == style && this.mShaderSweep[index] == sweep)
+                return this.mShaders[index];
+        }
+
+        // Spread the colors on the sweep angle
+        float[] positions = new float[colors.length];
+        for (int index = 0; index < colors.length; index++) {
+            positions[index] = (sweep / ScGeometry.ANGLE_MAX) * index / (colors.length - 1);
+        }
+
+        // Grow the cache if needed
+        if (this.mShadersCount == this.mShaders.length) {
+            int length = this.mShadersCount * 2;
+            this.mShaderStyle = Arrays.copyOf(this.mShaderStyle, length);
+            this.mShaderSweep = Arrays.copyOf(this.mShaderSweep, length);
+            this.mShaders = Arrays.copyOf(this.mShaders, length);
+        }
+
+        // Create and store the shader
+        Shader shader = new SweepGradient(0, 0, colors, positions);
+        this.mShaderStyle[this.mShadersCount] = style;
+        this.mShaderSweep[this.mShadersCount] = sweep;
+        this.mShaders[this.mShadersCount] = shader;
+        this.mShadersCount++;
+
+        // Count the shader creation if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        if (metrics != null) metrics.count(ScWidgetMetrics.Counters.SHADER_BUILD);
+
+        return shader;
+    }
+
+    // Release the shaders of the style
+    private void releaseShaders(int style) {
+        int index = 0;
+        while (index < this.mShadersCount) {
+            // Move the last shader in the position of the removed one
+            if (this.mShaderStyle[index] == style) {
+                int last = --this.mShadersCount;
+                this.mShaderStyle[index] = this.mShaderStyle[last];
+                this.mShaderSweep[index] = this.mShaderSweep[last];
+                this.mShaders[index] = this.mShaders[last];
+                this.mShaders[last] = null;
+
+            } else {
+                index++;
+            }
+        }
+    }
+
+    // Draw a single gauge
+    private void drawGauge(Canvas canvas, int index) {
+        // Check if the cell is visible
+        float halfWidth = this.mCellWidth / 2;
+        float halfHeight = this.mCellHeight / 2;
+        float centerX = this.getCenterX(index);
+        float centerY = this.getCenterY(index);
+        if (canvas.quickReject(
+                centerX - halfWidth, centerY - halfHeight,
+                centerX + halfWidth, centerY + halfHeight,
+                Canvas.EdgeType.AA)) return;
+
+        // Move the origin on the gauge center and rotate it on the start angle.
+        // Negative sweep angles are drawn mirroring the canvas so the shared shaders start
+        // always from the zero degrees.
+        int style = this.mStyle[index];
+        float sweep = this.mAngleSweep[index];
+        canvas.save();
+        canvas.translate(centerX, centerY);
+        canvas.rotate(this.mAngleStart[index]);
+        if (sweep < 0) canvas.scale(1.0f, -1.0f);
+
+        // Draw the base arc
+        float radius = this.getRadius(index);
+        this.mDrawArea.set(-radius, -radius, radius, radius);
+        canvas.drawArc(this.mDrawArea, 0, Math.abs(sweep), false, this.mStyleBasePaint[style]);
+
+        // Draw the progress arc
+        float draw = Math.abs(this.mAngleDraw[index]);
+        if (draw > 0) {
+            Paint paint = this.mStyleProgressPaint[style];
+            if (this.mStyleColors[style].length > 1)
+                paint.setShader(this.getShader(style, Math.abs(sweep)));
+            canvas.drawArc(this.mDrawArea, 0, draw, false, paint);
+        }
+
+        // Restore the canvas
+        canvas.restore();
+    }
+
+    // Set the drawn value of a gauge and raise the event
+    private void updateValue(int index, float degrees) {
+        this.mAngleDraw[index] = degrees;
+        if (this.mOnEventListener != null) this.mOnEventListener.onValueChange(index, degrees);
+    }
+
+    // Stop the animation of a gauge
+    private void stopAnimation(int index) {
+        if (this.mAnimating[index]) {
+            this.mAnimating[index] = false;
+            this.mAnimatingCount--;
+        }
+    }
+
+    // Animate a gauge from the current drawn angle to the passed one.
+    // All the gauges are stepped by the same clock client but every gauge have its own start
+    // time, so a new animation not restart the animations of the other gauges.
+    private void animateValue(int index, float degrees) {
+        // Without duration the new angle is applied immediately
+        if (this.mAnimationDuration <= 0) {
+            this.stopAnimation(index);
+            this.updateValue(index, degrees);
+            this.invalidate();
+            return;
+        }
+
+        // Count the animation start if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        if (metrics != null) metrics.count(ScWidgetMetrics.Counters.ANIMATION_START);
+
+        // Hold the animation settings.
+        // The animation start from the current drawn angle also if an animation is running.
+        this.mAngleFrom[index] = this.mAngleDraw[index];
+        this.mAngleTo[index] = degrees;
+        this.mAnimationStart[index] = System.nanoTime();
+        if (!this.mAnimating[index]) {
+            this.mAnimating[index] = true;
+            this.mAnimatingCount++;
+        }
+
+        // Add the dashboard to the clock only if not already added
+        if (!this.mAnimationClockRegistered) {
+            this.mAnimationClockRegistered = true;
+            ScAnimationClock.getInstance().add(this);
+        }
+    }
+
+
+    /**
+     * Overrides
+     */
+
+    // Measure the dashboard.
+    // If the height is not fixed the cells are squared.
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // Record the duration if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        long startTime = metrics != null ? metrics.begin(ScWidgetMetrics.Phases.MEASURE) : 0;
+
+        // Find the width
+        int width = View.getDefaultSize(this.getSuggestedMinimumWidth(), widthMeasureSpec);
+
+        // Find the height needed by the squared cells
+        int hPadding = this.getPaddingLeft() + this.getPaddingRight();
+        int vPadding = this.getPaddingTop() + this.getPaddingBottom();
+        int rows = (this.mCount + this.mColumns - 1) / this.mColumns;
+        int height = Math.round((width - hPadding) / (float) this.mColumns * rows) + vPadding;
+
+        // Apply the dimensions
+        this.setMeasuredDimension(width, View.resolveSize(height, heightMeasureSpec));
+        if (metrics != null) metrics.end(ScWidgetMetrics.Phases.MEASURE, startTime);
+    }
+
+    // On size changed
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        this.calcCells();
+    }
+
+    // Draw all the gauges
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        for (int index = 0; index < this.mCount; index++) {
+            this.drawGauge(canvas, index);
+        }
+    }
+
+    // Pass the touch to the gauge under the pointer.
+    // The touches are considered only if the input is enabled.
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        // Check if enabled
+        if (!this.mInputEnabled) return super.onTouchEvent(event);
+
+        // Select case by action type
+        float x = event.getX();
+        float y = event.getY();
+        switch (event.getAction()) {
+            // Press
+            case MotionEvent.ACTION_DOWN:
+                // Find the pressed gauge
+                this.mPressedIndex = this.getGaugeAt(x, y);
+                if (this.mPressedIndex == -1) return false;
+                break;
+
+            // Release
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                this.mPressedIndex = -1;
+                return true;
+        }
+
+        // Set the value of the pressed gauge
+        int index = this.mPressedIndex;
+        if (index != -1 && index < this.mCount) {
+            float radius = this.getRadius(index);
+            this.stopAnimation(index);
+            this.updateValue(index, ScGeometry.getAngleFromPoint(
+                    x, y,
+                    this.getCenterX(index), this.getCenterY(index), radius, radius,
+                    this.mAngleStart[index], this.mAngleSweep[index]
+            ));
+            this.invalidate();
+        }
+        return true;
+    }
+
+    // On animation frame of the shared clock.
+    // Step all the animating gauges and draw the dashboard again only once.
+    @Override
+    public boolean onAnimationFrame(long frameTimeNanos) {
+        // Check if the animations was stopped
+        if (this.mAnimatingCount == 0) {
+            this.mAnimationClockRegistered = false;
+            return false;
+        }
+
+        // Step all the animating gauges on their own timeline
+        float duration = this.mAnimationDuration * 1000000.0f;
+        for (int index = 0; index < this.mCount; index++) {
+            if (!this.mAnimating[index]) continue;
+
+            // Find the fraction of the elapsed time and check for the end
+            float fraction = duration <= 0.0f ? 1.0f :
+                    (frameTimeNanos - this.mAnimationStart[index]) / duration;
+            fraction = ScGeometry.valueRangeLimit(fraction, 0.0f, 1.0f);
+            boolean ended = fraction == 1.0f;
+
+            // Interpolate
+            if (this.mAnimationInterpolator != null) {
+                fraction = this.mAnimationInterpolator.getInterpolation(fraction);
+            }
+
+            // Apply
+            float from = this.mAngleFrom[index];
+            this.updateValue(index, from + (this.mAngleTo[index] - from) * fraction);
+            if (ended) this.stopAnimation(index);
+        }
+        this.invalidate();
+
+        // Continue only if still animating.
+        // Note that the listener could have started a new animation.
+        this.mAnimationClockRegistered = this.mAnimatingCount > 0;
+        return this.mAnimationClockRegistered;
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Add a new style and return its index.
+    // The stroke size is in pixel and is the same for the base and the progress arcs. If more
+    // than one progress colors are passed the progress is drawn with a gradient.
+    @SuppressWarnings("unused")
+    public int addStyle(float strokeSize, int baseColor, int... progressColors) {
+        // Grow the holders if needed
+        if (this.mStylesCount == this.mStyleStrokeSize.length) {
+            int length = this.mStylesCount * 2;
+            this.mStyleStrokeSize = Arrays.copyOf(this.mStyleStrokeSize, length);
+            this.mStyleColors = Arrays.copyOf(this.mStyleColors, length);
+            this.mStyleBasePaint = Arrays.copyOf(this.mStyleBasePaint, length);
+            this.mStyleProgressPaint = Arrays.copyOf(this.mStyleProgressPaint, length);
+        }
+
+        // Create the painters
+        int style = this.mStylesCount++;
+        this.mStyleBasePaint[style] = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.mStyleBasePaint[style].setStyle(Paint.Style.STROKE);
+        this.mStyleProgressPaint[style] = new Paint(Paint.ANTI_ALIAS_FLAG);
+        this.mStyleProgressPaint[style].setStyle(Paint.Style.STROKE);
+
+        // Apply the settings
+        this.setStyle(style, strokeSize, baseColor, progressColors);
+        return style;
+    }
+
+    // Change a style.
+    // All the gauges with this style will be changed.
+    @SuppressWarnings("unused")
+    public void setStyle(int style, float strokeSize, int baseColor, int... progressColors) {
+        // Check the index and the colors
+        this.checkStyle(style);
+        if (progressColors == null || progressColors.length == 0)
+            progressColors = new int[]{ScGaugeDashboard.DEFAULT_PROGRESS_COLOR};
+
+        // Store the settings
+        this.mStyleStrokeSize[style] = strokeSize < 0 ? 0 : strokeSize;
+        this.mStyleColors[style] = progressColors.clone();
+
+        // Apply the settings to the painters
+        Paint base = this.mStyleBasePaint[style];
+        base.setStrokeWidth(this.mStyleStrokeSize[style]);
+        base.setColor(baseColor);
+
+        Paint progress = this.mStyleProgressPaint[style];
+        progress.setStrokeWidth(this.mStyleStrokeSize[style]);
+        progress.setColor(progressColors[0]);
+        progress.setShader(null);
+
+        // The gradients must be created again
+        this.releaseShaders(style);
+        this.invalidate();
+    }
+
+    // Add a new gauge and return its index
+    @SuppressWarnings("unused")
+    public int addGauge(float angleStart, float angleSweep, int style) {
+        // Check the style and make space
+        this.checkStyle(style);
+        this.ensureCapacity();
+
+        // Store the gauge
+        int index = this.mCount++;
+        this.mAngleStart[index] = angleStart;
+        this.mAngleSweep[index] = angleSweep;
+        this.mAngleDraw[index] = 0.0f;
+        this.mStyle[index] = style;
+        this.mAnimating[index] = false;
+
+        // The grid could be changed
+        this.calcCells();
+        this.requestLayout();
+        this.invalidate();
+        return index;
+    }
+
+    @SuppressWarnings("unused")
+    public int addGauge(float angleStart, float angleSweep) {
+        return this.addGauge(angleStart, angleSweep, 0);
+    }
+
+    // Remove all the gauges.
+    // The styles are not removed.
+    @SuppressWarnings("unused")
+    public void removeAllGauges() {
+        this.mCount = 0;
+        this.mAnimatingCount = 0;
+        this.mPressedIndex = -1;
+        Arrays.fill(this.mAnimating, false);
+
+        // The grid is changed
+        this.calcCells();
+        this.requestLayout();
+        this.invalidate();
+    }
+
+    // Find the gauge under the point.
+    // Return -1 if the point is not inside any gauge circle.
+    @SuppressWarnings("unused")
+    public int getGaugeAt(float x, float y) {
+        // Check the cells
+        if (this.mCellWidth <= 0 || this.mCellHeight <= 0) return -1;
+
+        // Find the cell
+        float left = x - this.getPaddingLeft();
+        float top = y - this.getPaddingTop();
+        if (left < 0 || top < 0) return -1;
+
+        int column = (int) (left / this.mCellWidth);
+        int row = (int) (top / this.mCellHeight);
+        int index = row * this.mColumns + column;
+        if (column >= this.mColumns || index >= this.mCount) return -1;
+
+        // Check if the point is inside the gauge circle
+        float radius = this.getRadius(index) + this.mStyleStrokeSize[this.mStyle[index]] / 2;
+        boolean inside = ScGeometry.pointInsideCircle(
+                x - this.getCenterX(index), y - this.getCenterY(index), radius);
+        return inside ? index : -1;
+    }
+
+    // Get the area of the gauge cell
+    @SuppressWarnings("unused")
+    public RectF getGaugeBounds(int index, RectF dest) {
+        this.checkIndex(index);
+
+        float centerX = this.getCenterX(index);
+        float centerY = this.getCenterY(index);
+        dest.set(
+                centerX - this.mCellWidth / 2, centerY - this.mCellHeight / 2,
+                centerX + this.mCellWidth / 2, centerY + this.mCellHeight / 2
+        );
+        return dest;
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The number of the gauges
+    @SuppressWarnings("unused")
+    public int getGaugesCount() {
+        return this.mCount;
+    }
+
+    // The number of the styles
+    @SuppressWarnings("unused")
+    public int getStylesCount() {
+        return this.mStylesCount;
+    }
+
+    // Columns of the grid
+    @SuppressWarnings("unused")
+    public int getColumns() {
+        return this.mColumns;
+    }
+
+    @SuppressWarnings("unused")
+    public void setColumns(int value) {
+        // Check the limit
+        if (value < 1) value = 1;
+
+        // Store the value and refresh
+        if (this.mColumns != value) {
+            this.mColumns = value;
+            this.calcCells();
+            this.requestLayout();
+            this.invalidate();
+        }
+    }
+
+    // Gauge angles
+    @SuppressWarnings("unused")
+    public float getAngleStart(int index) {
+        this.checkIndex(index);
+        return this.mAngleStart[index];
+    }
+
+    @SuppressWarnings("unused")
+    public float getAngleSweep(int index) {
+        this.checkIndex(index);
+        return this.mAngleSweep[index];
+    }
+
+    @SuppressWarnings("unused")
+    public void setAngles(int index, float angleStart, float angleSweep) {
+        // Store the values
+        this.checkIndex(index);
+        this.mAngleStart[index] = angleStart;
+        this.mAngleSweep[index] = angleSweep;
+
+        // The value must be within the new sweep
+        this.stopAnimation(index);
+        this.mAngleDraw[index] = ScGeometry.valueRangeLimit(this.mAngleDraw[index], 0, angleSweep);
+        this.invalidate();
+    }
+
+    // Gauge style
+    @SuppressWarnings("unused")
+    public int getStyle(int index) {
+        this.checkIndex(index);
+        return this.mStyle[index];
+    }
+
+    @SuppressWarnings("unused")
+    public void setStyle(int index, int style) {
+        this.checkIndex(index);
+        this.checkStyle(style);
+        this.mStyle[index] = style;
+        this.invalidate();
+    }
+
+    // Gauge value in degrees.
+    // The value is limited within the sweep angle and animated if the duration is settled.
+    // Return the final value also if the animation is running.
+    @SuppressWarnings("unused")
+    public float getValue(int index) {
+        this.checkIndex(index);
+        return this.mAnimating[index] ? this.mAngleTo[index] : this.mAngleDraw[index];
+    }
+
+    @SuppressWarnings("unused")
+    public void setValue(int index, float degrees) {
+        this.checkIndex(index);
+        this.animateValue(index,
+                ScGeometry.valueRangeLimit(degrees, 0, this.mAngleSweep[index]));
+    }
+
+    // Gauge value based on a values range
+    @SuppressWarnings("unused")
+    public float getValue(int index, float startRange, float endRange) {
+        return ScGeometry.translateAngleToValue(
+                this.getValue(index), this.mAngleSweep[index], startRange, endRange);
+    }
+
+    @SuppressWarnings("unused")
+    public void setValue(int index, float value, float startRange, float endRange) {
+        this.checkIndex(index);
+        this.setValue(index, ScGeometry.translateValueToAngle(
+                value, this.mAngleSweep[index], startRange, endRange));
+    }
+
+    // Set the values in degrees of the gauges starting from the first one.
+    // All the changed gauges are animated together.
+    @SuppressWarnings("unused")
+    public void setValues(float[] degrees) {
+        int count = Math.min(degrees.length, this.mCount);
+        for (int index = 0; index < count; index++) {
+            this.animateValue(index,
+                    ScGeometry.valueRangeLimit(degrees[index], 0, this.mAngleSweep[index]));
+        }
+    }
+
+    // The currently drawn value in degrees
+    @SuppressWarnings("unused")
+    public float getDrawnValue(int index) {
+        this.checkIndex(index);
+        return this.mAngleDraw[index];
+    }
+
+    // Animation duration in milliseconds.
+    // Zero mean no animation and the new values are applied immediately.
+    @SuppressWarnings("unused")
+    public long getAnimationDuration() {
+        return this.mAnimationDuration;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAnimationDuration(long value) {
+        this.mAnimationDuration = value < 0 ? 0 : value;
+    }
+
+    // Animation interpolator.
+    // Pass null for a linear animation.
+    @SuppressWarnings("unused")
+    public TimeInterpolator getAnimationInterpolator() {
+        return this.mAnimationInterpolator;
+    }
+
+    @SuppressWarnings("unused")
+    public void setAnimationInterpolator(TimeInterpolator value) {
+        this.mAnimationInterpolator = value;
+    }
+
+    // Enable the touch input.
+    // When enabled the touched gauge take the value of the pointer position.
+    @SuppressWarnings("unused")
+    public boolean getInputEnabled() {
+        return this.mInputEnabled;
+    }
+
+    @SuppressWarnings("unused")
+    public void setInputEnabled(boolean value) {
+        this.mInputEnabled = value;
+        this.mPressedIndex = -1;
+    }
+
+
+    /**
+     * Public listener and interface
+     */
+
+    // Generic dashboard event.
+    // Called every time the drawn value of a gauge change.
+    @SuppressWarnings("unused")
+    public interface OnEventListener {
+
+        void onValueChange(int index, float degrees);
+
+    }
+
+    @SuppressWarnings("unused")
+    public void setOnEventListener(OnEventListener listener) {
+        this.mOnEventListener = listener;
+    }
+
+}
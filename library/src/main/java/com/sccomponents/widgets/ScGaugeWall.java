@@ -0,0 +1,452 @@
+package com.sccomponents.widgets;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Draw a wall of gauges on a dedicated render thread.
+ * <p/>
+ * The gauges are placed on a grid of a surface view and drawn by the same arcs renderers used
+ * by the ScGauge, so the UI thread is free for the input.
+ * The values can be set from any thread: they are handed off to the render thread by lock-free
+ * value streams without allocate objects. The render thread sleep until a value change and draw
+ * at most once per frame period, redrawing only the cells of the changed gauges.
+ * All the gauges share the same configuration.
+ * v1.0.0
+ */
+public class ScGaugeWall extends SurfaceView implements SurfaceHolder.Callback {
+
+    /**
+     * Constants
+     */
+
+    public static final int DEFAULT_COLUMNS = 8;
+    public static final int DEFAULT_FRAME_RATE = 60;
+    public static final int DEFAULT_CLEAR_COLOR = Color.WHITE;
+
+
+    /**
+     * Private variables
+     */
+
+    private volatile ScGaugeBitmapRenderer mConfiguration;
+    private AtomicBoolean mDirty;
+    private AtomicBoolean mFullRedraw;
+
+    private volatile ScValueStream[] mStreams;
+    private volatile ScValueStream.Policies mStreamPolicy;
+    private volatile int mColumns;
+    private volatile int mFrameRate;
+    private volatile int mClearColor;
+
+    private volatile int mSurfaceWidth;
+    private volatile int mSurfaceHeight;
+
+    private volatile long mFramesCount;
+    private volatile long mSkippedFramesCount;
+
+    private RenderThread mRenderThread;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScGaugeWall(Context context) {
+        super(context);
+        this.init(context);
+    }
+
+    public ScGaugeWall(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        this.init(context);
+    }
+
+    public ScGaugeWall(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        this.init(context);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Init the component
+    private void init(Context context) {
+        // Settings
+        this.mStreams = new ScValueStream[0];
+        this.mStreamPolicy = ScValueStream.Policies.LATEST;
+        this.mColumns = ScGaugeWall.DEFAULT_COLUMNS;
+        this.mFrameRate = ScGaugeWall.DEFAULT_FRAME_RATE;
+        this.mClearColor = ScGaugeWall.DEFAULT_CLEAR_COLOR;
+
+        // The render thread trigger and the default configuration
+        this.mDirty = new AtomicBoolean(false);
+        this.mFullRedraw = new AtomicBoolean(false);
+        this.mConfiguration = new ScGaugeBitmapRenderer(context);
+
+        // Listen the surface life cycle
+        this.getHolder().addCallback(this);
+    }
+
+    // Wake up the render thread
+    private void signal() {
+        RenderThread thread = this.mRenderThread;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    // Ask to the render thread to draw all the gauges again
+    private void requestFullRedraw() {
+        this.mFullRedraw.set(true);
+        this.mDirty.set(true);
+        this.signal();
+    }
+
+
+    /**
+     * Overrides
+     */
+
+    // Start the render thread when the surface is ready
+    @Override
+    public void surfaceCreated(SurfaceHolder holder) {
+        this.mRenderThread = new RenderThread(this, holder);
+        this.mRenderThread.start();
+    }
+
+    // Draw all again with the new dimensions
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, int width, int height) {
+        this.mSurfaceWidth = width;
+        this.mSurfaceHeight = height;
+        this.requestFullRedraw();
+    }
+
+    // Stop the render thread.
+    // Must wait the thread end because the surface is not usable after this call.
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+        // Stop
+        RenderThread thread = this.mRenderThread;
+        this.mRenderThread = null;
+        if (thread == null) return;
+        thread.quit();
+
+        // Wait the end
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Copy the configuration from a gauge.
+    // Must be called on the thread that own the gauge. The configuration is copied on the
+    // calling thread and applied by the render thread on the next frame.
+    @SuppressWarnings("unused")
+    public void setConfiguration(ScGauge gauge) {
+        ScGaugeBitmapRenderer configuration = new ScGaugeBitmapRenderer(this.getContext());
+        configuration.setConfiguration(gauge);
+        this.setConfiguration(configuration);
+    }
+
+    // Use the configuration of a bitmap renderer.
+    // The configuration is copied by the render thread so the source must not be changed after
+    // this call.
+    @SuppressWarnings("unused")
+    public void setConfiguration(ScGaugeBitmapRenderer configuration) {
+        this.mConfiguration = configuration;
+        this.requestFullRedraw();
+    }
+
+    // Set the gauge value in degrees.
+    // Can be called from any thread and not allocate objects. The values pushed within the same
+    // frame are aggregated by the streams policy.
+    @SuppressWarnings("unused")
+    public void setValue(int index, float degrees) {
+        // Push the value and wake up the render thread only if it not already have to draw
+        if (this.mStreams[index].push(degrees) && this.mDirty.compareAndSet(false, true)) {
+            this.signal();
+        }
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The number of gauges.
+    // Changing the count reset all the values to zero.
+    @SuppressWarnings("unused")
+    public int getGaugesCount() {
+        return this.mStreams.length;
+    }
+
+    @SuppressWarnings("unused")
+    public void setGaugesCount(int value) {
+        // Create the streams
+        ScValueStream[] streams = new ScValueStream[value < 0 ? 0 : value];
+        for (int index = 0; index < streams.length; index++) {
+            streams[index] = new ScValueStream(this.mStreamPolicy, 0.0f);
+        }
+
+        // Publish and draw all again
+        this.mStreams = streams;
+        this.requestFullRedraw();
+    }
+
+    // The aggregation policy of the values pushed within the same frame
+    @SuppressWarnings("unused")
+    public ScValueStream.Policies getStreamPolicy() {
+        return this.mStreamPolicy;
+    }
+
+    @SuppressWarnings("unused")
+    public void setStreamPolicy(ScValueStream.Policies value) {
+        this.mStreamPolicy = value;
+        for (ScValueStream stream : this.mStreams) {
+            stream.setPolicy(value);
+        }
+    }
+
+    // Columns of the grid
+    @SuppressWarnings("unused")
+    public int getColumns() {
+        return this.mColumns;
+    }
+
+    @SuppressWarnings("unused")
+    public void setColumns(int value) {
+        this.mColumns = value < 1 ? 1 : value;
+        this.requestFullRedraw();
+    }
+
+    // Max frames per second
+    @SuppressWarnings("unused")
+    public int getFrameRate() {
+        return this.mFrameRate;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFrameRate(int value) {
+        this.mFrameRate = value < 1 ? 1 : value;
+    }
+
+    // The color used for clear the cells
+    @SuppressWarnings("unused")
+    public int getClearColor() {
+        return this.mClearColor;
+    }
+
+    @SuppressWarnings("unused")
+    public void setClearColor(int value) {
+        this.mClearColor = value;
+        this.requestFullRedraw();
+    }
+
+    // The frames drawn by the render thread
+    @SuppressWarnings("unused")
+    public long getFramesCount() {
+        return this.mFramesCount;
+    }
+
+    // The frames skipped by the render thread because no values was changed
+    @SuppressWarnings("unused")
+    public long getSkippedFramesCount() {
+        return this.mSkippedFramesCount;
+    }
+
+
+    /**
+     * Private classes
+     */
+
+    // The render thread.
+    // Wait for the changes, consume the values and draw the changed cells at most once per
+    // frame period.
+    private static class RenderThread extends Thread {
+
+        private final ScGaugeWall mWall;
+        private final SurfaceHolder mHolder;
+        private final ScGaugeBitmapRenderer mRenderer;
+        private ScGaugeBitmapRenderer mConfiguration;
+        private volatile boolean mRunning;
+
+        private ScValueStream[] mStreams;
+        private float[] mValues;
+        private boolean[] mChanged;
+        private final Rect mDirtyRect;
+
+        public RenderThread(ScGaugeWall wall, SurfaceHolder holder) {
+            super("ScGaugeWall");
+            this.mWall = wall;
+            this.mHolder = holder;
+            this.mRenderer = new ScGaugeBitmapRenderer(wall.getContext());
+            this.mRunning = true;
+
+            this.mValues = new float[0];
+            this.mChanged = new boolean[0];
+            this.mDirtyRect = new Rect();
+
+            // Draw all on the first frame
+            wall.mFullRedraw.set(true);
+            wall.mDirty.set(true);
+        }
+
+        // Stop the thread
+        public void quit() {
+            this.mRunning = false;
+            LockSupport.unpark(this);
+        }
+
+        // Consume the values and apply the pending settings.
+        // Return true if something must be drawn.
+        private boolean update() {
+            // Apply the new configuration
+            ScGaugeBitmapRenderer configuration = this.mWall.mConfiguration;
+            if (configuration != this.mConfiguration) {
+                this.mRenderer.setConfiguration(configuration);
+                this.mConfiguration = configuration;
+                this.mWall.mFullRedraw.set(true);
+            }
+
+            // Check if the gauges are changed
+            ScValueStream[] streams = this.mWall.mStreams;
+            if (streams != this.mStreams) {
+                this.mStreams = streams;
+                this.mValues = new float[streams.length];
+                this.mChanged = new boolean[streams.length];
+                this.mWall.mFullRedraw.set(true);
+            }
+
+            // Consume the values
+            boolean changed = false;
+            for (int index = 0; index < streams.length; index++) {
+                float value = streams[index].consume(this.mValues[index]);
+                this.mChanged[index] = !Float.isNaN(value) && value != this.mValues[index];
+                if (this.mChanged[index]) {
+                    this.mValues[index] = value;
+                    changed = true;
+                }
+            }
+
+            // Check if must draw
+            return changed || this.mWall.mFullRedraw.get();
+        }
+
+        // Draw the changed gauges.
+        // If a full redraw is not requested only the union of the changed cells is locked.
+        private void render() {
+            // Find the cells dimensions
+            int count = this.mValues.length;
+            int columns = this.mWall.mColumns;
+            int rows = Math.max(1, (count + columns - 1) / columns);
+            int cellWidth = this.mWall.mSurfaceWidth / columns;
+            int cellHeight = this.mWall.mSurfaceHeight / rows;
+            if (cellWidth <= 0 || cellHeight <= 0) return;
+
+            // Find the dirty region.
+            // The request is read and released atomically so a request done by the UI thread
+            // while drawing is not lost.
+            boolean full = this.mWall.mFullRedraw.getAndSet(false);
+            this.mDirtyRect.setEmpty();
+            if (full) {
+                this.mDirtyRect.set(0, 0, this.mWall.mSurfaceWidth, this.mWall.mSurfaceHeight);
+            } else {
+                for (int index = 0; index < count; index++) {
+                    if (!this.mChanged[index]) continue;
+
+                    int left = (index % columns) * cellWidth;
+                    int top = (index / columns) * cellHeight;
+                    this.mDirtyRect.union(left, top, left + cellWidth, top + cellHeight);
+                }
+            }
+
+            // Lock the canvas.
+            // The surface could enlarge the dirty region. If the surface is not available try
+            // again to draw all on the next frame period.
+            Canvas canvas = this.mHolder.lockCanvas(this.mDirtyRect);
+            if (canvas == null) {
+                this.mWall.mFullRedraw.set(true);
+                this.mWall.mDirty.set(true);
+                return;
+            }
+
+            try {
+                // Clear the dirty region
+                canvas.save();
+                canvas.clipRect(this.mDirtyRect);
+                canvas.drawColor(this.mWall.mClearColor);
+
+                // Draw all the gauges inside the dirty region
+                for (int index = 0; index < count; index++) {
+                    int left = (index % columns) * cellWidth;
+                    int top = (index / columns) * cellHeight;
+                    if (!this.mDirtyRect.intersects(left, top, left + cellWidth, top + cellHeight))
+                        continue;
+
+                    canvas.save();
+                    canvas.translate(left, top);
+                    canvas.clipRect(0, 0, cellWidth, cellHeight);
+                    this.mRenderer.draw(canvas, cellWidth, cellHeight, this.mValues[index]);
+                    canvas.restore();
+                }
+                canvas.restore();
+
+            } finally {
+                // Post the frame
+                this.mHolder.unlockCanvasAndPost(canvas);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (this.mRunning) {
+                // Sleep until something change
+                while (this.mRunning && !this.mWall.mDirty.get()) {
+                    LockSupport.park(this);
+                }
+                if (!this.mRunning) break;
+
+                // Release the trigger before consume so the next values will wake up the thread
+                this.mWall.mDirty.set(false);
+                long frameStart = System.nanoTime();
+
+                // Draw or skip the frame
+                if (this.update()) {
+                    this.render();
+                    this.mWall.mFramesCount++;
+                } else {
+                    this.mWall.mSkippedFramesCount++;
+                }
+
+                // Wait the end of the frame period
+                long deadline = frameStart + 1000000000L / this.mWall.mFrameRate;
+                long remaining;
+                while (this.mRunning && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,443 @@
+package com.sccomponents.widgets;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Point;
+import android.graphics.RectF;
+import android.os.Bundle;
+import android.util.AttributeSet;
+
+/**
+ * Draw a series of notchs that follow an arc path.
+ * <p/>
+ * Like the ScArcRenderer this class is not a View and the ScNotchs view is a thin wrapper
+ * around it.
+ * v1.0.0
+ */
+public class ScNotchsRenderer extends ScArcRenderer {
+
+    /**
+     * Private attributes
+     */
+
+    protected int mNotchsCount;
+    protected float mNotchsLength;
+
+
+    /**
+     * Private variables
+     */
+
+    private ScNotchs.OnDrawListener mOnDrawListener = null;
+
+    private ScNotchs.NotchInfo mNotchInfo;
+    private RectF mStartArea;
+    private RectF mEndArea;
+    private Point mStartPoint;
+    private Point mEndPoint;
+
+    private float[] mLinesBuffer;
+    private float[] mBatchBuffer;
+    private RectF mLinesArea;
+    private int mLinesCount;
+    private float mLinesAngleStart;
+    private float mLinesAngleSweep;
+    private float mLinesLength;
+    private ScTrigTable mLinesTrigTable;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScNotchsRenderer(Context context, AttributeSet attrs, int defStyle, Host host) {
+        super(context, attrs, defStyle, host);
+        this.init(context, attrs, defStyle);
+    }
+
+    public ScNotchsRenderer(Context context, Host host) {
+        this(context, null, 0, host);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Check the values limits
+    private void checkValues() {
+        // Notchs
+        if (this.mNotchsCount < 0) this.mNotchsCount = 0;
+        if (this.mNotchsLength < 0) this.mNotchsLength = 0;
+    }
+
+    // Set the painter type
+    private void setPainterType() {
+        // Set the stroke type
+        switch (this.mStrokeType) {
+            case LINE:
+            case CLOSED_ARC:
+                this.getPainter().setStyle(Paint.Style.STROKE);
+                break;
+
+            case FILLED_ARC:
+                this.getPainter().setStyle(Paint.Style.FILL_AND_STROKE);
+                break;
+        }
+    }
+
+    // Init the renderer.
+    // Retrieve all attributes with the default values if needed and create the internal using
+    // objects.
+    private void init(Context context, AttributeSet attrs, int defStyle) {
+        //--------------------------------------------------
+        // ATTRIBUTES
+
+        // Get the attributes list
+        final TypedArray attrArray = context.obtainStyledAttributes(attrs, R.styleable.ScComponents, defStyle, 0);
+
+        this.mNotchsCount = attrArray.getInt(
+                R.styleable.ScComponents_scc_notchs, 0);
+        this.mNotchsLength = attrArray.getDimension(
+                R.styleable.ScComponents_scc_notchs_length, this.getStrokeSize() * 2);
+
+        // Recycle
+        attrArray.recycle();
+
+        //--------------------------------------------------
+        // INTERNAL
+
+        this.checkValues();
+        this.setPainterType();
+
+        //--------------------------------------------------
+        // SCRATCH OBJECTS
+
+        // Reused on every draw for not allocate new objects for each notch
+        this.mNotchInfo = new ScNotchs.NotchInfo();
+        this.mStartArea = new RectF();
+        this.mEndArea = new RectF();
+        this.mStartPoint = new Point();
+        this.mEndPoint = new Point();
+
+        //--------------------------------------------------
+        // LINES BUFFER
+
+        // Hold the precomputed lines endpoints.
+        // Will be filled again only when the geometry change.
+        this.mLinesArea = new RectF();
+        this.mLinesCount = -1;
+    }
+
+    // Draw the line
+    private void drawLine(Canvas canvas, ScNotchs.NotchInfo info, RectF area) {
+        // Find the start area where find the start point
+        RectF startArea = ScWidget.inflateRect(
+                area, info.length + info.distanceFromBorder, this.mStartArea);
+        RectF endArea = ScWidget.inflateRect(area, info.distanceFromBorder, this.mEndArea);
+
+        // Find the start and the end points on the canvas in reference to the arc
+        Point startPoint = ScArc.getPointFromAngle(
+                info.angle, startArea, this.mStartPoint, this.getTrigTable());
+        Point endPoint = ScArc.getPointFromAngle(
+                info.angle, endArea, this.mEndPoint, this.getTrigTable());
+
+        // Draw the line
+        canvas.drawLine(
+                startPoint.x, startPoint.y,
+                endPoint.x, endPoint.y,
+                this.getPainter()
+        );
+    }
+
+    // Fill the lines buffer with the endpoints of all notchs.
+    // The buffer is filled again only if the area or the settings that affect the notchs
+    // position are changed.
+    private void updateLinesBuffer(RectF area, int count, float deltaAngle) {
+        // Check if the buffer is still valid
+        if (this.mLinesCount == count &&
+                this.mLinesAngleStart == this.mAngleStart &&
+                this.mLinesAngleSweep == this.mAngleSweep &&
+                this.mLinesLength == this.mNotchsLength &&
+                this.mLinesTrigTable == this.getTrigTable() &&
+                this.mLinesArea.equals(area)) return;
+
+        // Create the buffers if needed
+        if (this.mLinesBuffer == null || this.mLinesBuffer.length < count * 4) {
+            this.mLinesBuffer = new float[count * 4];
+            this.mBatchBuffer = new float[count * 4];
+        }
+
+        // The start area where find the start points
+        RectF startArea = ScWidget.inflateRect(area, this.mNotchsLength, this.mStartArea);
+
+        // Cycle all notchs
+        for (int index = 0; index < count; index++) {
+            // Find the start and the end points on the canvas in reference to the arc
+            float angle = index * deltaAngle + this.mAngleStart;
+            Point startPoint = ScArc.getPointFromAngle(
+                    angle, startArea, this.mStartPoint, this.getTrigTable());
+            Point endPoint = ScArc.getPointFromAngle(
+                    angle, area, this.mEndPoint, this.getTrigTable());
+
+            // Store
+            int offset = index * 4;
+            this.mLinesBuffer[offset] = startPoint.x;
+            this.mLinesBuffer[offset + 1] = startPoint.y;
+            this.mLinesBuffer[offset + 2] = endPoint.x;
+            this.mLinesBuffer[offset + 3] = endPoint.y;
+        }
+
+        // Hold the settings used to fill the buffer
+        this.mLinesArea.set(area);
+        this.mLinesCount = count;
+        this.mLinesAngleStart = this.mAngleStart;
+        this.mLinesAngleSweep = this.mAngleSweep;
+        this.mLinesLength = this.mNotchsLength;
+        this.mLinesTrigTable = this.getTrigTable();
+    }
+
+    // Check if the listener left the notch info as the default
+    private boolean isUnchangedNotch(ScNotchs.NotchInfo info, float angle) {
+        return info.angle == angle &&
+                info.color == this.mStrokeColor &&
+                info.length == this.mNotchsLength &&
+                info.size == this.mStrokeSize &&
+                info.distanceFromBorder == 0.0f &&
+                info.type == ScArc.StrokeTypes.LINE;
+    }
+
+    // Draw the pending lines of the batch buffer with the default painter settings.
+    // Return the new pending count.
+    private int flushLines(Canvas canvas, int pending) {
+        // Check for empty values
+        if (pending == 0) return 0;
+
+        // Set the painter and draw
+        this.getPainter().setStrokeWidth(this.mStrokeSize);
+        this.getPainter().setColor(this.mStrokeColor);
+        canvas.drawLines(this.mBatchBuffer, 0, pending * 4, this.getPainter());
+
+        // Nothing more pending
+        return 0;
+    }
+
+    // Draw the circle
+    private void drawCircle(Canvas canvas, ScNotchs.NotchInfo info, RectF area) {
+        // Find the start area where find the start point
+        float padding = info.size / 2 + info.length + info.distanceFromBorder;
+        RectF startArea = ScWidget.inflateRect(area, padding, this.mStartArea);
+
+        // Find the point on the arc starting by the angle
+        Point startPoint = ScArc.getPointFromAngle(
+                info.angle, startArea, this.mStartPoint, this.getTrigTable());
+
+        // Draw the circle
+        canvas.drawCircle(
+                startPoint.x, startPoint.y,
+                info.length,
+                this.getPainter()
+        );
+    }
+
+
+    /**
+     * Overrides
+     */
+
+    // The notchs are drawn inside the arc for their length and the circles have a diameter of
+    // the double of the length.
+    @Override
+    protected float getDrawingThickness() {
+        return this.mStrokeSize + this.mNotchsLength * 2;
+    }
+
+    // Draw the notchs on the canvas.
+    // The lines are precomputed inside a buffer and drawn with a single call. The single notch
+    // drawing is used only for the notchs that the listener changed or for the circles.
+    // TODO: when scaled have notchs visual issue
+    @Override
+    protected void internalDraw(Canvas canvas, RectF area) {
+        // Draw only if the notch length and count is more of zero.
+        if (this.mNotchsCount <= 0) return;
+
+        // Calc the delta angle and the real notchs count
+        int count = this.mNotchsCount + (this.getAngleSweep() >= ScArc.DEFAULT_ANGLE_MAX ? 0 : 1);
+        float deltaAngle = this.getAngleSweep() / this.mNotchsCount;
+
+        // Find the notchs count within the draw limit
+        int drawCount = 0;
+        while (drawCount < count &&
+                ScWidget.withinRange(drawCount * deltaAngle, 0, this.getAngleDraw())) {
+            drawCount++;
+        }
+
+        // Count the drawn notchs if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        if (metrics != null) metrics.count(ScWidgetMetrics.Counters.NOTCHS_DRAWN, drawCount);
+
+        // The lines can be drawn all together
+        boolean batch = this.mStrokeType == ScArc.StrokeTypes.LINE;
+        if (batch) {
+            // Update the lines endpoints if needed
+            this.updateLinesBuffer(area, count, deltaAngle);
+
+            // If no listener linked draw all lines with one call and exit
+            if (this.mOnDrawListener == null) {
+                canvas.drawLines(this.mLinesBuffer, 0, drawCount * 4, this.getPainter());
+                return;
+            }
+        }
+
+        // Cycle all notchs
+        int pending = 0;
+        for (int index = 0; index < drawCount; index++) {
+            // Find current the angle
+            float currentAngle = index * deltaAngle + this.mAngleStart;
+
+            // Fill the notch info to pass to the listener.
+            // The same instance is reused for all notchs so every field must be reset here.
+            // Note that adjust the current angle to a global angle.
+            ScNotchs.NotchInfo info = this.mNotchInfo;
+            info.source = this.getView() instanceof ScNotchs ? (ScNotchs) this.getView() : null;
+            info.renderer = this;
+            info.angle = currentAngle;
+            info.color = this.mStrokeColor;
+            info.index = index;
+            info.length = this.mNotchsLength;
+            info.size = this.mStrokeSize;
+            info.distanceFromBorder = 0.0f;
+            info.type = this.mStrokeType;
+            info.visible = true;
+
+            // Check if the listener is linked and call the method
+            if (this.mOnDrawListener != null) {
+                this.mOnDrawListener.onDrawNotch(info);
+            }
+
+            // Skip if not visible
+            if (!info.visible) continue;
+
+            // If the listener not changed the notch add the precomputed line to the batch
+            if (batch && this.isUnchangedNotch(info, currentAngle)) {
+                System.arraycopy(this.mLinesBuffer, index * 4, this.mBatchBuffer, pending * 4, 4);
+                pending++;
+                continue;
+            }
+
+            // Draw the pending lines before the single notch
+            pending = this.flushLines(canvas, pending);
+
+            // Apply the info to the painter
+            if (this.mOnDrawListener != null) {
+                this.getPainter().setStrokeWidth(info.size);
+                this.getPainter().setColor(info.color);
+            }
+
+            // Draw the line by the case
+            switch (info.type) {
+                case LINE:
+                    this.drawLine(canvas, info, area);
+                    break;
+
+                case CLOSED_ARC:
+                case FILLED_ARC:
+                    this.drawCircle(canvas, info, area);
+                    break;
+            }
+        }
+
+        // Draw the remaining lines
+        this.flushLines(canvas, pending);
+    }
+
+
+    /**
+     * Instance state
+     */
+
+    // Save
+    @Override
+    public void saveState(Bundle state) {
+        super.saveState(state);
+        state.putInt("mNotchsCount", this.mNotchsCount);
+        state.putFloat("mNotchsLength", this.mNotchsLength);
+    }
+
+    // Restore
+    @Override
+    public void restoreState(Bundle savedState) {
+        super.restoreState(savedState);
+        this.mNotchsCount = savedState.getInt("mNotchsCount");
+        this.mNotchsLength = savedState.getFloat("mNotchsLength");
+    }
+
+    // Copy all the settings from another renderer.
+    // The listener is not copied.
+    @Override
+    public void copyFrom(ScArcRenderer source) {
+        super.copyFrom(source);
+        if (source instanceof ScNotchsRenderer) {
+            this.mNotchsCount = ((ScNotchsRenderer) source).mNotchsCount;
+            this.mNotchsLength = ((ScNotchsRenderer) source).mNotchsLength;
+        }
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // Notchs count
+    @SuppressWarnings("unused")
+    public int getNotchs() {
+        return this.mNotchsCount;
+    }
+
+    @SuppressWarnings("unused")
+    public void setNotchs(int value) {
+        // Check if value is changed
+        if (this.mNotchsCount != value) {
+            // Store the new value
+            this.mNotchsCount = value;
+            // Check and refresh the component
+            this.checkValues();
+            this.requestLayout();
+        }
+    }
+
+    // Notchs length
+    @SuppressWarnings("unused")
+    public float getNotchsLength() {
+        return this.mNotchsLength;
+    }
+
+    @SuppressWarnings("unused")
+    public void setNotchsLength(float value) {
+        // Check if value is changed
+        if (this.mNotchsLength != value) {
+            // Store the new value
+            this.mNotchsLength = value;
+            // Check and refresh the component
+            this.checkValues();
+            this.requestLayout();
+        }
+    }
+
+    /**
+     * Public listener
+     */
+
+    @SuppressWarnings("unused")
+    public ScNotchs.OnDrawListener getOnDrawListener() {
+        return this.mOnDrawListener;
+    }
+
+    @SuppressWarnings("unused")
+    public void setOnDrawListener(ScNotchs.OnDrawListener listener) {
+        this.mOnDrawListener = listener;
+    }
+
+}
@@ -44,10 +44,13 @@ public class ScSeekBar extends ScGauge {
 
     private Paint mPointerPaint;
     private Paint mHaloPaint;
+    private Point mPointerPosition;
 
     private boolean mArcPressed;
+    private long mTouchTime;
 
     private OnDrawListener mOnDrawListener;
+    private ScGauge.OnDrawListener mForwardDrawListener;
 
 
     /**
@@ -81,6 +84,11 @@ public class ScSeekBar extends ScGauge {
         if (this.mHaloSize < 0) this.mHaloSize = 0;
     }
 
+    // Hold the time of the first touch that changed the component and not yet drawn
+    private void markTouchTime(long time) {
+        if (this.mTouchTime == 0 && this.getMetrics() != null) this.mTouchTime = time;
+    }
+
     // Init the component
     private void init(Context context, AttributeSet attrs, int defStyle) {
         //--------------------------------------------------
@@ -105,6 +113,7 @@ public class ScSeekBar extends ScGauge {
         // INTERNAL
 
         this.mArcPressed = false;
+        this.mPointerPosition = new Point();
         this.checkValues();
 
         //--------------------------------------------------
@@ -133,7 +142,9 @@ public class ScSeekBar extends ScGauge {
         // Do it because in this class some methods of the listener interface is updated.
         // Noted that the onBeforeDraw will be not forwarded because it also change the calling
         // position respect to code.
-        super.setOnDrawListener(new ScGauge.OnDrawListener() {
+        // The base class listener is linked only when this class listener is settled, so without
+        // listener the notchs are drawn by the fast path.
+        this.mForwardDrawListener = new ScGauge.OnDrawListener() {
             @Override
             public void onBeforeDraw(Paint baseArc, Paint notchsArc, Paint progressArc) {
                 // Do nothing
@@ -147,7 +158,7 @@ public class ScSeekBar extends ScGauge {
                     ScSeekBar.this.mOnDrawListener.onDrawNotch(info);
                 }
             }
-        });
+        };
     }
 
     // Get the real dimension of the pointer
@@ -155,6 +166,36 @@ public class ScSeekBar extends ScGauge {
         return (this.mPointerRadius + this.mHaloSize) * 2;
     }
 
+    // Refresh only the pointer region if possible
+    private void invalidatePointer() {
+        // Check if can invalidate only the region
+        if (!this.canInvalidatePartially() || this.mPointerRadius <= 0) {
+            this.invalidate();
+            return;
+        }
+
+        // Find the pointer position and the radius considering the halo and the antialias
+        ScArcRenderer progress = this.getProgressArcRenderer();
+        Point position = progress
+                .getPointFromAngle(progress.getAngleDraw(), 0.0f, this.mPointerPosition);
+        int radius = (int) Math.ceil(this.mPointerRadius + this.mHaloSize) + 1;
+
+        // Invalidate
+        this.invalidate(
+                position.x - radius, position.y - radius,
+                position.x + radius, position.y + radius
+        );
+    }
+
+    // Check if the component can be drawn again only in the changed region.
+    // The base class listener is linked only for forward the notchs events so check only the
+    // listener of this class.
+    @Override
+    protected boolean canInvalidatePartially() {
+        return this.mOnDrawListener == null && this.getHistorySize() == 0 &&
+                !this.isLayoutRequested();
+    }
+
     // Find the maximum stroke size.
     // This method is protected because will be used in the inherited class for reposition
     // the arcs in the space seen this methods is used inside the method to find the components
@@ -179,8 +220,9 @@ public class ScSeekBar extends ScGauge {
         if (this.mSnapToNotchs && this.mNotchsCount == 0) return ;
 
         // The actual pointer position
-        Point position = this.getProgressArc()
-                .getPointFromAngle(this.getProgressArc().getAngleDraw());
+        ScArcRenderer progress = this.getProgressArcRenderer();
+        Point position = progress
+                .getPointFromAngle(progress.getAngleDraw(), 0.0f, this.mPointerPosition);
 
         // Draw the circle and the halo
         canvas.drawCircle(position.x, position.y, this.mPointerRadius, this.mPointerPaint);
@@ -204,9 +246,9 @@ public class ScSeekBar extends ScGauge {
             // Call the on before draw methods with the all parameters updated respect the base
             // class ScGauge.
             this.mOnDrawListener.onBeforeDraw(
-                    this.getBaseArc().getPainter(),
-                    this.getNotchsArc().getPainter(),
-                    this.getProgressArc().getPainter(),
+                    this.getBaseArcRenderer().getPainter(),
+                    this.getNotchsArcRenderer().getPainter(),
+                    this.getProgressArcRenderer().getPainter(),
                     this.mPointerPaint,
                     this.mHaloPaint,
                     this.mArcPressed
@@ -218,20 +260,28 @@ public class ScSeekBar extends ScGauge {
 
         // Draw the pointer if needed
         this.drawPointer(canvas);
+
+        // Record the time from the first touch not yet drawn if the metrics are enabled
+        ScWidgetMetrics metrics = this.getMetrics();
+        if (metrics != null && this.mTouchTime != 0) {
+            metrics.record(ScWidgetMetrics.Phases.TOUCH_TO_FRAME, System.nanoTime() - this.mTouchTime);
+        }
+        this.mTouchTime = 0;
     }
 
     // On touch management
     @Override
     public boolean onTouchEvent(MotionEvent event) {
-        // Store the touch position
+        // Store the touch position and time
+        long time = System.nanoTime();
         float x = event.getX();
         float y = event.getY();
 
         // Get the angle from touch position and check if the point belong to the arc.
         // Note that the touch precision level is defined by the size of the pointer draw on the
         // the component.
-        float angle = this.getBaseArc().getAngleFromPoint(x, y);
-        boolean belong = this.getBaseArc().belongsToArc(x, y, this.getPointerSize());
+        float angle = this.getBaseArcRenderer().getAngleFromPoint(x, y);
+        boolean belong = this.getBaseArcRenderer().belongsToArc(x, y, this.getPointerSize());
 
         // Select case by action type
         switch (event.getAction()) {
@@ -240,7 +290,9 @@ public class ScSeekBar extends ScGauge {
                 // If the point belong to the arc set the current value and the pressed trigger.
                 // The redraw will called inside the setValue method.
                 if (belong) {
+                    this.markTouchTime(time);
                     this.mArcPressed = true;
+                    this.invalidatePointer();
                     this.setValue(angle);
                 }
                 break;
@@ -248,9 +300,10 @@ public class ScSeekBar extends ScGauge {
             // Release
             case MotionEvent.ACTION_UP:
             case MotionEvent.ACTION_CANCEL:
-                // Trigger is released and refresh the component.
+                // Trigger is released and refresh the pointer.
+                this.markTouchTime(time);
                 this.mArcPressed = false;
-                this.invalidate();
+                this.invalidatePointer();
                 break;
 
             // Move
@@ -258,6 +311,7 @@ public class ScSeekBar extends ScGauge {
                 // If the point belong to the arc and the trigger is pressed set the current value.
                 // The component redraw will called inside the setValue method.
                 if (belong && this.mArcPressed) {
+                    this.markTouchTime(time);
                     this.setValue(angle);
                 }
                 break;
@@ -368,6 +422,8 @@ public class ScSeekBar extends ScGauge {
     @SuppressWarnings("unused")
     public void setOnDrawListener(OnDrawListener listener) {
         this.mOnDrawListener = listener;
+        // Link the base class listener only if needed
+        super.setOnDrawListener(listener != null ? this.mForwardDrawListener : null);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.sccomponents.widgets;
+
+/**
+ * Sine and cosine lookup table.
+ * <p/>
+ * The table is implemented inside the geometry module and used by the geometry methods, this
+ * class hold the shared table used by the widgets.
+ * See the geometry module table for the max error in pixel by the resolution.
+ * v1.0.0
+ */
+public class ScTrigTable extends com.sccomponents.widgets.geometry.ScTrigTable {
+
+    /**
+     * Private variables
+     */
+
+    private static ScTrigTable mDefault = null;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScTrigTable(float resolution) {
+        super(resolution);
+    }
+
+    public ScTrigTable() {
+        super();
+    }
+
+
+    /**
+     * Static methods
+     */
+
+    // Get the shared table with the default resolution
+    @SuppressWarnings("unused")
+    public static synchronized ScTrigTable getDefault() {
+        if (ScTrigTable.mDefault == null) {
+            ScTrigTable.mDefault = new ScTrigTable();
+        }
+        return ScTrigTable.mDefault;
+    }
+
+}
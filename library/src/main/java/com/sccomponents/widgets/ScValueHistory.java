@@ -0,0 +1,240 @@
+package com.sccomponents.widgets;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free history of the recent values.
+ * <p/>
+ * A single producer thread push the values inside a ring buffer and a single consumer thread
+ * drain them, usually once per frame. The consumer keep the min and the max of the last
+ * window of values by two monotonic queues, so every value cost O(1) amortized, and hold the
+ * peak value for a while.
+ * If the producer is faster than the consumer the oldest not drained values are lost.
+ * Push and drain not allocate objects.
+ * v1.0.0
+ */
+public class ScValueHistory {
+
+    /**
+     * Constants
+     */
+
+    public static final long DEFAULT_PEAK_HOLD_TIME = 1000;
+
+
+    /**
+     * Private variables
+     */
+
+    // Ring buffer
+    private final float[] mBuffer;
+    private final int mBufferMask;
+    private final AtomicLong mHead;
+    private long mTail;
+
+    // The window of values considered by the min and max
+    private final int mWindow;
+    private long mSequence;
+
+    // Monotonic queues of the sequence and the value of the candidates
+    private final int mQueueMask;
+    private final long[] mMinSequences;
+    private final float[] mMinValues;
+    private int mMinFirst;
+    private int mMinCount;
+    private final long[] mMaxSequences;
+    private final float[] mMaxValues;
+    private int mMaxFirst;
+    private int mMaxCount;
+
+    // Peak
+    private float mPeak;
+    private long mPeakTime;
+    private volatile long mPeakHoldTime;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScValueHistory(int window) {
+        // Check the window
+        if (window < 1)
+            throw new IllegalArgumentException("The window must be greater than zero.");
+        this.mWindow = window;
+
+        // The ring buffer have space for two windows so the producer can be ahead of the
+        // consumer without lose values
+        int bufferSize = ScValueHistory.nextPowerOfTwo(window * 2);
+        this.mBuffer = new float[bufferSize];
+        this.mBufferMask = bufferSize - 1;
+        this.mHead = new AtomicLong(0);
+
+        // The queues can contain at most the whole window
+        int queueSize = ScValueHistory.nextPowerOfTwo(window);
+        this.mQueueMask = queueSize - 1;
+        this.mMinSequences = new long[queueSize];
+        this.mMinValues = new float[queueSize];
+        this.mMaxSequences = new long[queueSize];
+        this.mMaxValues = new float[queueSize];
+
+        // Peak
+        this.mPeak = Float.NaN;
+        this.mPeakHoldTime = ScValueHistory.DEFAULT_PEAK_HOLD_TIME;
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Find the smaller power of two equal or greater than the value
+    private static int nextPowerOfTwo(int value) {
+        int power = Integer.highestOneBit(value);
+        return power == value ? value : power << 1;
+    }
+
+    // Add a value to the window updating the queues.
+    // The queues hold only the values that could become the min or the max when the older
+    // values leave the window.
+    private void add(float value) {
+        long sequence = this.mSequence++;
+        long expired = sequence - this.mWindow;
+
+        // Remove the values out of the window
+        while (this.mMinCount > 0 && this.mMinSequences[this.mMinFirst] <= expired) {
+            this.mMinFirst = (this.mMinFirst + 1) & this.mQueueMask;
+            this.mMinCount--;
+        }
+        while (this.mMaxCount > 0 && this.mMaxSequences[this.mMaxFirst] <= expired) {
+            this.mMaxFirst = (this.mMaxFirst + 1) & this.mQueueMask;
+            this.mMaxCount--;
+        }
+
+        // Remove the values that cannot be the min anymore and append the new one
+        while (this.mMinCount > 0 &&
+                this.mMinValues[(this.mMinFirst + this.mMinCount - 1) & this.mQueueMask] >= value) {
+            this.mMinCount--;
+        }
+        int last = (this.mMinFirst + this.mMinCount++) & this.mQueueMask;
+        this.mMinSequences[last] = sequence;
+        this.mMinValues[last] = value;
+
+        // Remove the values that cannot be the max anymore and append the new one
+        while (this.mMaxCount > 0 &&
+                this.mMaxValues[(this.mMaxFirst + this.mMaxCount - 1) & this.mQueueMask] <= value) {
+            this.mMaxCount--;
+        }
+        last = (this.mMaxFirst + this.mMaxCount++) & this.mQueueMask;
+        this.mMaxSequences[last] = sequence;
+        this.mMaxValues[last] = value;
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Push a new value.
+    // Must be called always from the same producer thread.
+    @SuppressWarnings("unused")
+    public void push(float value) {
+        // Write the value and publish it
+        long head = this.mHead.get();
+        this.mBuffer[(int) (head & this.mBufferMask)] = value;
+        this.mHead.lazySet(head + 1);
+    }
+
+    // Drain the pushed values updating the min, the max and the peak.
+    // Must be called always from the same consumer thread. The time in nanoseconds is used
+    // for release the peak when the hold time is elapsed.
+    // Return true if at least one value was drained.
+    @SuppressWarnings("unused")
+    public boolean drain(long nanoTime) {
+        // Find the values to read.
+        // If the producer overwrote the values not yet read skip them.
+        long head = this.mHead.get();
+        long tail = this.mTail;
+        int size = this.mBuffer.length;
+        if (head - tail > size) tail = head - size;
+
+        // Read the values
+        boolean drained = false;
+        for (; tail < head; tail++) {
+            float value = this.mBuffer[(int) (tail & this.mBufferMask)];
+            // Discard the value if the producer could have overwritten it while reading
+            if (this.mHead.get() - tail >= size) continue;
+
+            // Add the value and check the peak
+            this.add(value);
+            if (Float.isNaN(this.mPeak) || value >= this.mPeak) {
+                this.mPeak = value;
+                this.mPeakTime = nanoTime;
+            }
+            drained = true;
+        }
+        this.mTail = tail;
+
+        // Release the peak to the current max if the hold time is elapsed
+        if (this.mMaxCount > 0 &&
+                nanoTime - this.mPeakTime > this.mPeakHoldTime * 1000000L) {
+            this.mPeak = this.getMax();
+            this.mPeakTime = nanoTime;
+        }
+        return drained;
+    }
+
+    // Remove all the values.
+    // Must be called from the consumer thread.
+    @SuppressWarnings("unused")
+    public void clear() {
+        this.mTail = this.mHead.get();
+        this.mMinCount = 0;
+        this.mMaxCount = 0;
+        this.mPeak = Float.NaN;
+    }
+
+    // The min of the values inside the window.
+    // Return NaN if the window is empty.
+    @SuppressWarnings("unused")
+    public float getMin() {
+        return this.mMinCount > 0 ? this.mMinValues[this.mMinFirst] : Float.NaN;
+    }
+
+    // The max of the values inside the window.
+    // Return NaN if the window is empty.
+    @SuppressWarnings("unused")
+    public float getMax() {
+        return this.mMaxCount > 0 ? this.mMaxValues[this.mMaxFirst] : Float.NaN;
+    }
+
+    // The peak value.
+    // Return NaN if the window is empty.
+    @SuppressWarnings("unused")
+    public float getPeak() {
+        return this.mPeak;
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The number of values considered by the min and max
+    @SuppressWarnings("unused")
+    public int getWindow() {
+        return this.mWindow;
+    }
+
+    // How long the peak value is held before release it to the current max, in milliseconds
+    @SuppressWarnings("unused")
+    public long getPeakHoldTime() {
+        return this.mPeakHoldTime;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPeakHoldTime(long value) {
+        this.mPeakHoldTime = value < 0 ? 0 : value;
+    }
+
+}
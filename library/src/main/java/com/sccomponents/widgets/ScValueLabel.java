@@ -0,0 +1,473 @@
+package com.sccomponents.widgets;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.sccomponents.widgets.geometry.ScGeometry;
+
+/**
+ * Draw a numeric value as text.
+ * <p/>
+ * The value is formatted with a fixed-point formatter inside a reusable chars buffer and the
+ * widths of the digits glyphs are measured once and cached, so change the value not allocate
+ * objects and not need a new measure of the host: only the text bounds are invalidated.
+ * This class is not a View and is drawn directly by the host view.
+ * v1.0.0
+ */
+public class ScValueLabel {
+
+    /**
+     * Constants
+     */
+
+    public static final float DEFAULT_TEXT_SIZE = 24.0f;
+    public static final int DEFAULT_TEXT_COLOR = Color.BLACK;
+    public static final int MAX_PRECISION = 6;
+
+    // The powers of ten used by the fixed-point formatter
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L};
+
+    // The max chars of a formatted number: the sign, 19 digits of a long and the point
+    private static final int NUMBER_MAX_LENGTH = 21;
+
+
+    /**
+     * Private variables
+     */
+
+    private ScArcRenderer.Host mHost;
+
+    private Paint mPaint;
+    private Paint.FontMetrics mFontMetrics;
+    private boolean mVisible;
+
+    private String mPrefix;
+    private String mSuffix;
+    private int mPrecision;
+    private float mRangeStart;
+    private float mRangeEnd;
+
+    private float mDegrees;
+    private float mSweep;
+    private long mScaledValue;
+    private boolean mNegative;
+
+    private char[] mText;
+    private int mTextLength;
+    private int mNumberStart;
+    private int mNumberEnd;
+
+    private float[] mDigitsWidths;
+    private float mMinusWidth;
+    private float mPointWidth;
+    private float mPrefixWidth;
+    private float mSuffixWidth;
+    private float mMeasuredTextSize;
+    private Typeface mMeasuredTypeface;
+    private boolean mMetricsInvalid;
+
+    private boolean mDrawn;
+    private float mDrawnX;
+    private float mDrawnLeft;
+    private float mDrawnRight;
+    private float mDrawnBaseline;
+    private int mDrawnAreaWidth;
+    private Rect mDirtyRect;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScValueLabel(Context context, ScArcRenderer.Host host) {
+        this.mHost = host;
+        this.init(context);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Init the component
+    private void init(Context context) {
+        // Painter
+        this.mPaint = new Paint();
+        this.mPaint.setAntiAlias(true);
+        this.mPaint.setStyle(Paint.Style.FILL);
+        this.mPaint.setColor(ScValueLabel.DEFAULT_TEXT_COLOR);
+        this.mPaint.setTextAlign(Paint.Align.LEFT);
+        this.mPaint.setTextSize(ScWidget.dipToPixel(context, ScValueLabel.DEFAULT_TEXT_SIZE));
+        this.mFontMetrics = new Paint.FontMetrics();
+
+        // Format
+        this.mPrefix = "";
+        this.mSuffix = "";
+        this.mPrecision = 0;
+        this.mRangeStart = 0.0f;
+        this.mRangeEnd = 100.0f;
+        this.mVisible = true;
+
+        // Metrics
+        this.mDigitsWidths = new float[10];
+        this.mMetricsInvalid = true;
+        this.mDirtyRect = new Rect();
+
+        // Create the buffer and format the initial value
+        this.createBuffer();
+    }
+
+    // Create the chars buffer for the current prefix and suffix and write them inside it
+    private void createBuffer() {
+        // Create the buffer
+        int prefixLength = this.mPrefix.length();
+        this.mText = new char[prefixLength + ScValueLabel.NUMBER_MAX_LENGTH + this.mSuffix.length()];
+        this.mPrefix.getChars(0, prefixLength, this.mText, 0);
+        this.mNumberStart = prefixLength;
+
+        // Format the value again
+        this.mMetricsInvalid = true;
+        this.format(true);
+    }
+
+    // Measure the glyphs widths if the text size or the typeface changed
+    private void updateMetrics() {
+        // Check for changes
+        if (!this.mMetricsInvalid &&
+                this.mMeasuredTextSize == this.mPaint.getTextSize() &&
+                this.mMeasuredTypeface == this.mPaint.getTypeface()) return;
+
+        // Measure the digits and the symbols
+        char[] glyph = new char[1];
+        for (int digit = 0; digit < 10; digit++) {
+            glyph[0] = (char) ('0' + digit);
+            this.mDigitsWidths[digit] = this.mPaint.measureText(glyph, 0, 1);
+        }
+        this.mMinusWidth = this.mPaint.measureText("-");
+        this.mPointWidth = this.mPaint.measureText(".");
+        this.mPrefixWidth = this.mPaint.measureText(this.mPrefix);
+        this.mSuffixWidth = this.mPaint.measureText(this.mSuffix);
+        this.mPaint.getFontMetrics(this.mFontMetrics);
+
+        // Hold the measure settings
+        this.mMeasuredTextSize = this.mPaint.getTextSize();
+        this.mMeasuredTypeface = this.mPaint.getTypeface();
+        this.mMetricsInvalid = false;
+    }
+
+    // Sum the cached glyphs widths of the current text
+    private float getTextWidth() {
+        // Find the number width
+        float width = this.mPrefixWidth + this.mSuffixWidth;
+        for (int index = this.mNumberStart; index < this.mNumberEnd; index++) {
+            char glyph = this.mText[index];
+            if (glyph >= '0' && glyph <= '9')
+                width += this.mDigitsWidths[glyph - '0'];
+            else
+                width += glyph == '-' ? this.mMinusWidth : this.mPointWidth;
+        }
+        return width;
+    }
+
+    // Format the current value inside the chars buffer.
+    // If the formatted value not changed the buffer is not written again, pass force true for
+    // write it anyway.
+    // Return true if the text changed.
+    private boolean format(boolean force) {
+        // Translate the angle to the value and scale it to a fixed-point integer
+        float value = this.mSweep == 0.0f ? this.mRangeStart :
+                ScGeometry.translateAngleToValue(
+                        this.mDegrees, this.mSweep, this.mRangeStart, this.mRangeEnd);
+        long scaled = Math.round(
+                Math.abs((double) value) * ScValueLabel.POWERS_OF_TEN[this.mPrecision]);
+        boolean negative = value < 0.0f && scaled != 0;
+
+        // Check for changes
+        if (!force && scaled == this.mScaledValue && negative == this.mNegative) return false;
+        this.mScaledValue = scaled;
+        this.mNegative = negative;
+
+        // Count the digits considering the leading zero before the point
+        int digits = 1;
+        for (long rest = scaled / 10; rest > 0; rest /= 10) digits++;
+        if (digits < this.mPrecision + 1) digits = this.mPrecision + 1;
+
+        // Write the sign
+        char[] text = this.mText;
+        int position = this.mNumberStart;
+        if (negative) text[position++] = '-';
+
+        // Write the digits from the last one
+        int end = position + digits + (this.mPrecision > 0 ? 1 : 0);
+        int index = end;
+        for (int count = 0; count < digits; count++) {
+            if (count == this.mPrecision && count > 0) text[--index] = '.';
+            text[--index] = (char) ('0' + scaled % 10);
+            scaled /= 10;
+        }
+        this.mNumberEnd = end;
+
+        // Write the suffix
+        int suffixLength = this.mSuffix.length();
+        this.mSuffix.getChars(0, suffixLength, text, end);
+        this.mTextLength = end + suffixLength;
+        return true;
+    }
+
+    // Notify the host that the text must be drawn again.
+    // If the text was already drawn only the union of the old and the new text bounds is
+    // invalidated.
+    private void invalidateText() {
+        // Check for the host
+        if (this.mHost == null) return;
+        if (!this.mDrawn || this.mMetricsInvalid) {
+            this.mHost.invalidate();
+            return;
+        }
+
+        // Find the new text horizontal bounds on the same position
+        float width = this.getTextWidth();
+        float left = this.getTextLeft(this.mDrawnX, width, this.mDrawnAreaWidth);
+
+        // Invalidate the union of the bounds
+        this.mDirtyRect.set(
+                (int) Math.floor(Math.min(this.mDrawnLeft, left)) - 1,
+                (int) Math.floor(this.mDrawnBaseline + this.mFontMetrics.top) - 1,
+                (int) Math.ceil(Math.max(this.mDrawnRight, left + width)) + 1,
+                (int) Math.ceil(this.mDrawnBaseline + this.mFontMetrics.bottom) + 1
+        );
+        this.mHost.invalidate(this.mDirtyRect);
+    }
+
+    // Find the left of the text centered horizontally on the passed position and kept inside
+    // the area if possible
+    private float getTextLeft(float x, float width, int areaWidth) {
+        float left = x - width / 2;
+        if (left + width > areaWidth) left = areaWidth - width;
+        return left < 0.0f ? 0.0f : left;
+    }
+
+    // Find the baseline of the text centered vertically on the passed position and kept inside
+    // the area if possible
+    private float getTextBaseline(float y, int areaHeight) {
+        float baseline = y - (this.mFontMetrics.ascent + this.mFontMetrics.descent) / 2;
+        if (baseline + this.mFontMetrics.bottom > areaHeight)
+            baseline = areaHeight - this.mFontMetrics.bottom;
+        return baseline + this.mFontMetrics.top < 0.0f ? -this.mFontMetrics.top : baseline;
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Draw the text centered on the passed position.
+    // If the text go outside the area of the passed dimensions, starting from the canvas
+    // origin, it is moved inside. The host view must pass its dimensions: in the software
+    // rendered windows the canvas have the window dimensions.
+    @SuppressWarnings("unused")
+    public void draw(Canvas canvas, float x, float y, int areaWidth, int areaHeight) {
+        // Check if visible
+        if (!this.mVisible) return;
+
+        // Find the text position by the cached glyphs widths
+        this.updateMetrics();
+        float width = this.getTextWidth();
+        float left = this.getTextLeft(x, width, areaWidth);
+        float baseline = this.getTextBaseline(y, areaHeight);
+
+        // Draw and hold the position for invalidate only the text bounds next time
+        canvas.drawText(this.mText, 0, this.mTextLength, left, baseline, this.mPaint);
+        this.mDrawn = true;
+        this.mDrawnX = x;
+        this.mDrawnLeft = left;
+        this.mDrawnRight = left + width;
+        this.mDrawnBaseline = baseline;
+        this.mDrawnAreaWidth = areaWidth;
+    }
+
+    @SuppressWarnings("unused")
+    public void draw(Canvas canvas, float x, float y) {
+        this.draw(canvas, x, y, canvas.getWidth(), canvas.getHeight());
+    }
+
+    // Set the value to show by an angle in degrees of the passed sweep angle.
+    // The angle is translated within the value range.
+    @SuppressWarnings("unused")
+    public void setAngle(float degrees, float sweep) {
+        // Hold the angle and format it
+        this.mDegrees = degrees;
+        this.mSweep = sweep;
+        if (this.format(false) && this.mVisible) this.invalidateText();
+    }
+
+    // The current formatted text.
+    // This method allocate a new string so use it only for debug or accessibility.
+    @SuppressWarnings("unused")
+    public String getText() {
+        return new String(this.mText, 0, this.mTextLength);
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The painter used for draw the text.
+    // The glyphs widths are measured again if the text size or the typeface is changed.
+    @SuppressWarnings("unused")
+    public Paint getPainter() {
+        return this.mPaint;
+    }
+
+    // Visibility
+    @SuppressWarnings("unused")
+    public boolean getVisible() {
+        return this.mVisible;
+    }
+
+    @SuppressWarnings("unused")
+    public void setVisible(boolean value) {
+        // Check if value is changed
+        if (this.mVisible != value) {
+            // Store the new value and refresh the host
+            this.mVisible = value;
+            this.mDrawn = false;
+            if (this.mHost != null) this.mHost.invalidate();
+        }
+    }
+
+    // Text size in pixel
+    @SuppressWarnings("unused")
+    public float getTextSize() {
+        return this.mPaint.getTextSize();
+    }
+
+    @SuppressWarnings("unused")
+    public void setTextSize(float value) {
+        // Check if value is changed
+        if (this.mPaint.getTextSize() != value) {
+            // Store the new value and refresh the host
+            this.mPaint.setTextSize(value);
+            this.mMetricsInvalid = true;
+            if (this.mHost != null) this.mHost.invalidate();
+        }
+    }
+
+    // Text color
+    @SuppressWarnings("unused")
+    public int getTextColor() {
+        return this.mPaint.getColor();
+    }
+
+    @SuppressWarnings("unused")
+    public void setTextColor(int value) {
+        // Check if value is changed
+        if (this.mPaint.getColor() != value) {
+            // Store the new value and refresh the text
+            this.mPaint.setColor(value);
+            if (this.mVisible) this.invalidateText();
+        }
+    }
+
+    // Typeface
+    @SuppressWarnings("unused")
+    public Typeface getTypeface() {
+        return this.mPaint.getTypeface();
+    }
+
+    @SuppressWarnings("unused")
+    public void setTypeface(Typeface value) {
+        // Check if value is changed
+        if (this.mPaint.getTypeface() != value) {
+            // Store the new value and refresh the host
+            this.mPaint.setTypeface(value);
+            this.mMetricsInvalid = true;
+            if (this.mHost != null) this.mHost.invalidate();
+        }
+    }
+
+    // The text written before the value
+    @SuppressWarnings("unused")
+    public String getPrefix() {
+        return this.mPrefix;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPrefix(String value) {
+        // Check if value is changed
+        if (value == null) value = "";
+        if (!this.mPrefix.equals(value)) {
+            // Store the new value and refresh the host
+            this.mPrefix = value;
+            this.createBuffer();
+            if (this.mHost != null) this.mHost.invalidate();
+        }
+    }
+
+    // The text written after the value, usually the units
+    @SuppressWarnings("unused")
+    public String getSuffix() {
+        return this.mSuffix;
+    }
+
+    @SuppressWarnings("unused")
+    public void setSuffix(String value) {
+        // Check if value is changed
+        if (value == null) value = "";
+        if (!this.mSuffix.equals(value)) {
+            // Store the new value and refresh the host
+            this.mSuffix = value;
+            this.createBuffer();
+            if (this.mHost != null) this.mHost.invalidate();
+        }
+    }
+
+    // The number of the decimal digits
+    @SuppressWarnings("unused")
+    public int getPrecision() {
+        return this.mPrecision;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPrecision(int value) {
+        // Check the limits
+        value = ScWidget.valueRangeLimit(value, 0, ScValueLabel.MAX_PRECISION);
+
+        // Check if value is changed
+        if (this.mPrecision != value) {
+            // Store the new value and refresh the text
+            this.mPrecision = value;
+            this.format(true);
+            if (this.mVisible) this.invalidateText();
+        }
+    }
+
+    // The range of the values where the angle is translated
+    @SuppressWarnings("unused")
+    public float getRangeStart() {
+        return this.mRangeStart;
+    }
+
+    @SuppressWarnings("unused")
+    public float getRangeEnd() {
+        return this.mRangeEnd;
+    }
+
+    @SuppressWarnings("unused")
+    public void setRange(float start, float end) {
+        // Check if value is changed
+        if (this.mRangeStart != start || this.mRangeEnd != end) {
+            // Store the new values and refresh the text
+            this.mRangeStart = start;
+            this.mRangeEnd = end;
+            this.format(true);
+            if (this.mVisible) this.invalidateText();
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.sccomponents.widgets;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free holder of the values coming from an high frequency stream.
+ * <p/>
+ * Any thread can push a new value without allocate objects while the consumer read the
+ * aggregated value at most once per frame.
+ * The float values are stored as int bits inside atomic slots.
+ * v1.0.0
+ */
+public class ScValueStream {
+
+    /**
+     * Constants
+     */
+
+    public static final float DEFAULT_FACTOR = 0.5f;
+
+    private static final int POSITIVE_INFINITY = Float.floatToRawIntBits(Float.POSITIVE_INFINITY);
+    private static final int NEGATIVE_INFINITY = Float.floatToRawIntBits(Float.NEGATIVE_INFINITY);
+
+
+    /**
+     * Private variables
+     */
+
+    private final AtomicInteger mValue;
+    private final AtomicInteger mMin;
+    private final AtomicInteger mMax;
+    private final AtomicBoolean mPending;
+
+    private volatile Policies mPolicy;
+    private volatile float mFactor;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScValueStream(Policies policy, float value) {
+        this.mValue = new AtomicInteger();
+        this.mMin = new AtomicInteger();
+        this.mMax = new AtomicInteger();
+        this.mPending = new AtomicBoolean(false);
+
+        this.mPolicy = policy;
+        this.mFactor = ScValueStream.DEFAULT_FACTOR;
+        this.reset(value);
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Store the exponential moving average of the values
+    private void pushAverage(float value) {
+        while (true) {
+            // Find the new average starting from the last one
+            int oldBits = this.mValue.get();
+            float old = Float.intBitsToFloat(oldBits);
+            float average = old + this.mFactor * (value - old);
+
+            // Try to store
+            if (this.mValue.compareAndSet(oldBits, Float.floatToRawIntBits(average))) return;
+        }
+    }
+
+    // Store the value inside the slot only if is the new minimum or maximum
+    private void pushLimit(AtomicInteger slot, float value, boolean minimum) {
+        while (true) {
+            // Check if the value is over the current limit
+            int oldBits = slot.get();
+            float old = Float.intBitsToFloat(oldBits);
+            if (minimum ? value >= old : value <= old) return;
+
+            // Try to store
+            if (slot.compareAndSet(oldBits, Float.floatToRawIntBits(value))) return;
+        }
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Reset the stream to the passed value and discard the pending values
+    @SuppressWarnings("unused")
+    public void reset(float value) {
+        this.mValue.set(Float.floatToRawIntBits(value));
+        this.mMin.set(ScValueStream.POSITIVE_INFINITY);
+        this.mMax.set(ScValueStream.NEGATIVE_INFINITY);
+        this.mPending.set(false);
+    }
+
+    // Push a new value.
+    // Can be called from any thread.
+    // Return true if before this call no values was pending, in this case the caller must
+    // schedule the consumer.
+    @SuppressWarnings("unused")
+    public boolean push(float value) {
+        // Store the value by the policy
+        switch (this.mPolicy) {
+            case LATEST:
+                this.mValue.set(Float.floatToRawIntBits(value));
+                break;
+
+            case AVERAGE:
+                this.pushAverage(value);
+                break;
+
+            case ENVELOPE:
+                this.pushLimit(this.mMin, value, true);
+                this.pushLimit(this.mMax, value, false);
+                this.mValue.set(Float.floatToRawIntBits(value));
+                break;
+        }
+
+        // Set the pending trigger
+        return this.mPending.compareAndSet(false, true);
+    }
+
+    // Consume the pending value.
+    // Return NaN if nothing is pending.
+    // The current value is used from the envelope policy to choose the limit more far from it,
+    // so the peaks are never lost.
+    @SuppressWarnings("unused")
+    public float consume(float current) {
+        // Release the trigger before read so the next pushes will schedule a new consumer
+        if (!this.mPending.getAndSet(false)) return Float.NaN;
+
+        // Read the value by the policy
+        switch (this.mPolicy) {
+            case ENVELOPE:
+                // Get and reset the limits of this window
+                float min = Float.intBitsToFloat(this.mMin.getAndSet(ScValueStream.POSITIVE_INFINITY));
+                float max = Float.intBitsToFloat(this.mMax.getAndSet(ScValueStream.NEGATIVE_INFINITY));
+
+                // If the limits are not valid return the last value
+                if (Float.isInfinite(min) || Float.isInfinite(max))
+                    return Float.intBitsToFloat(this.mValue.get());
+
+                // Return the more far limit
+                return Math.abs(max - current) > Math.abs(min - current) ? max : min;
+
+            default:
+                return Float.intBitsToFloat(this.mValue.get());
+        }
+    }
+
+    // Check if have a pending value
+    @SuppressWarnings("unused")
+    public boolean isPending() {
+        return this.mPending.get();
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The aggregation policy
+    @SuppressWarnings("unused")
+    public Policies getPolicy() {
+        return this.mPolicy;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPolicy(Policies value) {
+        this.mPolicy = value;
+    }
+
+    // The factor of the exponential moving average.
+    // The value must be within 0 and 1, more the value is big more the average follow the last
+    // values.
+    @SuppressWarnings("unused")
+    public float getFactor() {
+        return this.mFactor;
+    }
+
+    @SuppressWarnings("unused")
+    public void setFactor(float value) {
+        this.mFactor = ScWidget.valueRangeLimit(value, 0.0f, 1.0f);
+    }
+
+
+    /**
+     * Public enum
+     */
+
+    // The aggregation policies.
+    // LATEST keep only the last value, AVERAGE keep the exponential moving average of all values
+    // and ENVELOPE keep the min and max values of the frame window.
+    @SuppressWarnings("unused")
+    public enum Policies {
+        LATEST,
+        AVERAGE,
+        ENVELOPE
+    }
+
+}
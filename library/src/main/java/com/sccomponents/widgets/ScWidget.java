@@ -11,6 +11,8 @@ import android.util.DisplayMetrics;
 import android.view.View;
 import android.view.WindowManager;
 
+import com.sccomponents.widgets.geometry.ScGeometry;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,6 +24,13 @@ import java.util.List;
  */
 public abstract class ScWidget extends View {
 
+    /**
+     * Private variables
+     */
+
+    private ScWidgetMetrics mMetrics;
+
+
     /**
      * Constructors
      */
@@ -45,7 +54,7 @@ public abstract class ScWidget extends View {
 
     // Get the display metric.
     // This method is used for screen measure conversion.
-    private DisplayMetrics getDisplayMetrics(Context context) {
+    private static DisplayMetrics getDisplayMetrics(Context context) {
         // Get the window manager from the window service
         WindowManager wm = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
         // Create the variable holder and inject the values
@@ -56,6 +65,52 @@ public abstract class ScWidget extends View {
     }
 
 
+    /**
+     * Overrides
+     */
+
+    // Draw the widget recording the duration if the metrics are enabled
+    @Override
+    public void draw(Canvas canvas) {
+        // Check if the metrics are enabled
+        ScWidgetMetrics metrics = this.mMetrics;
+        if (metrics == null) {
+            super.draw(canvas);
+            return;
+        }
+
+        // Draw and record
+        long startTime = metrics.begin(ScWidgetMetrics.Phases.DRAW);
+        super.draw(canvas);
+        metrics.end(ScWidgetMetrics.Phases.DRAW, startTime);
+
+        // Publish the metrics if needed
+        metrics.publishIfDue();
+    }
+
+    // Count the invalidations if the metrics are enabled
+    @Override
+    public void invalidate() {
+        // Check for null because the view methods can be called by the super constructor
+        if (this.mMetrics != null) this.mMetrics.count(ScWidgetMetrics.Counters.INVALIDATE);
+        super.invalidate();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void invalidate(Rect dirty) {
+        if (this.mMetrics != null) this.mMetrics.count(ScWidgetMetrics.Counters.INVALIDATE);
+        super.invalidate(dirty);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void invalidate(int left, int top, int right, int bottom) {
+        if (this.mMetrics != null) this.mMetrics.count(ScWidgetMetrics.Counters.INVALIDATE);
+        super.invalidate(left, top, right, bottom);
+    }
+
+
     /**
      * Public methods
      */
@@ -63,10 +118,25 @@ public abstract class ScWidget extends View {
     // Convert Dip to Pixel
     @SuppressWarnings("unused")
     public float dipToPixel(float dip) {
-        // Get the display metrics
-        DisplayMetrics metrics = this.getDisplayMetrics(this.getContext());
-        // Calc the conversion by the screen density
-        return dip * metrics.density;
+        return ScWidget.dipToPixel(this.getContext(), dip);
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // Render metrics.
+    // The metrics are disabled by default, pass null for disable them again.
+    // The same metrics can be shared by many widgets for aggregate the values.
+    @SuppressWarnings("unused")
+    public ScWidgetMetrics getMetrics() {
+        return this.mMetrics;
+    }
+
+    @SuppressWarnings("unused")
+    public void setMetrics(ScWidgetMetrics value) {
+        this.mMetrics = value;
     }
 
 
@@ -74,51 +144,47 @@ public abstract class ScWidget extends View {
      * Static methods
      */
 
+    // Convert Dip to Pixel using the display metrics of the passed context
+    @SuppressWarnings("unused")
+    public static float dipToPixel(Context context, float dip) {
+        // Get the display metrics
+        DisplayMetrics metrics = ScWidget.getDisplayMetrics(context);
+        // Calc the conversion by the screen density
+        return dip * metrics.density;
+    }
+
     // Limit number within a values range.
     // This method not consider the sign and the upper and lower values limit order.
     @SuppressWarnings("unused")
     public static float valueRangeLimit(float value, float startValue, float endValue) {
-        // If is over the limit return the normalized value
-        if (value < Math.min(startValue, endValue)) return Math.min(startValue, endValue);
-        if (value > Math.max(startValue, endValue)) return Math.max(startValue, endValue);
-        // Else return the original value
-        return value;
+        return ScGeometry.valueRangeLimit(value, startValue, endValue);
     }
 
     @SuppressWarnings("unused")
     public static int valueRangeLimit(int value, int startValue, int endValue) {
-        return (int) ScWidget.valueRangeLimit((float) value, (float) startValue, (float) endValue);
+        return ScGeometry.valueRangeLimit(value, startValue, endValue);
     }
 
     // Check if number is within a values range.
     // This method not consider the sign and the upper and lower values limit order.
     @SuppressWarnings("unused")
     public static boolean withinRange(float value, float startValue, float endValue) {
-        return value == ScWidget.valueRangeLimit(value, startValue, endValue);
+        return ScGeometry.withinRange(value, startValue, endValue);
     }
 
     // Find the max given a series of values
     @SuppressWarnings("unused")
     public static float findMaxValue(float... values) {
-        // Check for null values
-        if (values == null || values.length == 0) return 0;
-
-        // Cycle all other values
-        float max = Float.MIN_VALUE;
-        for (float value : values) {
-            // Find the max
-            if (max < value) max = value;
-        }
-        // Return
-        return max;
+        return ScGeometry.findMaxValue(values);
     }
 
     // Inflate a rectangle by the passed value.
-    // The method return a new inflated rectangle and can alter the origin too.
+    // The method write the inflated rectangle inside the destination and can alter the origin
+    // too. The destination can be the same object of the source.
     @SuppressWarnings("unused")
-    public static RectF inflateRect(RectF source, float value, boolean holdOrigin) {
-        // Create a copy of the rect
-        RectF dest = new RectF(source);
+    public static RectF inflateRect(RectF source, float value, boolean holdOrigin, RectF dest) {
+        // Copy the rect
+        dest.set(source);
         // Reduce the width and the height
         dest.right -= value * 2;
         dest.bottom -= value * 2;
@@ -130,19 +196,37 @@ public abstract class ScWidget extends View {
         return dest;
     }
 
+    @SuppressWarnings("unused")
+    public static RectF inflateRect(RectF source, float value, RectF dest) {
+        return ScWidget.inflateRect(source, value, false, dest);
+    }
+
+    // Inflate a rectangle by the passed value.
+    // The method return a new inflated rectangle and can alter the origin too.
+    @SuppressWarnings("unused")
+    public static RectF inflateRect(RectF source, float value, boolean holdOrigin) {
+        return ScWidget.inflateRect(source, value, holdOrigin, new RectF());
+    }
+
     @SuppressWarnings("unused")
     public static RectF inflateRect(RectF source, float value) {
         return ScWidget.inflateRect(source, value, false);
     }
 
+    // Reset the rectangle to its origin writing the result inside the destination.
+    // The destination can be the same object of the source.
+    @SuppressWarnings("unused")
+    public static RectF resetRectToOrigin(RectF rect, RectF dest) {
+        // Copy the rect, reset to origin and return it
+        dest.set(rect);
+        dest.offset(-dest.left, -dest.top);
+        return dest;
+    }
+
     // Reset the rectangle to its origin
     @SuppressWarnings("unused")
     public static RectF resetRectToOrigin(RectF rect) {
-        // Create a new rect
-        RectF newRect = new RectF(rect);
-        // Reset to origin and return it
-        newRect.offset(-newRect.left, -newRect.top);
-        return newRect;
+        return ScWidget.resetRectToOrigin(rect, new RectF());
     }
 
     // Swap two array elements position
@@ -0,0 +1,347 @@
+package com.sccomponents.widgets;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Trace;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Render metrics of the widgets.
+ * <p/>
+ * Collect the duration of the rendering phases inside histograms and count the relevant events.
+ * The recording is lock-free and not allocate objects so can be done on every frame and the
+ * same instance can be shared by many widgets for aggregate them.
+ * The collected metrics are passed to a pluggable sink at most once per publish interval and
+ * every phase is also marked with a trace section visible with systrace or perfetto.
+ * v1.0.0
+ */
+public class ScWidgetMetrics {
+
+    /**
+     * Constants
+     */
+
+    public static final long DEFAULT_PUBLISH_INTERVAL = 1000;
+
+    // The duration histograms have a bucket for each power of two of nanoseconds
+    public static final int BUCKETS_COUNT = 40;
+
+
+    /**
+     * Private variables
+     */
+
+    private final AtomicLongArray mPhasesCount;
+    private final AtomicLongArray mPhasesTime;
+    private final AtomicLongArray mPhasesMax;
+    private final AtomicLongArray mPhasesBuckets;
+    private final AtomicLongArray mCounters;
+
+    private final AtomicLong mResetTime;
+    private final AtomicLong mNextPublish;
+
+    private volatile Sink mSink;
+    private volatile long mPublishInterval;
+    private volatile boolean mTraceEnabled;
+
+
+    /**
+     * Constructors
+     */
+
+    public ScWidgetMetrics() {
+        // Holders
+        int phases = Phases.values().length;
+        this.mPhasesCount = new AtomicLongArray(phases);
+        this.mPhasesTime = new AtomicLongArray(phases);
+        this.mPhasesMax = new AtomicLongArray(phases);
+        this.mPhasesBuckets = new AtomicLongArray(phases * ScWidgetMetrics.BUCKETS_COUNT);
+        this.mCounters = new AtomicLongArray(Counters.values().length);
+
+        // Publishing
+        this.mResetTime = new AtomicLong(System.nanoTime());
+        this.mNextPublish = new AtomicLong(0);
+        this.mPublishInterval = ScWidgetMetrics.DEFAULT_PUBLISH_INTERVAL;
+        this.mTraceEnabled = true;
+    }
+
+
+    /**
+     * Privates methods
+     */
+
+    // Find the histogram bucket of the passed duration in nanoseconds
+    private static int findBucket(long nanos) {
+        // The bucket is the position of the highest bit
+        int bucket = nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        return Math.min(bucket, ScWidgetMetrics.BUCKETS_COUNT - 1);
+    }
+
+    // Store the max value without lock
+    private static void storeMax(AtomicLongArray array, int index, long value) {
+        long current = array.get(index);
+        while (value > current && !array.compareAndSet(index, current, value)) {
+            current = array.get(index);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    private static void beginTraceSection(String name) {
+        Trace.beginSection(name);
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+    private static void endTraceSection() {
+        Trace.endSection();
+    }
+
+    // Check if the trace sections can be used
+    private boolean canTrace() {
+        return this.mTraceEnabled &&
+                Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+    }
+
+
+    /**
+     * Public methods
+     */
+
+    // Begin a phase.
+    // Return the start time that must be passed to the end method. The phases can be nested but
+    // must be ended on the same thread and in the reverse order.
+    @SuppressWarnings("unused")
+    public long begin(Phases phase) {
+        if (this.canTrace()) ScWidgetMetrics.beginTraceSection(phase.getSectionName());
+        return System.nanoTime();
+    }
+
+    // End a phase and record its duration
+    @SuppressWarnings("unused")
+    public void end(Phases phase, long startTime) {
+        // Record the duration and close the trace section
+        this.record(phase, System.nanoTime() - startTime);
+        if (this.canTrace()) ScWidgetMetrics.endTraceSection();
+    }
+
+    // Record the duration in nanoseconds of a phase
+    @SuppressWarnings("unused")
+    public void record(Phases phase, long nanos) {
+        int index = phase.ordinal();
+        this.mPhasesCount.incrementAndGet(index);
+        this.mPhasesTime.addAndGet(index, nanos);
+        ScWidgetMetrics.storeMax(this.mPhasesMax, index, nanos);
+        this.mPhasesBuckets.incrementAndGet(
+                index * ScWidgetMetrics.BUCKETS_COUNT + ScWidgetMetrics.findBucket(nanos));
+    }
+
+    // Count an event
+    @SuppressWarnings("unused")
+    public void count(Counters counter, long value) {
+        this.mCounters.addAndGet(counter.ordinal(), value);
+    }
+
+    @SuppressWarnings("unused")
+    public void count(Counters counter) {
+        this.mCounters.incrementAndGet(counter.ordinal());
+    }
+
+    // Publish the metrics to the sink if the publish interval is elapsed.
+    // Only one of the threads that call this method at the same time publish the metrics.
+    @SuppressWarnings("unused")
+    public void publishIfDue() {
+        // Check for the sink
+        Sink sink = this.mSink;
+        if (sink == null) return;
+
+        // Check if the interval is elapsed and reserve the publication
+        long now = System.nanoTime();
+        long next = this.mNextPublish.get();
+        if (now - next < 0) return;
+        if (!this.mNextPublish.compareAndSet(next, now + this.mPublishInterval * 1000000L)) return;
+
+        // Publish
+        sink.onPublish(this);
+    }
+
+    // Publish the metrics to the sink now
+    @SuppressWarnings("unused")
+    public void publish() {
+        Sink sink = this.mSink;
+        if (sink != null) sink.onPublish(this);
+    }
+
+    // Reset all the metrics.
+    // Note that the values recorded at the same time of the reset could be lost in part.
+    @SuppressWarnings("unused")
+    public void reset() {
+        for (int index = 0; index < this.mPhasesCount.length(); index++) {
+            this.mPhasesCount.set(index, 0);
+            this.mPhasesTime.set(index, 0);
+            this.mPhasesMax.set(index, 0);
+        }
+        for (int index = 0; index < this.mPhasesBuckets.length(); index++) {
+            this.mPhasesBuckets.set(index, 0);
+        }
+        for (int index = 0; index < this.mCounters.length(); index++) {
+            this.mCounters.set(index, 0);
+        }
+        this.mResetTime.set(System.nanoTime());
+    }
+
+    // Get the number of recorded durations of a phase
+    @SuppressWarnings("unused")
+    public long getCount(Phases phase) {
+        return this.mPhasesCount.get(phase.ordinal());
+    }
+
+    // Get the total time in nanoseconds of a phase
+    @SuppressWarnings("unused")
+    public long getTotalTime(Phases phase) {
+        return this.mPhasesTime.get(phase.ordinal());
+    }
+
+    // Get the average time in nanoseconds of a phase
+    @SuppressWarnings("unused")
+    public long getAverageTime(Phases phase) {
+        long count = this.getCount(phase);
+        return count == 0 ? 0 : this.getTotalTime(phase) / count;
+    }
+
+    // Get the max time in nanoseconds of a phase
+    @SuppressWarnings("unused")
+    public long getMaxTime(Phases phase) {
+        return this.mPhasesMax.get(phase.ordinal());
+    }
+
+    // Get the count of durations of a phase within the histogram bucket.
+    // The bucket contain the durations from 2^bucket to 2^(bucket + 1) nanoseconds.
+    @SuppressWarnings("unused")
+    public long getBucketCount(Phases phase, int bucket) {
+        return this.mPhasesBuckets.get(phase.ordinal() * ScWidgetMetrics.BUCKETS_COUNT + bucket);
+    }
+
+    // Get an approximation of the percentile (0 - 1) of the durations of a phase.
+    // Return the upper limit in nanoseconds of the bucket that contain the percentile.
+    @SuppressWarnings("unused")
+    public long getPercentileTime(Phases phase, float percentile) {
+        // Find the position of the percentile
+        long target = (long) Math.ceil(this.getCount(phase) * percentile);
+        if (target <= 0) return 0;
+
+        // Find the bucket that contain the position
+        long count = 0;
+        for (int bucket = 0; bucket < ScWidgetMetrics.BUCKETS_COUNT; bucket++) {
+            count += this.getBucketCount(phase, bucket);
+            if (count >= target) return 1L << (bucket + 1);
+        }
+        return this.getMaxTime(phase);
+    }
+
+    // Get the events count
+    @SuppressWarnings("unused")
+    public long getCount(Counters counter) {
+        return this.mCounters.get(counter.ordinal());
+    }
+
+    // Get the events count per second since the last reset
+    @SuppressWarnings("unused")
+    public float getRate(Counters counter) {
+        long elapsed = this.getElapsedTime();
+        return elapsed <= 0 ? 0.0f : this.getCount(counter) * 1000000000.0f / elapsed;
+    }
+
+    // Get the elapsed time in nanoseconds since the last reset
+    @SuppressWarnings("unused")
+    public long getElapsedTime() {
+        return System.nanoTime() - this.mResetTime.get();
+    }
+
+
+    /**
+     * Public properties
+     */
+
+    // The sink where the metrics are published
+    @SuppressWarnings("unused")
+    public Sink getSink() {
+        return this.mSink;
+    }
+
+    @SuppressWarnings("unused")
+    public void setSink(Sink value) {
+        this.mSink = value;
+    }
+
+    // Publish interval in milliseconds
+    @SuppressWarnings("unused")
+    public long getPublishInterval() {
+        return this.mPublishInterval;
+    }
+
+    @SuppressWarnings("unused")
+    public void setPublishInterval(long value) {
+        this.mPublishInterval = value < 0 ? 0 : value;
+    }
+
+    // Enable or disable the trace sections
+    @SuppressWarnings("unused")
+    public boolean getTraceEnabled() {
+        return this.mTraceEnabled;
+    }
+
+    @SuppressWarnings("unused")
+    public void setTraceEnabled(boolean value) {
+        this.mTraceEnabled = value;
+    }
+
+
+    /**
+     * Public enum
+     */
+
+    // The timed phases
+    @SuppressWarnings("unused")
+    public enum Phases {
+        MEASURE("ScWidget.measure"),
+        DRAW("ScWidget.draw"),
+        TOUCH_TO_FRAME("ScWidget.touchToFrame");
+
+        private final String mSectionName;
+
+        Phases(String sectionName) {
+            this.mSectionName = sectionName;
+        }
+
+        // The trace section name
+        public String getSectionName() {
+            return this.mSectionName;
+        }
+    }
+
+    // The counted events
+    @SuppressWarnings("unused")
+    public enum Counters {
+        INVALIDATE,
+        SHADER_BUILD,
+        NOTCHS_DRAWN,
+        ANIMATION_START
+    }
+
+
+    /**
+     * Public listener and interface
+     */
+
+    // The metrics sink.
+    // Called on the thread that record the metrics, read the values from the passed metrics
+    // without hold the reference for not allocate a copy.
+    @SuppressWarnings("unused")
+    public interface Sink {
+
+        void onPublish(ScWidgetMetrics metrics);
+
+    }
+
+}